@@ -0,0 +1,89 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
+
+/**
+ * Loads the warm-up payloads in {@code src/main/resources/warmup} and the larger fixtures in {@code src/test/resources/fixtures}
+ * into the models used by the benchmarks, mapping them the same way as {@code CrestronTouchPanelCommunicator#fetchData}.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkFixtures {
+	/**
+	 * Reads the fixture of the given response type as raw text.
+	 *
+	 * @param responseType the response type, whose name is the fixture name
+	 * @return the fixture content
+	 */
+	public static String readText(ResponseType responseType) {
+		return readText(responseType.getName());
+	}
+
+	/**
+	 * Reads the fixture with the given name as raw text.
+	 *
+	 * @param name the fixture name without extension, e.g. {@code SystemVersionsLarge}
+	 * @return the fixture content
+	 */
+	public static String readText(String name) {
+		try (InputStream inputStream = openFixture(name)) {
+			return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Reads the fixture of the given response type and maps it to the response type's model.
+	 *
+	 * @param responseType the response type, whose name is the fixture name
+	 * @param <T> the model type
+	 * @return the mapped model
+	 */
+	public static <T> T readModel(ResponseType responseType) {
+		try (InputStream inputStream = openFixture(responseType.getName())) {
+			return responseType.readValue(inputStream);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Loads the adapter {@code version.properties} used to generate the adapter metadata.
+	 *
+	 * @return the loaded version properties
+	 */
+	public static Properties readVersionProperties() {
+		Properties properties = new Properties();
+		try (InputStream inputStream = BenchmarkFixtures.class.getResourceAsStream("/version.properties")) {
+			properties.load(inputStream);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return properties;
+	}
+
+	private static InputStream openFixture(String name) {
+		InputStream inputStream = BenchmarkFixtures.class.getResourceAsStream("/fixtures/" + name + ".json");
+		if (inputStream == null) {
+			inputStream = BenchmarkFixtures.class.getResourceAsStream(Constant.WARM_UP_FIXTURE_PATH.formatted(name));
+		}
+		if (inputStream == null) {
+			throw new IllegalStateException("Fixture %s is not on the classpath".formatted(name));
+		}
+		return inputStream;
+	}
+}
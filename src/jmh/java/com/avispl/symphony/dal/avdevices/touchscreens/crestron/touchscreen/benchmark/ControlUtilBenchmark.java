@@ -0,0 +1,79 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.utils.ControlUtil;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DisplaySnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Display;
+
+/**
+ * Benchmarks of the controller generation and control request building in {@link ControlUtil}, run against the fixture models.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Djmh.args="ControlUtilBenchmark -prof gc"}.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControlUtilBenchmark {
+	private DisplaySnapshot deviceDisplay;
+
+	@Setup
+	public void setUp() {
+		this.deviceDisplay = BenchmarkFixtures.readModel(ResponseType.DISPLAY);
+	}
+
+	@Benchmark
+	public List<AdvancedControllableProperty> generateDisplayControllers() {
+		return ControlUtil.generateDisplayControllers(this.deviceDisplay);
+	}
+
+	@Benchmark
+	public Map<String, Object> buildDisplayRequest(ControlRequest request) {
+		return ControlUtil.buildDisplayRequest(request.property, request.value);
+	}
+
+	/**
+	 * Control request parameters, kept apart so that only {@link #buildDisplayRequest(ControlRequest)} runs once per property.
+	 */
+	@State(Scope.Benchmark)
+	public static class ControlRequest {
+		/** One control of each kind: LCD switch, LCD slider, audio slider, toolbar dropdown and the non-grouped switch. */
+		@Param({"LCD_AUTO_BRIGHTNESS", "LCD_BRIGHTNESS", "AUDIO_PANEL_VOLUME", "BUTTON_TOOLBAR_DISPLAY_EDGE", "LOCAL_SETUP_SEQUENCE"})
+		private Display property;
+		private Object value;
+
+		@Setup
+		public void setUp() {
+			this.value = switch (this.property) {
+				case LCD_BRIGHTNESS -> 75.0;
+				case AUDIO_PANEL_VOLUME -> 40;
+				case BUTTON_TOOLBAR_DISPLAY_EDGE -> "Left";
+				default -> "1";
+			};
+		}
+	}
+}
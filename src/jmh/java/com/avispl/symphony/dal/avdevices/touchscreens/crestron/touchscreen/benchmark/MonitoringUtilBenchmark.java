@@ -0,0 +1,129 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.utils.MonitoringUtil;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceCapabilities;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceInfo;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.RetrievalStatus;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.SystemVersion;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics.PollDiagnostics;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DisplaySnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkSnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.AdapterMetadata;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Capabilities;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.DataFreshness;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.General;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Network;
+
+/**
+ * Benchmarks of the statistics generation in {@link MonitoringUtil}, run against the fixture models.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Djmh.args="MonitoringUtilBenchmark -prof gc"}.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonitoringUtilBenchmark {
+	private DeviceInfo deviceInfo;
+	private DeviceCapabilities deviceCapabilities;
+	private List<SystemVersion> systemVersions;
+	private NetworkSnapshot networkAdapters;
+	private DisplaySnapshot deviceDisplay;
+	private Properties versionProperties;
+	private RetrievalStatus retrievalStatus;
+	private PollDiagnostics pollDiagnostics;
+
+	@Setup
+	public void setUp() {
+		this.deviceInfo = BenchmarkFixtures.readModel(ResponseType.DEVICE_INFO);
+		this.deviceCapabilities = BenchmarkFixtures.readModel(ResponseType.DEVICE_CAPABILITIES);
+		this.systemVersions = BenchmarkFixtures.readModel(ResponseType.SYSTEM_VERSIONS);
+		this.networkAdapters = BenchmarkFixtures.readModel(ResponseType.NETWORK_ADAPTERS);
+		this.deviceDisplay = BenchmarkFixtures.readModel(ResponseType.DISPLAY);
+		this.versionProperties = BenchmarkFixtures.readVersionProperties();
+		this.versionProperties.setProperty(AdapterMetadata.ADAPTER_UPTIME.getProperty(), String.valueOf(System.currentTimeMillis()));
+		this.versionProperties.setProperty(AdapterMetadata.ACTIVE_PROPERTY_GROUPS.getProperty(), Constant.ALL);
+		this.retrievalStatus = new RetrievalStatus();
+		this.retrievalStatus.markAttempt();
+		this.retrievalStatus.markSuccess();
+		this.pollDiagnostics = new PollDiagnostics(Constant.DIAGNOSTICS_WINDOW_SIZE);
+		for (ResponseType responseType : ResponseType.values()) {
+			this.pollDiagnostics.recordResponseSize(responseType, BenchmarkFixtures.readText(responseType).length());
+		}
+		this.pollDiagnostics.recordAllocation(200_000, 100_000);
+		this.pollDiagnostics.recordPollDuration(150);
+	}
+
+	@Benchmark
+	public Map<String, String> generateGeneralProperties() {
+		return MonitoringUtil.generateProperties(General.values(), null, property -> MonitoringUtil.mapToGeneral(this.deviceInfo, property));
+	}
+
+	@Benchmark
+	public Map<String, String> generateAdapterMetadataProperties() {
+		return MonitoringUtil.generateProperties(
+				AdapterMetadata.values(), Constant.ADAPTER_METADATA_GROUP, property -> MonitoringUtil.mapToAdapterMetadata(this.versionProperties, property)
+		);
+	}
+
+	@Benchmark
+	public Map<String, String> generateCapabilitiesProperties() {
+		return MonitoringUtil.generateProperties(
+				Capabilities.values(), Constant.CAPABILITIES_GROUP, property -> MonitoringUtil.mapToCapabilities(this.deviceCapabilities, property)
+		);
+	}
+
+	@Benchmark
+	public Map<String, String> generateNetworkProperties() {
+		return MonitoringUtil.generateProperties(
+				Network.values(), Constant.NETWORK_GROUP, property -> MonitoringUtil.mapToNetwork(this.networkAdapters, property)
+		);
+	}
+
+	@Benchmark
+	public Map<String, String> generateDataFreshnessProperties() {
+		return MonitoringUtil.generateProperties(
+				DataFreshness.values(), Constant.DISPLAY_GROUP, property -> MonitoringUtil.mapToDataFreshness(this.retrievalStatus, property, Constant.DEFAULT_DATA_MAX_AGE_SECONDS)
+		);
+	}
+
+	@Benchmark
+	public Map<String, String> generateDiagnosticsProperties() {
+		return MonitoringUtil.generateDiagnosticsProperties(this.pollDiagnostics);
+	}
+
+	@Benchmark
+	public Map<String, String> generateSystemVersionProperties() {
+		return MonitoringUtil.generateSystemVersionProperties(this.systemVersions);
+	}
+
+	@Benchmark
+	public Map<String, String> generateDisplayProperties() {
+		return MonitoringUtil.generateDisplayProperties(this.deviceDisplay);
+	}
+}
@@ -0,0 +1,123 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.compression.ContentDecoder;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.compression.MeteredInputStream;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
+
+/**
+ * Benchmarks of the JSON parse-and-bind step of {@code CrestronTouchPanelCommunicator#fetchData}, run against the recorded
+ * {@code /Device/*} fixtures, next to alternative parse strategies.
+ * <ul>
+ *   <li>{@link #adapterPath()} is the path used by the adapter: the body is opened through {@link ContentDecoder} as a
+ *   {@link MeteredInputStream} and read by {@link ResponseType#readValue(java.io.InputStream)}, which parses the full tree
+ *   with the shared readers, extracts the response node and binds it.</li>
+ *   <li>{@link #treeReader()} parses the full tree from the text with a new {@link ObjectMapper} and binds the node with a
+ *   reader built from it.</li>
+ *   <li>{@link #pointerReader()} streams the response through a prebuilt {@link ObjectReader} filtered by a JSON pointer,
+ *   binding the response node without building a tree.</li>
+ * </ul>
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Djmh.args="ParseBenchmark -prof gc"};
+ * {@code gc.alloc.rate.norm} reports the bytes allocated per operation.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+	/** Fixture names; each fixture is mapped with the {@link ResponseType} whose name it starts with. */
+	@Param({"DeviceInfo", "DeviceCapabilities", "SystemVersions", "SystemVersionsLarge", "NetworkAdapters", "NetworkAdaptersMultiAddress", "Display"})
+	private String fixture;
+
+	private ObjectMapper objectMapper;
+	private ResponseType responseType;
+	private String response;
+	private byte[] body;
+	private ObjectReader nodeReader;
+	private ObjectReader pointerReader;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.objectMapper = new ObjectMapper();
+		this.responseType = Arrays.stream(ResponseType.values())
+				.filter(type -> this.fixture.startsWith(type.getName()))
+				.max(Comparator.comparingInt(type -> type.getName().length()))
+				.orElseThrow(() -> new IllegalStateException("No response type for fixture %s".formatted(this.fixture)));
+		this.response = BenchmarkFixtures.readText(this.fixture);
+		this.body = this.response.getBytes(StandardCharsets.UTF_8);
+		JavaType valueType = this.responseType.isCollection()
+				? this.responseType.getTypeRef(this.objectMapper)
+				: this.objectMapper.constructType(this.responseType.getClazz());
+		this.nodeReader = this.objectMapper.readerFor(valueType);
+		this.pointerReader = this.nodeReader.at(getPointer(this.responseType));
+
+		//	All strategies must bind the same model, otherwise the comparison is meaningless
+		String expected = this.objectMapper.writeValueAsString(this.adapterPath());
+		for (Object actual : new Object[] { this.treeReader(), this.pointerReader() }) {
+			if (!expected.equals(this.objectMapper.writeValueAsString(actual))) {
+				throw new IllegalStateException("Parse strategies disagree on fixture %s".formatted(this.fixture));
+			}
+		}
+	}
+
+	@Benchmark
+	public Object adapterPath() throws IOException {
+		MeteredInputStream decodedBody = ContentDecoder.decode(this.body, null);
+		decodedBody.skipWhitespace();
+		return this.responseType.readValue(decodedBody);
+	}
+
+	@Benchmark
+	public Object treeReader() throws IOException {
+		return this.nodeReader.readValue(this.responseType.extractNode(this.objectMapper.readTree(this.response)));
+	}
+
+	@Benchmark
+	public Object pointerReader() throws IOException {
+		return this.pointerReader.readValue(this.response);
+	}
+
+	/**
+	 * Returns the JSON pointer of the node extracted by {@link ResponseType#extractNode}.
+	 *
+	 * @param responseType the response type
+	 * @return the JSON pointer of the response node
+	 */
+	private static String getPointer(ResponseType responseType) {
+		return switch (responseType) {
+			case DEVICE_INFO -> "/Device/DeviceInfo";
+			case DEVICE_CAPABILITIES -> "/Device/DeviceCapabilities";
+			case SYSTEM_VERSIONS -> "/Device/SystemVersions/Components";
+			case NETWORK_ADAPTERS -> "/Device/NetworkAdapters";
+			case DISPLAY -> "/Device/Display";
+		};
+	}
+}
@@ -2,9 +2,19 @@
 package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.WebSocketHandshakeException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,13 +23,25 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException.Forbidden;
 import org.springframework.web.client.HttpClientErrorException.Unauthorized;
@@ -28,9 +50,33 @@ import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import javax.security.auth.login.FailedLoginException;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.Configurable;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.DefaultHttpClientConnectionOperator;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.impl.routing.SystemDefaultRoutePlanner;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 
 import com.avispl.symphony.api.common.error.InvalidArgumentException;
 import com.avispl.symphony.api.dal.control.Controller;
@@ -40,19 +86,44 @@ import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.compression.ContentDecoder;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.compression.MeteredInputStream;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.persistence.ChangeJournal;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.persistence.SessionStore;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.persistence.SnapshotStore;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.plan.FetchPlan;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.push.PushClient;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.reachability.ReachabilityProbe;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.utils.ControlUtil;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.utils.MonitoringUtil;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.utils.Util;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.utils.WarmUpUtil;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.AuthCookie;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceCapabilities;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceInfo;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.RetrievalStatus;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.SystemVersion;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkAdapters;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics.PollDiagnostics;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics.RequestTimeouts;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics.TransferCompression;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DisplaySnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events.AuthenticateEvent;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.history.DisplayHistory;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events.ControlEvent;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events.FetchEvent;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events.ParseEvent;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events.PollEvent;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkSnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.OperationOutcome;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter.ReachabilityCheck;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter.RetrievalPriority;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter.RetrievalType;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.AdapterMetadata;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Capabilities;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.DataFreshness;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Display;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.General;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Network;
@@ -69,21 +140,35 @@ public class CrestronTouchPanelCommunicator extends RestCommunicator implements
 	/** Set of supported group filter for {@code displayPropertyGroups}. */
 	private static final Set<String> SUPPORTED_GROUP_FILTERS = new TreeSet<>(Set.of(
 			Constant.GENERAL_GROUP, Constant.CAPABILITIES_GROUP, Constant.DISPLAY_GROUP,
-			Constant.NETWORK_GROUP, Constant.SYSTEM_VERSIONS_GROUP
+			Constant.NETWORK_GROUP, Constant.SYSTEM_VERSIONS_GROUP, Constant.DIAGNOSTICS_GROUP
 	));
 
+	/** Limits how many instances in this JVM perform their initial login at the same time. */
+	private static final Semaphore INITIAL_LOGIN_PERMITS = new Semaphore(Constant.MAX_CONCURRENT_INITIAL_LOGINS, true);
+	/** Default selection of {@code displayPropertyGroups}. */
+	private static final Set<String> DEFAULT_PROPERTY_GROUPS = Collections.unmodifiableSet(new TreeSet<>(Set.of(Constant.GENERAL_GROUP)));
+	/** Groups whose changes are pushed by the device in {@code pushMode}. */
+	private static final Set<RetrievalType> PUSHED_GROUPS = Collections.unmodifiableSet(EnumSet.of(RetrievalType.DISPLAY, RetrievalType.NETWORK));
+	/** Application configuration loaded once per class loader from {@code version.properties}; never modified after loading. */
+	private static final Properties VERSION_PROPERTIES = loadVersionProperties();
+
+	/*
+	 * Placeholders served until a group is retrieved, shared by all instances so an idle adapter does not hold its own
+	 * empty models. Retrieved data replaces the reference and models are never modified in place.
+	 */
+	private static final DeviceInfo EMPTY_DEVICE_INFO = new DeviceInfo();
+	private static final DeviceCapabilities EMPTY_DEVICE_CAPABILITIES = new DeviceCapabilities();
+
 	/** Lock for thread-safe operations. */
 	private final ReentrantLock reentrantLock;
-	/** Object mapper used to convert JSON responses into Java objects. */
-	private final ObjectMapper objectMapper;
 
 	/** Device adapter instantiation timestamp. */
 	private final long adapterInitializationTimestamp;
-	/** Application configuration loaded from {@code version.properties}. */
-	private final Properties versionProperties;
+	/** Adapter metadata of this instance, backed by {@link #VERSION_PROPERTIES}; created on init. */
+	private Properties versionProperties;
 	/** Stores extended statistics to be sent to the adapter. */
 	private ExtendedStatistics localExtendedStatistics;
-	/** Authentication cookie data used for login session in {@link #authenticate()}. */
+	/** Authentication cookie data used for login session in {@link #authenticate()}; created on init. */
 	private AuthCookie authCookie;
 	/** Device information retrieved from {@link EndpointConstant#DEVICE_INFO}. */
 	private DeviceInfo deviceInfo;
@@ -92,260 +177,1720 @@ public class CrestronTouchPanelCommunicator extends RestCommunicator implements
 	/** System versions retrieved from {@link EndpointConstant#SYSTEM_VERSIONS}. */
 	private List<SystemVersion> systemVersions;
 	/** Network adapters retrieved from {@link EndpointConstant#NETWORK_ADAPTERS}. */
-	private NetworkAdapters networkAdapters;
+	private NetworkSnapshot networkAdapters;
 	/** Display retrieved from {@link EndpointConstant#DISPLAY}. */
-	private DeviceDisplay deviceDisplay;
+	private DisplaySnapshot deviceDisplay;
+	/** Rolling response sizes and allocation measurements of the poll cycles. */
+	private final PollDiagnostics pollDiagnostics;
+	/** Last attempt, last success and consecutive failures of each {@link RetrievalType}. */
+	private final Map<RetrievalType, RetrievalStatus> retrievalStatuses;
+	/** Generated properties of each {@link RetrievalType}, reused until the group's model is replaced; created on first use. */
+	private Map<RetrievalType, Map<String, String>> groupProperties;
+	/** Maximum age in seconds of a group's data before its values are shown as stale; {@code 0} disables the check. */
+	private long dataMaxAge;
+	/** Maximum bytes a poll cycle is expected to allocate before a warning is logged; {@code 0} disables the check. */
+	private long pollAllocationBudget;
+	/** Time in milliseconds a poll cycle may spend fetching data before lower priority groups are deferred; {@code 0} disables the budget. */
+	private long pollTimeBudget;
+	/** Directory where the last retrieved data is persisted per host and restored from on init; empty disables persistence. */
+	private String snapshotDirectory;
+	/** Snapshot of the last retrieved data, or {@code null} if {@link #snapshotDirectory} is not configured. */
+	private SnapshotStore snapshotStore;
+	/** Indicates whether data was restored on init and the next poll should serve it instead of fetching. */
+	private boolean snapshotRestored;
+	/** Executor running the background refresh of a restored snapshot; created on first use. */
+	private ExecutorService snapshotRefreshExecutor;
+	/** Background refresh of a restored snapshot, or {@code null} if none was started. */
+	private volatile Future<?> snapshotRefresh;
+	/** Directory where the authenticated session is persisted per host and login, encrypted; empty disables persistence. */
+	private String sessionStoreDirectory;
+	/** Persisted session, or {@code null} if {@link #sessionStoreDirectory} is not configured. */
+	private SessionStore sessionStore;
+	/** Indicates whether the session restored on init has not been validated against the device yet. */
+	private boolean sessionValidationPending;
+	/** Directory where the display and network field transitions are journaled per host; empty disables the journal. */
+	private String journalDirectory;
+	/** Journal of field transitions, or {@code null} if {@link #journalDirectory} is not configured. */
+	private volatile ChangeJournal changeJournal;
+	/** Reachability check run before each poll cycle; defaults to {@link ReachabilityCheck#NONE}. */
+	private ReachabilityCheck reachabilityCheck;
+	/** Time in milliseconds the reachability check waits for the device to answer. */
+	private long reachabilityTimeout;
+	/** Probe of {@link #reachabilityCheck}, or a probe set directly; {@code null} disables the check. */
+	private volatile ReachabilityProbe reachabilityProbe;
+	/** Maximum delay in milliseconds of the first data retrieval after init, spread deterministically per host; {@code 0} disables it. */
+	private long startupJitter;
+	/** Indicates whether the first retrievals after init are limited to {@link RetrievalPriority#HIGH} groups. */
+	private boolean startupWarmUp;
+	/** Indicates whether init warms up the parsing, serialization and mapping code over embedded payloads, see {@link WarmUpUtil}. */
+	private boolean initWarmUp;
+	/** Number of samples kept per numeric display value, see {@link DisplayHistory}; {@code 0} disables the history. */
+	private int displayHistorySize;
+	/** Length in minutes of the window the display history statistics are computed over; {@code 0} covers all kept samples. */
+	private long displayHistoryWindow;
+	/**
+	 * Indicates whether display and network changes are received over a CresNext WebSocket connection, see {@link PushClient}.
+	 * While it is open, the pushed groups are only polled every {@link #pushReconciliationInterval}.
+	 */
+	private boolean pushMode;
+	/** Port of the WebSocket connection; {@code 0} uses the port of the REST requests. */
+	private int pushPort;
+	/** Polling interval in seconds of the pushed groups while the WebSocket connection is open. */
+	private long pushReconciliationInterval;
+	/** Interval in seconds between two pings of the WebSocket connection, after which an unanswered ping drops it; {@code 0} disables pings. */
+	private long pushPingInterval;
+	/** WebSocket connection of {@link #pushMode}, or {@code null} if it is disabled. */
+	private volatile PushClient pushClient;
+	/** Indicates whether the connect and response timeouts of each request are tuned from the observed latencies, see {@link RequestTimeouts}. */
+	private boolean adaptiveTimeouts;
+	/** Lower bound in milliseconds of the tuned request timeouts. */
+	private long minRequestTimeout;
+	/** Upper bound in milliseconds of the tuned request timeouts; {@code 0} uses the configured timeout. */
+	private long maxRequestTimeout;
+	/** Polling interval in seconds of each group while the panel is active; {@code 0} retrieves the groups on every poll cycle. */
+	private long minPollingInterval;
+	/**
+	 * Longest polling interval in seconds of a group whose data stays unchanged while the panel is in standby;
+	 * at most {@link #minPollingInterval} disables the adaptive polling.
+	 */
+	private long maxPollingInterval;
+	/**
+	 * Indicates whether the monitoring requests ask for gzip or deflate compressed responses, which are decoded while being
+	 * parsed, see {@link ContentDecoder} and {@link TransferCompression}. Disabled by default, since the requests then go
+	 * through {@link DeadlineRequestFactory} instead of the client of {@link RestCommunicator}.
+	 */
+	private boolean compressedTransfer;
+	/** Request factory swapped in by {@link #installDeadlineRequestFactory(RestTemplate, ClientHttpRequestFactory)}, created on first use. */
+	private DeadlineRequestFactory deadlineRequestFactory;
+	/** {@code Accept-Encoding} header of the request being sent by {@link #fetchData(String, ResponseType)}, or {@code null} for none. */
+	private String requestAcceptEncoding;
+	/** Hash of the last response read by {@link #fetchData(String, ResponseType)}, used to detect unchanged payloads. */
+	private int lastResponseHash;
+	/** Decoded size in bytes of the last response read by {@link #fetchData(String, ResponseType)}. */
+	private long lastResponseSize;
+	/** History of the numeric display values, or {@code null} until a display is retrieved with {@link #displayHistorySize} set. */
+	private DisplayHistory displayHistory;
+	/** Time of the last init, from which the startup delay and the warm-up duration are measured. */
+	private long initTimestamp;
+	/** Earliest time data is retrieved after init, see {@link #startupJitter}. */
+	private long firstRetrievalTimestamp;
+	/** Indicates whether the selected {@link RetrievalPriority#HIGH} groups have not all been retrieved since init. */
+	private boolean warmUpPending;
+	/** Indicates whether this instance has logged in since init, so later logins do not wait for an initial login slot. */
+	private boolean loggedIn;
+
+	/**
+	 * Indicates whether groups are displayed; defaults to {@link Constant#GENERAL_GROUP}.
+	 * Holds an unmodifiable set that is replaced as a whole, so a poll reads one consistent selection without locking.
+	 */
+	private volatile Set<String> displayPropertyGroups;
+	/**
+	 * Property-level selection within the displayed groups and the endpoints requested for it, compiled from
+	 * {@code propertyFilters}. Replaced as a whole, like {@link #displayPropertyGroups}.
+	 */
+	private volatile FetchPlan fetchPlan;
+
+	public CrestronTouchPanelCommunicator() {
+		this.reentrantLock = new ReentrantLock();
+
+		this.adapterInitializationTimestamp = System.currentTimeMillis();
+		this.retrievalStatuses = new EnumMap<>(RetrievalType.class);
+		this.resetData();
+		this.pollDiagnostics = new PollDiagnostics(Constant.DIAGNOSTICS_WINDOW_SIZE);
+		this.dataMaxAge = Constant.DEFAULT_DATA_MAX_AGE_SECONDS;
+		this.reachabilityCheck = ReachabilityCheck.NONE;
+		this.reachabilityTimeout = Constant.DEFAULT_REACHABILITY_TIMEOUT_MS;
+		this.minRequestTimeout = Constant.MIN_REQUEST_TIMEOUT_MS;
+		this.pushReconciliationInterval = Constant.DEFAULT_PUSH_RECONCILIATION_INTERVAL_SECONDS;
+		this.pushPingInterval = Constant.DEFAULT_PUSH_PING_INTERVAL_SECONDS;
+
+		this.displayPropertyGroups = DEFAULT_PROPERTY_GROUPS;
+		this.fetchPlan = FetchPlan.UNFILTERED;
+	}
+
+	/**
+	 * Returns a comma-separated list of property group names that are configured to be displayed.
+	 *
+	 * @return a comma-separated string of display property group names; may be empty if no groups are configured
+	 */
+	public String getDisplayPropertyGroups() {
+		return String.join(Constant.COMMA_SPACE, this.displayPropertyGroups);
+	}
+
+	/**
+	 * Sets the display property groups based on a comma-separated list.
+	 * <p>
+	 * Trims values automatically. If {@link Constant#ALL} is present, {@link #SUPPORTED_GROUP_FILTERS} are added.
+	 * Invalid groups trigger a warning and only the default group applied. {@code null} or empty input is ignored.
+	 * </p>
+	 *`
+	 * @param displayPropertyGroups comma-separated group names; may be {@code null} or empty
+	 */
+	public void setDisplayPropertyGroups(String displayPropertyGroups) {
+		if (StringUtils.isNullOrEmpty(displayPropertyGroups, true)) {
+			return;
+		}
+		Set<String> checkedGroups = Arrays.stream(displayPropertyGroups.split(Constant.COMMA))
+				.map(String::trim).filter(p -> !p.isEmpty()).collect(Collectors.toSet());
+		if (checkedGroups.contains(Constant.ALL)) {
+			this.displayPropertyGroups = Collections.unmodifiableSet(new TreeSet<>(SUPPORTED_GROUP_FILTERS));
+			return;
+		}
+		if (!CollectionUtils.containsAny(SUPPORTED_GROUP_FILTERS, checkedGroups)) {
+			this.logger.warn(Constant.NO_VALID_DISPLAY_PROPERTY_GROUPS_WARNING.formatted(displayPropertyGroups));
+		} else {
+			this.displayPropertyGroups = checkedGroups.stream().filter(SUPPORTED_GROUP_FILTERS::contains)
+					.collect(Collectors.collectingAndThen(Collectors.toCollection(TreeSet::new), Collections::unmodifiableSet));
+		}
+	}
+
+	/**
+	 * Returns the property filters the {@link #fetchPlan} is compiled from.
+	 *
+	 * @return the comma-separated property filters; empty if every property of the displayed groups is shown
+	 */
+	public String getPropertyFilters() {
+		return this.fetchPlan.getFilters();
+	}
+
+	/**
+	 * Sets the property filters based on a comma-separated list, see {@link FetchPlan} for their syntax.
+	 * <p>
+	 * Only the selected properties of the displayed groups are generated, and the Display and Network groups are
+	 * retrieved from the CresNext sub-paths holding them. Filters on groups that are not supported trigger a warning and
+	 * select nothing. {@code null} or empty input shows every property.
+	 * </p>
+	 *
+	 * @param propertyFilters comma-separated include and {@code !}-prefixed exclude filters; may be {@code null} or empty
+	 */
+	public void setPropertyFilters(String propertyFilters) {
+		FetchPlan compiledPlan = FetchPlan.compile(propertyFilters);
+		compiledPlan.getGroups().stream().filter(group -> SUPPORTED_GROUP_FILTERS.stream().noneMatch(group::equalsIgnoreCase))
+				.forEach(group -> this.logger.warn(Constant.UNSUPPORTED_PROPERTY_FILTER_GROUP_WARNING.formatted(group, propertyFilters)));
+		this.reentrantLock.lock();
+		try {
+			this.fetchPlan = compiledPlan;
+			//	Generated properties and retrieved sub-paths depend on the plan, so every group is generated and retrieved again
+			this.groupProperties = null;
+			this.retrievalStatuses.forEach((type, status) -> status.resetPollingInterval(this.getMinPollingIntervalMs(type)));
+		} finally {
+			this.reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves {@link #pollAllocationBudget}
+	 *
+	 * @return value of {@link #pollAllocationBudget}
+	 */
+	public long getPollAllocationBudget() {
+		return this.pollAllocationBudget;
+	}
+
+	/**
+	 * Sets {@link #pollAllocationBudget} value
+	 *
+	 * @param pollAllocationBudget new value of {@link #pollAllocationBudget} in bytes; negative values disable the check
+	 */
+	public void setPollAllocationBudget(long pollAllocationBudget) {
+		this.pollAllocationBudget = Math.max(0, pollAllocationBudget);
+	}
+
+	/**
+	 * Retrieves {@link #pollTimeBudget}
+	 *
+	 * @return value of {@link #pollTimeBudget}
+	 */
+	public long getPollTimeBudget() {
+		return this.pollTimeBudget;
+	}
+
+	/**
+	 * Sets {@link #pollTimeBudget} value
+	 *
+	 * @param pollTimeBudget new value of {@link #pollTimeBudget} in milliseconds; {@code 0} or less disables the budget
+	 */
+	public void setPollTimeBudget(long pollTimeBudget) {
+		this.pollTimeBudget = Math.max(0, pollTimeBudget);
+	}
+
+	/**
+	 * Retrieves {@link #dataMaxAge}
+	 *
+	 * @return value of {@link #dataMaxAge}
+	 */
+	public long getDataMaxAge() {
+		return this.dataMaxAge;
+	}
+
+	/**
+	 * Sets {@link #dataMaxAge} value
+	 *
+	 * @param dataMaxAge new value of {@link #dataMaxAge} in seconds; {@code 0} or less disables the check
+	 */
+	public void setDataMaxAge(long dataMaxAge) {
+		this.dataMaxAge = Math.max(0, dataMaxAge);
+	}
+
+	/**
+	 * Retrieves {@link #snapshotDirectory}
+	 *
+	 * @return value of {@link #snapshotDirectory}
+	 */
+	public String getSnapshotDirectory() {
+		return this.snapshotDirectory;
+	}
+
+	/**
+	 * Sets {@link #snapshotDirectory} value
+	 *
+	 * @param snapshotDirectory new value of {@link #snapshotDirectory}; {@code null} or empty disables persistence
+	 */
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #sessionStoreDirectory}
+	 *
+	 * @return value of {@link #sessionStoreDirectory}
+	 */
+	public String getSessionStoreDirectory() {
+		return this.sessionStoreDirectory;
+	}
+
+	/**
+	 * Sets {@link #sessionStoreDirectory} value
+	 *
+	 * @param sessionStoreDirectory new value of {@link #sessionStoreDirectory}; {@code null} or empty disables persistence
+	 */
+	public void setSessionStoreDirectory(String sessionStoreDirectory) {
+		this.sessionStoreDirectory = sessionStoreDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #journalDirectory}
+	 *
+	 * @return value of {@link #journalDirectory}
+	 */
+	public String getJournalDirectory() {
+		return this.journalDirectory;
+	}
+
+	/**
+	 * Sets {@link #journalDirectory} value
+	 *
+	 * @param journalDirectory new value of {@link #journalDirectory}; {@code null} or empty disables the journal
+	 */
+	public void setJournalDirectory(String journalDirectory) {
+		this.journalDirectory = journalDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #reachabilityCheck}
+	 *
+	 * @return name of {@link #reachabilityCheck}
+	 */
+	public String getReachabilityCheck() {
+		return this.reachabilityCheck.getName();
+	}
+
+	/**
+	 * Sets {@link #reachabilityCheck} value and creates its probe. Unsupported values are logged and ignored.
+	 *
+	 * @param reachabilityCheck name of the new {@link #reachabilityCheck}: {@code None}, {@code ICMP} or {@code TCP}
+	 */
+	public void setReachabilityCheck(String reachabilityCheck) {
+		Optional<ReachabilityCheck> check = ReachabilityCheck.getByName(StringUtils.isNullOrEmpty(reachabilityCheck, true) ? null : reachabilityCheck.trim());
+		if (check.isEmpty()) {
+			this.logger.warn(Constant.UNSUPPORTED_REACHABILITY_CHECK_WARNING.formatted(reachabilityCheck));
+			return;
+		}
+		this.reachabilityCheck = check.get();
+		this.reachabilityProbe = check.get().createProbe();
+	}
+
+	/**
+	 * Retrieves {@link #reachabilityTimeout}
+	 *
+	 * @return value of {@link #reachabilityTimeout}
+	 */
+	public long getReachabilityTimeout() {
+		return this.reachabilityTimeout;
+	}
+
+	/**
+	 * Sets {@link #reachabilityTimeout} value
+	 *
+	 * @param reachabilityTimeout new value of {@link #reachabilityTimeout} in milliseconds
+	 */
+	public void setReachabilityTimeout(long reachabilityTimeout) {
+		this.reachabilityTimeout = Math.max(0, reachabilityTimeout);
+	}
+
+	/**
+	 * Sets the probe run before each poll cycle, replacing the one of {@link #reachabilityCheck}.
+	 *
+	 * @param reachabilityProbe the probe to run; {@code null} disables the check
+	 */
+	public void setReachabilityProbe(ReachabilityProbe reachabilityProbe) {
+		this.reachabilityProbe = reachabilityProbe;
+	}
+
+	/**
+	 * Reads the most recent field transitions of the device from the change journal.
+	 *
+	 * @param count the maximum number of changes to return
+	 * @return the changes, newest first; empty if the journal is not configured
+	 */
+	public List<ChangeJournal.Change> getRecentChanges(int count) {
+		ChangeJournal journal = this.changeJournal;
+		return journal == null ? Collections.emptyList() : journal.readLast(count);
+	}
+
+	/**
+	 * Retrieves {@link #startupJitter}
+	 *
+	 * @return value of {@link #startupJitter}
+	 */
+	public long getStartupJitter() {
+		return this.startupJitter;
+	}
+
+	/**
+	 * Sets {@link #startupJitter} value
+	 *
+	 * @param startupJitter new value of {@link #startupJitter} in milliseconds; {@code 0} or less disables the delay
+	 */
+	public void setStartupJitter(long startupJitter) {
+		this.startupJitter = Math.max(0, startupJitter);
+	}
+
+	/**
+	 * Retrieves {@link #startupWarmUp}
+	 *
+	 * @return value of {@link #startupWarmUp}
+	 */
+	public boolean isStartupWarmUp() {
+		return this.startupWarmUp;
+	}
+
+	/**
+	 * Sets {@link #startupWarmUp} value
+	 *
+	 * @param startupWarmUp new value of {@link #startupWarmUp}
+	 */
+	public void setStartupWarmUp(boolean startupWarmUp) {
+		this.startupWarmUp = startupWarmUp;
+	}
+
+	/**
+	 * Retrieves {@link #initWarmUp}
+	 *
+	 * @return value of {@link #initWarmUp}
+	 */
+	public boolean isInitWarmUp() {
+		return this.initWarmUp;
+	}
+
+	/**
+	 * Sets {@link #initWarmUp} value
+	 *
+	 * @param initWarmUp new value of {@link #initWarmUp}
+	 */
+	public void setInitWarmUp(boolean initWarmUp) {
+		this.initWarmUp = initWarmUp;
+	}
+
+	/**
+	 * Retrieves {@link #displayHistorySize}
+	 *
+	 * @return value of {@link #displayHistorySize}
+	 */
+	public int getDisplayHistorySize() {
+		return this.displayHistorySize;
+	}
+
+	/**
+	 * Sets {@link #displayHistorySize} value. Each sample takes 12 bytes per numeric display value, allocated once.
+	 *
+	 * @param displayHistorySize new value of {@link #displayHistorySize}, up to {@link Constant#MAX_DISPLAY_HISTORY_SIZE}
+	 */
+	public void setDisplayHistorySize(int displayHistorySize) {
+		this.displayHistorySize = Math.min(Math.max(0, displayHistorySize), Constant.MAX_DISPLAY_HISTORY_SIZE);
+	}
+
+	/**
+	 * Retrieves {@link #displayHistoryWindow}
+	 *
+	 * @return value of {@link #displayHistoryWindow}
+	 */
+	public long getDisplayHistoryWindow() {
+		return this.displayHistoryWindow;
+	}
+
+	/**
+	 * Sets {@link #displayHistoryWindow} value
+	 *
+	 * @param displayHistoryWindow new value of {@link #displayHistoryWindow} in minutes; {@code 0} or less covers all kept samples
+	 */
+	public void setDisplayHistoryWindow(long displayHistoryWindow) {
+		this.displayHistoryWindow = Math.max(0, displayHistoryWindow);
+	}
+
+	/**
+	 * Retrieves {@link #pushMode}
+	 *
+	 * @return value of {@link #pushMode}
+	 */
+	public boolean isPushMode() {
+		return this.pushMode;
+	}
+
+	/**
+	 * Sets {@link #pushMode} value
+	 *
+	 * @param pushMode new value of {@link #pushMode}
+	 */
+	public void setPushMode(boolean pushMode) {
+		this.pushMode = pushMode;
+	}
+
+	/**
+	 * Retrieves {@link #pushPort}
+	 *
+	 * @return value of {@link #pushPort}
+	 */
+	public int getPushPort() {
+		return this.pushPort;
+	}
+
+	/**
+	 * Sets {@link #pushPort} value
+	 *
+	 * @param pushPort new value of {@link #pushPort}
+	 */
+	public void setPushPort(int pushPort) {
+		this.pushPort = Math.max(0, pushPort);
+	}
+
+	/**
+	 * Retrieves {@link #pushReconciliationInterval}
+	 *
+	 * @return value of {@link #pushReconciliationInterval}
+	 */
+	public long getPushReconciliationInterval() {
+		return this.pushReconciliationInterval;
+	}
+
+	/**
+	 * Sets {@link #pushReconciliationInterval} value
+	 *
+	 * @param pushReconciliationInterval new value of {@link #pushReconciliationInterval} in seconds
+	 */
+	public void setPushReconciliationInterval(long pushReconciliationInterval) {
+		this.pushReconciliationInterval = Math.max(0, pushReconciliationInterval);
+	}
+
+	/**
+	 * Retrieves {@link #pushPingInterval}
+	 *
+	 * @return value of {@link #pushPingInterval}
+	 */
+	public long getPushPingInterval() {
+		return this.pushPingInterval;
+	}
 
-	/** Indicates whether groups are displayed; defaults to {@link Constant#GENERAL_GROUP}. */
-	private final Set<String> displayPropertyGroups;
+	/**
+	 * Sets {@link #pushPingInterval} value
+	 *
+	 * @param pushPingInterval new value of {@link #pushPingInterval} in seconds
+	 */
+	public void setPushPingInterval(long pushPingInterval) {
+		this.pushPingInterval = Math.max(0, pushPingInterval);
+	}
+
+	/**
+	 * Checks whether the WebSocket connection of {@link #pushMode} is open.
+	 *
+	 * @return {@code true} if changes are currently pushed by the device, {@code false} otherwise
+	 */
+	public boolean isPushConnected() {
+		PushClient client = this.pushClient;
+		return client != null && client.isConnected();
+	}
+
+	/**
+	 * Retrieves {@link #adaptiveTimeouts}
+	 *
+	 * @return value of {@link #adaptiveTimeouts}
+	 */
+	public boolean isAdaptiveTimeouts() {
+		return this.adaptiveTimeouts;
+	}
+
+	/**
+	 * Sets {@link #adaptiveTimeouts} value
+	 *
+	 * @param adaptiveTimeouts new value of {@link #adaptiveTimeouts}
+	 */
+	public void setAdaptiveTimeouts(boolean adaptiveTimeouts) {
+		this.adaptiveTimeouts = adaptiveTimeouts;
+	}
+
+	/**
+	 * Retrieves {@link #minRequestTimeout}
+	 *
+	 * @return value of {@link #minRequestTimeout}
+	 */
+	public long getMinRequestTimeout() {
+		return this.minRequestTimeout;
+	}
+
+	/**
+	 * Sets {@link #minRequestTimeout} value
+	 *
+	 * @param minRequestTimeout new value of {@link #minRequestTimeout} in milliseconds
+	 */
+	public void setMinRequestTimeout(long minRequestTimeout) {
+		this.minRequestTimeout = Math.max(0, minRequestTimeout);
+	}
+
+	/**
+	 * Retrieves {@link #maxRequestTimeout}
+	 *
+	 * @return value of {@link #maxRequestTimeout}
+	 */
+	public long getMaxRequestTimeout() {
+		return this.maxRequestTimeout;
+	}
+
+	/**
+	 * Sets {@link #maxRequestTimeout} value
+	 *
+	 * @param maxRequestTimeout new value of {@link #maxRequestTimeout} in milliseconds
+	 */
+	public void setMaxRequestTimeout(long maxRequestTimeout) {
+		this.maxRequestTimeout = Math.max(0, maxRequestTimeout);
+	}
+
+	/**
+	 * Retrieves {@link #minPollingInterval}
+	 *
+	 * @return value of {@link #minPollingInterval}
+	 */
+	public long getMinPollingInterval() {
+		return this.minPollingInterval;
+	}
+
+	/**
+	 * Sets {@link #minPollingInterval} value
+	 *
+	 * @param minPollingInterval new value of {@link #minPollingInterval} in seconds
+	 */
+	public void setMinPollingInterval(long minPollingInterval) {
+		this.minPollingInterval = Math.max(0, minPollingInterval);
+	}
+
+	/**
+	 * Retrieves {@link #maxPollingInterval}
+	 *
+	 * @return value of {@link #maxPollingInterval}
+	 */
+	public long getMaxPollingInterval() {
+		return this.maxPollingInterval;
+	}
+
+	/**
+	 * Sets {@link #maxPollingInterval} value
+	 *
+	 * @param maxPollingInterval new value of {@link #maxPollingInterval} in seconds
+	 */
+	public void setMaxPollingInterval(long maxPollingInterval) {
+		this.maxPollingInterval = Math.max(0, maxPollingInterval);
+	}
+
+	/**
+	 * Retrieves {@link #compressedTransfer}
+	 *
+	 * @return value of {@link #compressedTransfer}
+	 */
+	public boolean isCompressedTransfer() {
+		return this.compressedTransfer;
+	}
+
+	/**
+	 * Sets {@link #compressedTransfer} value
+	 *
+	 * @param compressedTransfer new value of {@link #compressedTransfer}
+	 */
+	public void setCompressedTransfer(boolean compressedTransfer) {
+		this.compressedTransfer = compressedTransfer;
+	}
+
+	@Override
+	protected void internalInit() throws Exception {
+		this.setTrustAllCertificates(true);
+		this.setAuthenticationScheme(AuthenticationScheme.None);
+		this.initProperties();
+		this.authCookie = new AuthCookie();
+		if (this.initWarmUp) {
+			long warmUpStart = System.nanoTime();
+			//	The warm-up runs once per class loader, so later instances report that they shared it
+			String warmUpDuration = WarmUpUtil.warmUp() ? String.valueOf(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - warmUpStart)) : Constant.SHARED;
+			this.versionProperties.setProperty(AdapterMetadata.INIT_WARM_UP_DURATION.getProperty(), warmUpDuration);
+		}
+		this.initTimestamp = System.currentTimeMillis();
+		this.firstRetrievalTimestamp = this.initTimestamp + this.getStartupDelay();
+		this.warmUpPending = true;
+		this.loggedIn = false;
+		super.internalInit();
+		this.restoreSnapshot();
+		this.restoreSession();
+		if (!StringUtils.isNullOrEmpty(this.journalDirectory, true)) {
+			ChangeJournal journal = new ChangeJournal(Paths.get(this.journalDirectory.trim()), this.host);
+			journal.open();
+			this.changeJournal = journal;
+		}
+		if (this.pushMode) {
+			this.startPushClient();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Waits for a running poll or control request to finish, and resets the cached data to empty instances rather than
+	 * {@code null}, so a poll or control request issued after destroy fails cleanly instead of dereferencing released state.
+	 * </p>
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (this.snapshotRefreshExecutor != null) {
+			this.snapshotRefreshExecutor.shutdownNow();
+			this.snapshotRefreshExecutor = null;
+		}
+		if (this.pushClient != null) {
+			this.pushClient.close();
+			this.pushClient = null;
+		}
+		this.reentrantLock.lock();
+		try {
+			this.snapshotRefresh = null;
+			this.snapshotRestored = false;
+			this.snapshotStore = null;
+			this.sessionStore = null;
+			this.sessionValidationPending = false;
+			this.displayHistory = null;
+			if (this.changeJournal != null) {
+				this.changeJournal.close();
+				this.changeJournal = null;
+			}
+			this.versionProperties = new Properties(VERSION_PROPERTIES);
+			this.localExtendedStatistics = new ExtendedStatistics();
+			this.authCookie = new AuthCookie();
+			this.resetData();
+			this.displayPropertyGroups = Collections.emptySet();
+			if (this.deadlineRequestFactory != null) {
+				this.deadlineRequestFactory.close();
+				this.deadlineRequestFactory = null;
+			}
+			super.internalDestroy();
+		} finally {
+			this.reentrantLock.unlock();
+		}
+	}
+
+	@Override
+	protected void authenticate() throws Exception {
+		if (StringUtils.isNullOrEmpty(this.getLogin(), true)
+				|| StringUtils.isNullOrEmpty(this.getPassword(), true)) {
+			throw new FailedLoginException(Constant.LOGIN_FAILED);
+		}
+		AuthenticateEvent authenticateEvent = new AuthenticateEvent();
+		authenticateEvent.begin();
+		OperationOutcome outcome = OperationOutcome.FAILED;
+		try {
+			RestTemplate restTemplate = this.obtainRestTemplate();
+			final String baseUrl = this.getProtocol() + "://" + this.host + ":" + this.getPort();
+			final String loginUrl = baseUrl + EndpointConstant.LOGIN;
+			this.authCookie.setOrigin(this.host);
+			this.authCookie.setLoginReferer(this.host + EndpointConstant.LOGIN);
+			if (this.sessionValidationPending) {
+				//	A validation that neither accepts nor rejects the session throws, leaving it pending for the next attempt
+				boolean sessionAccepted = this.isSessionAccepted(restTemplate, baseUrl);
+				this.sessionValidationPending = false;
+				if (sessionAccepted) {
+					authenticateEvent.setSessionRestored(true);
+					this.loggedIn = true;
+					outcome = OperationOutcome.SUCCESS;
+					return;
+				}
+				this.invalidateSession();
+			}
+			//	Wait for an initial login slot, so a node starting many instances does not log in to all panels at once
+			boolean initialLoginPermit = !this.loggedIn && StringUtils.isNullOrEmpty(this.authCookie.getCookie(), true)
+					&& this.acquireInitialLoginPermit();
+			try {
+				//	Send GET login request to fetch TRACK ID cookie, required for POST login request.
+				if (StringUtils.isNullOrEmpty(this.authCookie.getTrackId(), true)) {
+					ResponseEntity<String> getLoginResponse = restTemplate.exchange(loginUrl, HttpMethod.GET, HttpEntity.EMPTY, String.class);
+					List<String> getCookies = getLoginResponse.getHeaders().get(HttpHeaders.SET_COOKIE);
+					if (CollectionUtils.isNotEmpty(getCookies)) {
+						this.authCookie.setTrackId(getCookies.get(0));
+					}
+				}
+				//	Send POST login request to fetch Set-Cookie and refresh token.
+				if (StringUtils.isNullOrEmpty(this.authCookie.getCookie(), true)) {
+					authenticateEvent.setLoginPerformed(true);
+					//	Call the Logout API to clear the login session
+					restTemplate.exchange(baseUrl + EndpointConstant.LOGOUT, HttpMethod.GET, HttpEntity.EMPTY, String.class);
+					//	Set up request body and send the POST login API
+					HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(
+							this.authCookie.getFormURLEncodedBody(this.getLogin(), this.getPassword()),
+							this.authCookie.getRequestHeaders()
+					);
+					ResponseEntity<String> postLoginResponse = restTemplate.exchange(loginUrl, HttpMethod.POST, request, String.class);
+					List<String> postCookies = postLoginResponse.getHeaders().get(HttpHeaders.SET_COOKIE);
+					if (CollectionUtils.isNotEmpty(postCookies)) {
+						this.authCookie.setCookie(String.join(Constant.COMMA, postCookies));
+						this.authCookie.setRefreshToken(postLoginResponse.getHeaders().getFirst(Constant.CREST_XSRF_TOKEN_HEADER));
+						this.authCookie.setAcquiredAt(System.currentTimeMillis());
+						this.persistSession();
+					}
+				}
+			} finally {
+				if (initialLoginPermit) {
+					INITIAL_LOGIN_PERMITS.release();
+				}
+			}
+			this.loggedIn = true;
+			outcome = OperationOutcome.SUCCESS;
+		} catch (Unauthorized | Forbidden ex) {
+			outcome = OperationOutcome.LOGIN_FAILED;
+			throw new FailedLoginException(ex.getResponseBodyAsString());
+		} catch (ResourceAccessException ex) {
+			outcome = OperationOutcome.UNREACHABLE;
+			throw new ResourceNotReachableException(ex.getCause().getMessage(), ex);
+		} finally {
+			authenticateEvent.complete(this.host, EndpointConstant.LOGIN, outcome);
+		}
+	}
+
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
+		headers.set(HttpHeaders.COOKIE, this.authCookie.getCookie());
+		if (HttpMethod.GET.equals(httpMethod) && this.requestAcceptEncoding != null) {
+			headers.set(HttpHeaders.ACCEPT_ENCODING, this.requestAcceptEncoding);
+		}
+		if (HttpMethod.POST.equals(httpMethod)) {
+			headers.set(Constant.X_CREST_XSRF_TOKEN_HEADER, this.authCookie.getRefreshToken());
+		}
+		return super.putExtraRequestHeaders(httpMethod, uri, headers);
+	}
+
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		Future<?> refresh = this.snapshotRefresh;
+		if (refresh != null && !refresh.isDone()) {
+			//	Keep serving the restored snapshot until its background refresh completes
+			return Collections.singletonList(this.localExtendedStatistics);
+		}
+		PollEvent pollEvent = new PollEvent();
+		pollEvent.begin();
+		OperationOutcome outcome = OperationOutcome.FAILED;
+		Set<String> propertyGroups = this.displayPropertyGroups;
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		this.reentrantLock.lock();
+		try {
+			//	Read once under the lock, so the whole poll uses the plan its cached properties are generated with
+			FetchPlan plan = this.fetchPlan;
+			long startTimestamp = System.currentTimeMillis();
+			long startAllocatedBytes = Util.getCurrentThreadAllocatedBytes();
+			boolean servingSnapshot = this.snapshotRestored;
+			if (servingSnapshot) {
+				this.snapshotRestored = false;
+			} else if (startTimestamp >= this.firstRetrievalTimestamp) {
+				this.checkReachability();
+				this.setupData(propertyGroups, plan);
+			}
+			long fetchAllocatedBytes = Util.getCurrentThreadAllocatedBytes();
+			Map<String, String> statistics = new HashMap<>();
+			if (shouldDisplayGroup(propertyGroups, Constant.GENERAL_GROUP)) {
+				this.putGroupStatistics(statistics, RetrievalType.GENERAL, () -> MonitoringUtil.generateProperties(
+						plan.select(General.values(), Constant.GENERAL_GROUP), null, property -> MonitoringUtil.mapToGeneral(this.deviceInfo, property)
+				));
+			}
+			statistics.putAll(MonitoringUtil.generateProperties(
+					AdapterMetadata.values(), Constant.ADAPTER_METADATA_GROUP, property -> MonitoringUtil.mapToAdapterMetadata(this.versionProperties, property)
+			));
+			if (shouldDisplayGroup(propertyGroups, Constant.CAPABILITIES_GROUP)) {
+				this.putGroupStatistics(statistics, RetrievalType.CAPABILITIES, () -> MonitoringUtil.generateProperties(
+						plan.select(Capabilities.values(), Constant.CAPABILITIES_GROUP), Constant.CAPABILITIES_GROUP, property -> MonitoringUtil.mapToCapabilities(this.deviceCapabilities, property)
+				));
+			}
+			if (shouldDisplayGroup(propertyGroups, Constant.SYSTEM_VERSIONS_GROUP)) {
+				this.putGroupStatistics(statistics, RetrievalType.SYSTEM_VERSIONS, () -> plan.select(MonitoringUtil.generateSystemVersionProperties(this.systemVersions)));
+			}
+			if (shouldDisplayGroup(propertyGroups, Constant.NETWORK_GROUP)) {
+				this.putGroupStatistics(statistics, RetrievalType.NETWORK, () -> MonitoringUtil.generateProperties(
+						plan.select(Network.values(), Constant.NETWORK_GROUP), Constant.NETWORK_GROUP, property -> MonitoringUtil.mapToNetwork(this.networkAdapters, property)
+				));
+			}
+			if (shouldDisplayGroup(propertyGroups, Constant.DISPLAY_GROUP)) {
+				this.putGroupStatistics(statistics, RetrievalType.DISPLAY, () -> plan.select(MonitoringUtil.generateDisplayProperties(this.deviceDisplay)));
+				if (this.displayHistorySize > 0) {
+					statistics.putAll(MonitoringUtil.generateDisplayHistoryProperties(
+							this.displayHistory, System.currentTimeMillis(), TimeUnit.MINUTES.toMillis(this.displayHistoryWindow)
+					));
+				}
+			}
+
+			List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
+			//	Controllers need current values, which do not exist before the display has been retrieved once
+			if (shouldDisplayGroup(propertyGroups, Constant.DISPLAY_GROUP) && this.retrievalStatuses.get(RetrievalType.DISPLAY).hasSucceeded()) {
+				controllableProperties.addAll(ControlUtil.generateDisplayControllers(
+						this.deviceDisplay, property -> plan.isSelected(Constant.DISPLAY_GROUP, property.getName())
+				));
+			}
+			if (CollectionUtils.isEmpty(controllableProperties)) {
+				controllableProperties.add(Constant.DUMMY_CONTROLLER);
+			}
+			this.recordPollAllocation(startAllocatedBytes, fetchAllocatedBytes, Util.getCurrentThreadAllocatedBytes());
+			this.pollDiagnostics.recordPollDuration(System.currentTimeMillis() - startTimestamp);
+			if (shouldDisplayGroup(propertyGroups, Constant.DIAGNOSTICS_GROUP)) {
+				statistics.putAll(MonitoringUtil.generateDiagnosticsProperties(this.pollDiagnostics));
+			}
+
+			extendedStatistics.setStatistics(statistics);
+			extendedStatistics.setControllableProperties(controllableProperties);
+			this.localExtendedStatistics = extendedStatistics;
+			if (servingSnapshot) {
+				this.startSnapshotRefresh(propertyGroups);
+			}
+			outcome = OperationOutcome.SUCCESS;
+			pollEvent.setStatisticsCount(statistics.size());
+		} catch (Exception ex) {
+			outcome = OperationOutcome.of(ex);
+			throw ex;
+		} finally {
+			this.reentrantLock.unlock();
+			if (pollEvent.shouldCommit()) {
+				pollEvent.setPropertyGroups(String.join(Constant.COMMA_SPACE, propertyGroups));
+			}
+			pollEvent.complete(this.host, null, outcome);
+		}
+		return Collections.singletonList(extendedStatistics);
+	}
+
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		ControlEvent controlEvent = new ControlEvent();
+		controlEvent.begin();
+		OperationOutcome outcome = OperationOutcome.FAILED;
+		this.reentrantLock.lock();
+		try {
+			String[] components = controllableProperty.getProperty().split(Constant.HASH);
+			if (!Constant.DISPLAY_GROUP.equals(components[0])) {
+				throw new InvalidArgumentException("Unsupported group %s to control".formatted(components[0]));
+			}
+			Display display = Display.getByName(components[1])
+					.orElseThrow(() -> new InvalidArgumentException("Unsupported property %s to control".formatted(controllableProperty.getProperty())));
+			Map<String, Object> body = ControlUtil.buildDisplayRequest(display, controllableProperty.getValue());
+			this.postControl(body);
+			//	A control means the room is in use, so every group is polled at the fast cadence again
+			this.retrievalStatuses.forEach((type, status) -> status.resetPollingInterval(this.getMinPollingIntervalMs(type)));
+			outcome = OperationOutcome.SUCCESS;
+		} catch (InvalidArgumentException | FailedLoginException | ResourceNotReachableException ex) {
+			outcome = OperationOutcome.of(ex);
+			throw ex;
+		} catch (Exception ex) {
+			throw new IllegalStateException(Constant.CONTROL_PROPERTY_FAILED, ex);
+		} finally {
+			this.reentrantLock.unlock();
+			if (controlEvent.shouldCommit()) {
+				controlEvent.setProperty(controllableProperty.getProperty());
+				controlEvent.setValue(String.valueOf(controllableProperty.getValue()));
+			}
+			controlEvent.complete(this.host, EndpointConstant.DISPLAY, outcome);
+		}
+	}
+
+	@Override
+	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
+		if (CollectionUtils.isEmpty(controllableProperties)) {
+			if (this.logger.isWarnEnabled()) {
+				this.logger.warn(Constant.CONTROLLABLE_PROPS_EMPTY_WARNING);
+			}
+			return;
+		}
+		for (ControllableProperty controllableProperty : controllableProperties) {
+			this.controlProperty(controllableProperty);
+		}
+	}
+
+	/**
+	 * Sends a control request to {@link EndpointConstant#DISPLAY}, with the tuned request timeouts when {@link #adaptiveTimeouts} is enabled.
+	 *
+	 * @param body the body of the control request
+	 * @throws Exception if the request fails
+	 */
+	private void postControl(Map<String, Object> body) throws Exception {
+		RequestTimeouts requestTimeouts = this.tuneRequestTimeouts();
+		RestTemplate restTemplate = this.obtainRestTemplate();
+		ClientHttpRequestFactory originalRequestFactory = this.adaptiveTimeouts ? getUnderlyingRequestFactory(restTemplate) : null;
+		DeadlineRequestFactory deadlineRequestFactory = installDeadlineRequestFactory(restTemplate, originalRequestFactory);
+		try {
+			if (deadlineRequestFactory != null) {
+				deadlineRequestFactory.setRequestTimeouts(requestTimeouts.getConnectTimeoutMs(), requestTimeouts.getResponseTimeoutMs());
+			}
+			long requestStart = System.nanoTime();
+			try {
+				this.doPost(EndpointConstant.DISPLAY, body);
+			} catch (Exception e) {
+				recordTimedOutRequest(requestTimeouts, requestStart, e);
+				throw e;
+			}
+			requestTimeouts.recordResponseLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStart));
+		} finally {
+			if (deadlineRequestFactory != null) {
+				restTemplate.setRequestFactory(originalRequestFactory);
+			}
+		}
+	}
+
+	/**
+	 * Loads {@code version.properties}, once per class loader.
+	 *
+	 * @return the loaded properties, empty if the file cannot be read
+	 */
+	private static Properties loadVersionProperties() {
+		Properties properties = new Properties();
+		try (InputStream inputStream = CrestronTouchPanelCommunicator.class.getResourceAsStream("/version.properties")) {
+			if (inputStream != null) {
+				properties.load(inputStream);
+			}
+		} catch (IOException e) {
+			LogFactory.getLog(CrestronTouchPanelCommunicator.class).error(Constant.READ_PROPERTIES_FILE_FAILED, e);
+		}
+		return properties;
+	}
+
+	/**
+	 * Creates the adapter metadata of this instance on top of {@link #VERSION_PROPERTIES} and sets the values used to
+	 * create Adapter metadata group.
+	 */
+	private void initProperties() {
+		this.versionProperties = new Properties(VERSION_PROPERTIES);
+		this.versionProperties.setProperty(AdapterMetadata.ADAPTER_UPTIME.getProperty(), String.valueOf(this.adapterInitializationTimestamp));
+		this.versionProperties.setProperty(AdapterMetadata.ACTIVE_PROPERTY_GROUPS.getProperty(), this.getDisplayPropertyGroups());
+	}
+
+	/**
+	 * Points the retrieved data at the shared empty placeholders and resets the retrieval statuses, as before the first
+	 * retrieval. A status kept across destroy would report the placeholders as successfully retrieved.
+	 */
+	private void resetData() {
+		Arrays.stream(RetrievalType.values()).forEach(type -> this.retrievalStatuses.put(type, new RetrievalStatus()));
+		this.deviceInfo = EMPTY_DEVICE_INFO;
+		this.deviceCapabilities = EMPTY_DEVICE_CAPABILITIES;
+		this.systemVersions = Collections.emptyList();
+		this.networkAdapters = NetworkSnapshot.EMPTY;
+		this.deviceDisplay = DisplaySnapshot.EMPTY;
+		this.groupProperties = null;
+	}
+
+	/**
+	 * Records the bytes allocated by the current poll cycle and warns when {@link #pollAllocationBudget} is exceeded.
+	 *
+	 * @param startBytes allocated bytes of the current thread before fetching data
+	 * @param fetchBytes allocated bytes of the current thread after fetching data
+	 * @param endBytes allocated bytes of the current thread after generating statistics
+	 */
+	private void recordPollAllocation(long startBytes, long fetchBytes, long endBytes) {
+		if (startBytes < 0 || fetchBytes < 0 || endBytes < 0) {
+			return;
+		}
+		this.pollDiagnostics.recordAllocation(fetchBytes - startBytes, endBytes - fetchBytes);
+		long pollBytes = endBytes - startBytes;
+		if (this.pollAllocationBudget > 0 && pollBytes > this.pollAllocationBudget && this.logger.isWarnEnabled()) {
+			this.logger.warn(Constant.POLL_ALLOCATION_BUDGET_EXCEEDED_WARNING.formatted(
+					this.host, pollBytes, this.pollAllocationBudget, fetchBytes - startBytes, endBytes - fetchBytes
+			));
+		}
+	}
+
+	/**
+	 * Initializes and loads required device data from the APIs.
+	 * <p>
+	 * Failures are isolated per group: a failing group keeps its last good data and is retried on its own backoff schedule,
+	 * while the other groups are updated normally. The poll is only aborted when authentication fails,
+	 * or when every retrieved group failed.
+	 * </p>
+	 * <p>
+	 * Groups are retrieved in {@link RetrievalPriority} order. When {@link #pollTimeBudget} is set, each request timeout is
+	 * limited to the remaining budget, and groups other than {@link RetrievalPriority#HIGH} whose expected fetch duration
+	 * does not fit are deferred to the next poll cycle, keeping their last good data. A group deferred
+	 * {@link Constant#MAX_CONSECUTIVE_DEFERRALS} times in a row is retrieved anyway, so it cannot be starved.
+	 * </p>
+	 * <p>
+	 * A group is only retrieved once its polling interval has elapsed. The interval is {@link #minPollingInterval}, and grows
+	 * up to {@link #maxPollingInterval} while the group's payload stays unchanged and the panel is in standby.
+	 * </p>
+	 *
+	 * @param propertyGroups the property groups selected for this poll cycle
+	 * @param plan the fetch plan of this poll cycle
+	 * @throws Exception if authentication fails or no group could be retrieved
+	 */
+	private void setupData(Set<String> propertyGroups, FetchPlan plan) throws Exception {
+		long deadline = System.currentTimeMillis() + this.pollTimeBudget;
+		this.authenticate();
+		List<RuntimeException> failures = new ArrayList<>();
+		List<String> deferredGroups = new ArrayList<>();
+		int retrievedGroups = 0;
+		RestTemplate restTemplate = this.obtainRestTemplate();
+		RequestTimeouts requestTimeouts = this.tuneRequestTimeouts();
+		ClientHttpRequestFactory originalRequestFactory = this.pollTimeBudget > 0 || this.adaptiveTimeouts || this.compressedTransfer
+				? getUnderlyingRequestFactory(restTemplate)
+				: null;
+		DeadlineRequestFactory deadlineRequestFactory = installDeadlineRequestFactory(restTemplate, originalRequestFactory);
+		if (deadlineRequestFactory != null && this.compressedTransfer) {
+			//	Responses are decoded by fetchData, which needs their transferred size and Content-Encoding
+			deadlineRequestFactory.disableContentCompression();
+		}
+		boolean warmingUp = this.startupWarmUp && this.warmUpPending && !this.isWarmUpComplete(propertyGroups);
+		try {
+			for (RetrievalType retrievalType : RetrievalType.valuesByPriority()) {
+				RetrievalStatus status = this.retrievalStatuses.get(retrievalType);
+				if (!shouldDisplayGroup(propertyGroups, retrievalType.getGroupName()) || plan.getEndpoints(retrievalType).isEmpty()
+						|| !status.isRetryDue() || !status.isPollDue()) {
+					continue;
+				}
+				if (warmingUp && retrievalType.getPriority() != RetrievalPriority.HIGH) {
+					continue;
+				}
+				long connectTimeout = requestTimeouts.getConnectTimeoutMs();
+				long responseTimeout = requestTimeouts.getResponseTimeoutMs();
+				if (this.pollTimeBudget > 0) {
+					long remainingTime = deadline - System.currentTimeMillis();
+					if (this.shouldDefer(retrievalType, status, remainingTime)) {
+						status.markDeferred();
+						deferredGroups.add(retrievalType.getGroupName());
+						if (this.logger.isWarnEnabled()) {
+							this.logger.warn(Constant.GROUP_DEFERRED_WARNING.formatted(
+									retrievalType.getGroupName(), this.host, remainingTime, status.getExpectedDurationMs()
+							));
+						}
+						continue;
+					}
+					long budgetTimeout = Math.max(remainingTime, Constant.MIN_REQUEST_TIMEOUT_MS);
+					connectTimeout = Math.min(connectTimeout, budgetTimeout);
+					responseTimeout = Math.min(responseTimeout, budgetTimeout);
+				}
+				if (deadlineRequestFactory != null) {
+					deadlineRequestFactory.setRequestTimeouts(connectTimeout, responseTimeout);
+				}
+				retrievedGroups++;
+				try {
+					this.retrieveData(retrievalType, status, plan);
+				} catch (RuntimeException e) {
+					failures.add(e);
+					this.logger.warn(Constant.GROUP_RETRIEVAL_FAILED_WARNING.formatted(retrievalType.getGroupName(), this.host, status.getNextRetryInfo()), e);
+				}
+			}
+		} finally {
+			if (deadlineRequestFactory != null) {
+				restTemplate.setRequestFactory(originalRequestFactory);
+			}
+			this.pollDiagnostics.recordDeferredGroups(deferredGroups);
+		}
+		if (this.warmUpPending && this.isWarmUpComplete(propertyGroups)) {
+			this.warmUpPending = false;
+			this.versionProperties.setProperty(AdapterMetadata.WARM_UP_DURATION.getProperty(), String.valueOf(System.currentTimeMillis() - this.initTimestamp));
+		}
+		if (retrievedGroups > 0 && failures.size() == retrievedGroups) {
+			throw failures.get(0);
+		}
+	}
+
+	/**
+	 * Checks whether the given group should be deferred to the next poll cycle because it would not fit in the remaining
+	 * poll time budget. {@link RetrievalPriority#HIGH} groups are never deferred.
+	 *
+	 * @param retrievalType the group to check
+	 * @param status the retrieval status of the group
+	 * @param remainingTime the remaining poll time budget in milliseconds
+	 * @return {@code true} if the group should be deferred, {@code false} otherwise
+	 */
+	private boolean shouldDefer(RetrievalType retrievalType, RetrievalStatus status, long remainingTime) {
+		if (RetrievalPriority.HIGH.equals(retrievalType.getPriority())
+				|| status.getConsecutiveDeferrals() >= Constant.MAX_CONSECUTIVE_DEFERRALS) {
+			return false;
+		}
+		Long expectedDuration = status.getExpectedDurationMs();
+		return remainingTime < Constant.MIN_REQUEST_TIMEOUT_MS || (expectedDuration != null && expectedDuration > remainingTime);
+	}
+
+	/**
+	 * Sets {@link #deadlineRequestFactory} on the rest template, creating it from the HTTP client of the given request
+	 * factory on first use, with the client's default request configuration. The caller restores
+	 * {@code originalRequestFactory} once the requests are done.
+	 *
+	 * @param restTemplate the rest template
+	 * @param originalRequestFactory the underlying request factory of the rest template, see {@link #getUnderlyingRequestFactory(RestTemplate)}
+	 * @return the installed request factory, or {@code null} if the original one does not support per-request timeouts
+	 * @throws GeneralSecurityException if the TLS context of the request factory cannot be created
+	 */
+	private DeadlineRequestFactory installDeadlineRequestFactory(RestTemplate restTemplate, ClientHttpRequestFactory originalRequestFactory)
+			throws GeneralSecurityException {
+		if (!(originalRequestFactory instanceof HttpComponentsClientHttpRequestFactory requestFactory)) {
+			return null;
+		}
+		if (this.deadlineRequestFactory == null) {
+			this.deadlineRequestFactory = DeadlineRequestFactory.create(requestFactory.getHttpClient(),
+					connectLatencyMs -> this.pollDiagnostics.getRequestTimeouts().recordConnectLatency(connectLatencyMs));
+		} else {
+			this.deadlineRequestFactory.resetRequestConfig();
+		}
+		restTemplate.setRequestFactory(this.deadlineRequestFactory);
+		return this.deadlineRequestFactory;
+	}
+
+	/**
+	 * Updates the request timeouts of {@link #pollDiagnostics}. With {@link #adaptiveTimeouts}, they are derived from the
+	 * observed latencies and clamped to {@link #minRequestTimeout} and {@link #maxRequestTimeout}, otherwise both are the
+	 * configured timeout.
+	 *
+	 * @return the updated request timeouts
+	 */
+	private RequestTimeouts tuneRequestTimeouts() {
+		RequestTimeouts requestTimeouts = this.pollDiagnostics.getRequestTimeouts();
+		if (this.adaptiveTimeouts) {
+			requestTimeouts.tune(this.minRequestTimeout, this.maxRequestTimeout > 0 ? this.maxRequestTimeout : this.getTimeout());
+		} else {
+			requestTimeouts.reset(this.getTimeout());
+		}
+		return requestTimeouts;
+	}
+
+	/**
+	 * Records the elapsed time of a request that timed out as a response latency. Successful requests alone would only
+	 * ever shrink the tuned timeouts, so a panel that slows down would keep timing out instead of getting more time.
+	 * Connect timeouts are left out, as {@link DeadlineRequestFactory} records them as connect latencies.
+	 *
+	 * @param requestTimeouts the request timeouts to record the latency in
+	 * @param requestStart the {@link System#nanoTime()} at which the request was sent
+	 * @param failure the failure of the request, recorded only if caused by a timeout
+	 */
+	private static void recordTimedOutRequest(RequestTimeouts requestTimeouts, long requestStart, Exception failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConnectTimeoutException) {
+				return;
+			}
+			//	Socket and connection request timeouts are both interrupted I/O
+			if (cause instanceof InterruptedIOException) {
+				requestTimeouts.recordResponseLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStart));
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns the request factory of the given rest template without the intercepting wrapper
+	 * that {@link RestTemplate#getRequestFactory()} adds when request interceptors are registered.
+	 *
+	 * @param restTemplate the rest template
+	 * @return the underlying request factory
+	 */
+	private static ClientHttpRequestFactory getUnderlyingRequestFactory(RestTemplate restTemplate) {
+		List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>(restTemplate.getInterceptors());
+		if (interceptors.isEmpty()) {
+			return restTemplate.getRequestFactory();
+		}
+		restTemplate.getInterceptors().clear();
+		try {
+			return restTemplate.getRequestFactory();
+		} finally {
+			restTemplate.setInterceptors(interceptors);
+		}
+	}
+
+	/**
+	 * Runs {@link #reachabilityProbe}, so an unreachable device is reported offline without waiting for HTTP connect timeouts.
+	 *
+	 * @throws ResourceNotReachableException if the device does not answer within {@link #reachabilityTimeout}
+	 */
+	private void checkReachability() {
+		ReachabilityProbe probe = this.reachabilityProbe;
+		if (probe == null) {
+			return;
+		}
+		int port = this.getPort() > 0 ? this.getPort() : "http".equalsIgnoreCase(this.getProtocol()) ? 80 : 443;
+		ReachabilityProbe.ProbeResult result = probe.probe(this.host, port, (int) Math.min(this.reachabilityTimeout, Integer.MAX_VALUE));
+		if (!result.reachable()) {
+			throw new ResourceNotReachableException(Constant.DEVICE_UNREACHABLE.formatted(this.host, result.error()));
+		}
+		this.pollDiagnostics.recordReachabilityRtt(result.rttMs());
+	}
+
+	/**
+	 * Records newly applied data of a group in the display history, the change journal and the snapshot, when enabled.
+	 *
+	 * @param retrievalType the group the data belongs to
+	 * @param data the model of the group
+	 * @param timestamp the time the data was received, in milliseconds
+	 */
+	private void recordData(RetrievalType retrievalType, Object data, long timestamp) {
+		if (retrievalType == RetrievalType.DISPLAY) {
+			this.recordDisplayHistory((DisplaySnapshot) data, timestamp);
+		}
+		if (this.changeJournal != null) {
+			this.changeJournal.record(retrievalType, data, timestamp);
+		}
+		if (this.snapshotStore != null) {
+			this.snapshotStore.persist(retrievalType, data, timestamp);
+		}
+	}
+
+	/**
+	 * Returns the polling interval of the given group when it is not idle: {@link #pushReconciliationInterval} for a pushed
+	 * group while the WebSocket connection is open, limited like {@link #getMaxPollingIntervalMs()}, otherwise
+	 * {@link #minPollingInterval}.
+	 *
+	 * @param retrievalType the group
+	 * @return the interval in milliseconds
+	 */
+	private long getMinPollingIntervalMs(RetrievalType retrievalType) {
+		if (PUSHED_GROUPS.contains(retrievalType) && this.isPushConnected()) {
+			long reconciliationIntervalMs = TimeUnit.SECONDS.toMillis(this.pushReconciliationInterval);
+			return this.dataMaxAge > 0 ? Math.min(reconciliationIntervalMs, TimeUnit.SECONDS.toMillis(this.dataMaxAge) / 2) : reconciliationIntervalMs;
+		}
+		return TimeUnit.SECONDS.toMillis(this.minPollingInterval);
+	}
+
+	/**
+	 * Checks whether the last retrieved display reports the panel in standby.
+	 *
+	 * @return {@code true} if the panel is in standby, {@code false} otherwise or if the display has not been retrieved
+	 */
+	private boolean isStandby() {
+		return Constant.STANDBY_STATE.equalsIgnoreCase(this.deviceDisplay.currentState());
+	}
+
+	/**
+	 * Returns the longest polling interval of an idle group, limited to half of {@link #dataMaxAge} so that adaptive polling
+	 * does not expire the data it keeps.
+	 *
+	 * @return the interval in milliseconds
+	 */
+	private long getMaxPollingIntervalMs() {
+		long maxPollingIntervalMs = TimeUnit.SECONDS.toMillis(this.maxPollingInterval);
+		return this.dataMaxAge > 0 ? Math.min(maxPollingIntervalMs, TimeUnit.SECONDS.toMillis(this.dataMaxAge) / 2) : maxPollingIntervalMs;
+	}
+
+	/**
+	 * Records the numeric values of a retrieved display in {@link #displayHistory}, which is created on first use and
+	 * recreated when {@link #displayHistorySize} changes.
+	 *
+	 * @param display the retrieved display
+	 * @param timestamp the time the display was retrieved, in milliseconds
+	 */
+	private void recordDisplayHistory(DisplaySnapshot display, long timestamp) {
+		if (this.displayHistorySize <= 0) {
+			this.displayHistory = null;
+			return;
+		}
+		if (this.displayHistory == null || this.displayHistory.getCapacity() != this.displayHistorySize) {
+			this.displayHistory = new DisplayHistory(this.displayHistorySize);
+		}
+		this.displayHistory.record(display, timestamp);
+	}
+
+	/**
+	 * Fetches the data of the given {@link RetrievalType} and records the attempt and its result in {@link #retrievalStatuses}.
+	 * The group's model is only replaced when the response is mapped successfully, otherwise the last good model is kept.
+	 * When the fetch plan retrieves the group from several sub-paths, their models are merged into one, and their
+	 * sizes and hashes are combined.
+	 *
+	 * @param retrievalType the group to retrieve
+	 * @param status the retrieval status of the group
+	 * @param plan the fetch plan of the poll cycle
+	 * @throws FailedLoginException if authentication fails while accessing the endpoint
+	 * @throws IllegalStateException if an unexpected error occurs while fetching or processing the response, or if no data
+	 * could be read from it
+	 */
+	private void retrieveData(RetrievalType retrievalType, RetrievalStatus status, FetchPlan plan) throws FailedLoginException {
+		status.markAttempt();
+		long startTimestamp = System.currentTimeMillis();
+		try {
+			this.storeFetchedGroup(retrievalType, status, this.fetchGroup(retrievalType, plan));
+		} catch (FailedLoginException e) {
+			status.markFailure();
+			this.invalidateSession();
+			throw e;
+		} catch (RuntimeException e) {
+			status.markFailure();
+			throw e;
+		} finally {
+			status.recordDuration(System.currentTimeMillis() - startTimestamp);
+		}
+	}
 
-	public CrestronTouchPanelCommunicator() {
-		this.reentrantLock = new ReentrantLock();
-		this.objectMapper = new ObjectMapper();
+	/**
+	 * Fetches and merges the endpoints of a group, without updating the retrieval status or the retrieved data.
+	 *
+	 * @param retrievalType the group to fetch
+	 * @param plan the fetch plan defining the endpoints of the group
+	 * @return the fetched model of the group
+	 * @throws FailedLoginException if the session is rejected
+	 * @throws IllegalStateException if an endpoint fails or returns no data
+	 */
+	private FetchedGroup fetchGroup(RetrievalType retrievalType, FetchPlan plan) throws FailedLoginException {
+		Object data = null;
+		int payloadHash = 0;
+		long payloadSize = 0;
+		for (String endpoint : plan.getEndpoints(retrievalType)) {
+			Object part = this.fetchData(endpoint, retrievalType.getResponseType());
+			if (part == null) {
+				//	An empty or unparseable response fails the group, as an error status does
+				throw new IllegalStateException(Constant.NO_DATA_READ_FAILED.formatted(endpoint));
+			}
+			try {
+				data = data == null ? part : retrievalType.getResponseType().mergeValue(data, part);
+			} catch (JacksonException e) {
+				throw new IllegalStateException(Constant.FETCH_DATA_FAILED.formatted(endpoint), e);
+			}
+			payloadHash = 31 * payloadHash + this.lastResponseHash;
+			payloadSize += this.lastResponseSize;
+		}
+		if (data == null) {
+			throw new IllegalStateException(Constant.NO_DATA_READ_FAILED.formatted(retrievalType.getGroupName()));
+		}
+		return new FetchedGroup(data, payloadHash, payloadSize);
+	}
 
-		this.adapterInitializationTimestamp = System.currentTimeMillis();
-		this.versionProperties = new Properties();
-		this.localExtendedStatistics = new ExtendedStatistics();
-		this.authCookie = new AuthCookie();
-		this.deviceInfo = new DeviceInfo();
-		this.deviceCapabilities = new DeviceCapabilities();
-		this.systemVersions = new ArrayList<>();
-		this.networkAdapters = new NetworkAdapters();
-		this.deviceDisplay = new DeviceDisplay();
+	/**
+	 * Stores the fetched model of a group as its retrieved data and marks the retrieval as successful.
+	 *
+	 * @param retrievalType the group the model belongs to
+	 * @param status the retrieval status of the group
+	 * @param fetchedGroup the fetched model, see {@link #fetchGroup(RetrievalType, FetchPlan)}
+	 */
+	private void storeFetchedGroup(RetrievalType retrievalType, RetrievalStatus status, FetchedGroup fetchedGroup) {
+		this.pollDiagnostics.recordResponseSize(retrievalType.getResponseType(), fetchedGroup.payloadSize());
+		this.applyData(retrievalType, fetchedGroup.data());
+		boolean unchanged = status.updatePayloadHash(fetchedGroup.payloadHash());
+		status.markSuccess();
+		status.scheduleNextPoll(unchanged && this.isStandby(), this.getMinPollingIntervalMs(retrievalType), this.getMaxPollingIntervalMs());
+		this.recordData(retrievalType, fetchedGroup.data(), status.getLastSuccessTimestamp());
+	}
 
-		this.displayPropertyGroups = new TreeSet<>(Set.of(Constant.GENERAL_GROUP));
+	/**
+	 * Returns the delay of the first data retrieval after init, derived from the host so that it is stable across restarts
+	 * and spreads instances evenly over {@link #startupJitter}.
+	 *
+	 * @return the delay in milliseconds, or {@code 0} if {@link #startupJitter} is disabled
+	 */
+	private long getStartupDelay() {
+		if (this.startupJitter <= 0 || this.host == null) {
+			return 0;
+		}
+		CRC32 checksum = new CRC32();
+		checksum.update(this.host.getBytes(StandardCharsets.UTF_8));
+		return checksum.getValue() % (this.startupJitter + 1);
 	}
 
 	/**
-	 * Returns a comma-separated list of property group names that are configured to be displayed.
+	 * Checks whether every selected {@link RetrievalPriority#HIGH} group has been retrieved from the device since init.
+	 * Data restored from a snapshot does not count.
 	 *
-	 * @return a comma-separated string of display property group names; may be empty if no groups are configured
+	 * @param propertyGroups the property groups selected for this poll cycle
+	 * @return {@code true} if the warm-up is complete, including when no high priority group is selected
 	 */
-	public String getDisplayPropertyGroups() {
-		return String.join(Constant.COMMA_SPACE, this.displayPropertyGroups);
+	private boolean isWarmUpComplete(Set<String> propertyGroups) {
+		return RetrievalType.valuesByPriority().stream()
+				.filter(type -> type.getPriority() == RetrievalPriority.HIGH && shouldDisplayGroup(propertyGroups, type.getGroupName()))
+				.map(this.retrievalStatuses::get)
+				.allMatch(status -> status.getLastSuccessTimestamp() >= this.initTimestamp && !status.isRestored());
 	}
 
 	/**
-	 * Sets the display property groups based on a comma-separated list.
-	 * <p>
-	 * Trims values automatically. If {@link Constant#ALL} is present, {@link #SUPPORTED_GROUP_FILTERS} are added.
-	 * Invalid groups trigger a warning and only the default group applied. {@code null} or empty input is ignored.
-	 * </p>
-	 *`
-	 * @param displayPropertyGroups comma-separated group names; may be {@code null} or empty
+	 * Acquires one of the {@link Constant#MAX_CONCURRENT_INITIAL_LOGINS} initial login slots of this JVM.
+	 * Gives up after the request timeout, so a slow panel cannot block other instances from logging in indefinitely.
+	 *
+	 * @return {@code true} if a slot was acquired and must be released, {@code false} otherwise
+	 * @throws InterruptedException if the thread is interrupted while waiting
 	 */
-	public void setDisplayPropertyGroups(String displayPropertyGroups) {
-		if (StringUtils.isNullOrEmpty(displayPropertyGroups, true)) {
-			return;
+	private boolean acquireInitialLoginPermit() throws InterruptedException {
+		if (INITIAL_LOGIN_PERMITS.tryAcquire(this.getTimeout(), TimeUnit.MILLISECONDS)) {
+			return true;
 		}
-		Set<String> checkedGroups = Arrays.stream(displayPropertyGroups.split(Constant.COMMA))
-				.map(String::trim).filter(p -> !p.isEmpty()).collect(Collectors.toSet());
-		if (checkedGroups.contains(Constant.ALL)) {
-			this.displayPropertyGroups.addAll(SUPPORTED_GROUP_FILTERS);
-			return;
+		if (this.logger.isWarnEnabled()) {
+			this.logger.warn(Constant.INITIAL_LOGIN_PERMIT_TIMEOUT_WARNING.formatted(this.getTimeout(), Constant.MAX_CONCURRENT_INITIAL_LOGINS, this.host));
 		}
-		if (!CollectionUtils.containsAny(SUPPORTED_GROUP_FILTERS, checkedGroups)) {
-			this.logger.warn(Constant.NO_VALID_DISPLAY_PROPERTY_GROUPS_WARNING.formatted(displayPropertyGroups));
-		} else {
-			this.displayPropertyGroups.clear();
-			checkedGroups.stream().filter(SUPPORTED_GROUP_FILTERS::contains).forEach(this.displayPropertyGroups::add);
+		return false;
+	}
+
+	/**
+	 * Stores the retrieved model of a group in the field the statistics are generated from.
+	 *
+	 * @param retrievalType the group the model belongs to
+	 * @param data the model, of the class defined by the group's {@link ResponseType}
+	 */
+	@SuppressWarnings("unchecked")
+	private void applyData(RetrievalType retrievalType, Object data) {
+		if (this.groupProperties != null) {
+			this.groupProperties.remove(retrievalType);
+		}
+		switch (retrievalType) {
+			case GENERAL -> this.deviceInfo = (DeviceInfo) data;
+			case CAPABILITIES -> this.deviceCapabilities = (DeviceCapabilities) data;
+			case SYSTEM_VERSIONS -> this.systemVersions = (List<SystemVersion>) data;
+			case NETWORK -> this.networkAdapters = (NetworkSnapshot) data;
+			case DISPLAY -> this.deviceDisplay = (DisplaySnapshot) data;
 		}
 	}
 
-	@Override
-	protected void internalInit() throws Exception {
-		this.setTrustAllCertificates(true);
-		this.setAuthenticationScheme(AuthenticationScheme.None);
-		this.loadProperties(this.versionProperties);
-		super.internalInit();
+	/**
+	 * Returns the model of a group the statistics are generated from.
+	 *
+	 * @param retrievalType the group
+	 * @return the current model, of the class defined by the group's {@link ResponseType}
+	 */
+	private Object getData(RetrievalType retrievalType) {
+		return switch (retrievalType) {
+			case GENERAL -> this.deviceInfo;
+			case CAPABILITIES -> this.deviceCapabilities;
+			case SYSTEM_VERSIONS -> this.systemVersions;
+			case NETWORK -> this.networkAdapters;
+			case DISPLAY -> this.deviceDisplay;
+		};
 	}
 
-	@Override
-	protected void internalDestroy() {
-		this.versionProperties.clear();
-		this.localExtendedStatistics = null;
-		this.authCookie = null;
-		this.deviceInfo = null;
-		this.deviceCapabilities = null;
-		this.systemVersions = null;
-		this.networkAdapters = null;
-		this.deviceDisplay = null;
-		this.displayPropertyGroups.clear();
-		super.internalDestroy();
+	/**
+	 * Opens the WebSocket connection of {@link #pushMode} in the background, on {@link #pushPort} or the port of the REST requests,
+	 * subscribed to the endpoints the {@link #fetchPlan} retrieves the pushed groups from.
+	 */
+	private void startPushClient() {
+		String scheme = "http".equalsIgnoreCase(this.getProtocol()) ? "ws" : "wss";
+		int port = this.pushPort > 0 ? this.pushPort : this.getPort();
+		URI uri = URI.create(scheme + "://" + this.host + ":" + port + EndpointConstant.WEBSOCKET);
+		List<String> subscriptions = PUSHED_GROUPS.stream().flatMap(retrievalType -> this.fetchPlan.getEndpoints(retrievalType).stream()).toList();
+		PushClient client = new PushClient(uri, subscriptions, new PushHandler(), this.getTimeout(),
+				TimeUnit.SECONDS.toMillis(this.pushPingInterval));
+		this.pushClient = client;
+		client.start();
 	}
 
-	@Override
-	protected void authenticate() throws Exception {
-		if (StringUtils.isNullOrEmpty(this.getLogin(), true)
-				|| StringUtils.isNullOrEmpty(this.getPassword(), true)) {
-			throw new FailedLoginException(Constant.LOGIN_FAILED);
+	/**
+	 * Restores the data persisted by a previous instance from {@link #snapshotDirectory}, so that the first poll can serve
+	 * it immediately. Restored groups are reported as stale until they are retrieved again.
+	 */
+	private void restoreSnapshot() {
+		if (StringUtils.isNullOrEmpty(this.snapshotDirectory, true)) {
+			return;
 		}
+		this.reentrantLock.lock();
 		try {
-			RestTemplate restTemplate = this.obtainRestTemplate();
-			final String baseUrl = this.getProtocol() + "://" + this.host + ":" + this.getPort();
-			final String loginUrl = baseUrl + EndpointConstant.LOGIN;
-			this.authCookie.setOrigin(this.host);
-			this.authCookie.setLoginReferer(this.host + EndpointConstant.LOGIN);
-			//	Send GET login request to fetch TRACK ID cookie, required for POST login request.
-			if (StringUtils.isNullOrEmpty(this.authCookie.getTrackId(), true)) {
-				ResponseEntity<String> getLoginResponse = restTemplate.exchange(loginUrl, HttpMethod.GET, HttpEntity.EMPTY, String.class);
-				List<String> getCookies = getLoginResponse.getHeaders().get(HttpHeaders.SET_COOKIE);
-				if (CollectionUtils.isNotEmpty(getCookies)) {
-					this.authCookie.setTrackId(getCookies.get(0));
-				}
-			}
-			//	Send POST login request to fetch Set-Cookie and refresh token.
-			if (StringUtils.isNullOrEmpty(this.authCookie.getCookie(), true)) {
-				//	Call the Logout API to clear the login session
-				restTemplate.exchange(baseUrl + EndpointConstant.LOGOUT, HttpMethod.GET, HttpEntity.EMPTY, String.class);
-				//	Set up request body and send the POST login API
-				HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(
-						this.authCookie.getFormURLEncodedBody(this.getLogin(), this.getPassword()),
-						this.authCookie.getRequestHeaders()
-				);
-				ResponseEntity<String> postLoginResponse = restTemplate.exchange(loginUrl, HttpMethod.POST, request, String.class);
-				List<String> postCookies = postLoginResponse.getHeaders().get(HttpHeaders.SET_COOKIE);
-				if (CollectionUtils.isNotEmpty(postCookies)) {
-					this.authCookie.setCookie(String.join(Constant.COMMA, postCookies));
-					this.authCookie.setRefreshToken(postLoginResponse.getHeaders().getFirst(Constant.CREST_XSRF_TOKEN_HEADER));
-				}
-			}
-		} catch (Unauthorized | Forbidden ex) {
-			throw new FailedLoginException(ex.getResponseBodyAsString());
-		} catch (ResourceAccessException ex) {
-			throw new ResourceNotReachableException(ex.getCause().getMessage(), ex);
+			this.snapshotStore = new SnapshotStore(SnapshotStore.resolveFile(Paths.get(this.snapshotDirectory.trim()), this.host), ResponseType.getSharedMapper());
+			Map<RetrievalType, SnapshotStore.RestoredModel> restoredModels = this.snapshotStore.restore();
+			restoredModels.forEach((retrievalType, restoredModel) -> {
+				this.applyData(retrievalType, restoredModel.model());
+				this.retrievalStatuses.get(retrievalType).markRestored(restoredModel.capturedAt());
+			});
+			this.snapshotRestored = !restoredModels.isEmpty();
+		} finally {
+			this.reentrantLock.unlock();
 		}
 	}
 
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
-		headers.set(HttpHeaders.COOKIE, this.authCookie.getCookie());
-		if (HttpMethod.POST.equals(httpMethod)) {
-			headers.set(Constant.X_CREST_XSRF_TOKEN_HEADER, this.authCookie.getRefreshToken());
+	/**
+	 * Retrieves the selected groups in the background after a restored snapshot has been served.
+	 * Polls return the served snapshot until the refresh completes. The groups are fetched without holding
+	 * {@link #reentrantLock}, so controls are not blocked by a slow panel, and stored under it once all are fetched.
+	 *
+	 * @param propertyGroups the property groups selected for the poll that served the snapshot
+	 */
+	private void startSnapshotRefresh(Set<String> propertyGroups) {
+		if (this.snapshotRefreshExecutor == null) {
+			this.snapshotRefreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "CrestronTouchPanelSnapshotRefresh-" + this.host);
+				thread.setDaemon(true);
+				return thread;
+			});
 		}
-		return super.putExtraRequestHeaders(httpMethod, uri, headers);
+		this.snapshotRefresh = this.snapshotRefreshExecutor.submit(() -> {
+			try {
+				this.refreshSnapshot(propertyGroups);
+			} catch (Exception e) {
+				this.logger.warn(Constant.SNAPSHOT_REFRESH_FAILED_WARNING.formatted(this.host), e);
+			}
+		});
 	}
 
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
+	/**
+	 * Fetches the selected groups that are due outside {@link #reentrantLock}, then stores them under it.
+	 *
+	 * @param propertyGroups the property groups selected for the poll that served the snapshot
+	 * @throws Exception if the login fails
+	 */
+	private void refreshSnapshot(Set<String> propertyGroups) throws Exception {
+		FetchPlan plan;
+		List<RetrievalType> dueGroups = new ArrayList<>();
 		this.reentrantLock.lock();
 		try {
-			this.setupData();
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-			Map<String, String> statistics = new HashMap<>();
-			if (this.shouldDisplayGroup(Constant.GENERAL_GROUP)) {
-				statistics.putAll(MonitoringUtil.generateProperties(
-						General.values(), null, property -> MonitoringUtil.mapToGeneral(this.deviceInfo, property)
-				));
-			}
-			statistics.putAll(MonitoringUtil.generateProperties(
-					AdapterMetadata.values(), Constant.ADAPTER_METADATA_GROUP, property -> MonitoringUtil.mapToAdapterMetadata(this.versionProperties, property)
-			));
-			if (this.shouldDisplayGroup(Constant.CAPABILITIES_GROUP)) {
-				statistics.putAll(MonitoringUtil.generateProperties(
-						Capabilities.values(), Constant.CAPABILITIES_GROUP, property -> MonitoringUtil.mapToCapabilities(this.deviceCapabilities, property)
-				));
-			}
-			if (this.shouldDisplayGroup(Constant.SYSTEM_VERSIONS_GROUP)) {
-				statistics.putAll(MonitoringUtil.generateSystemVersionProperties(this.systemVersions));
-			}
-			if (this.shouldDisplayGroup(Constant.NETWORK_GROUP)) {
-				statistics.putAll(MonitoringUtil.generateProperties(
-						Network.values(), Constant.NETWORK_GROUP, property -> MonitoringUtil.mapToNetwork(this.networkAdapters, property)
-				));
-			}
-			if (this.shouldDisplayGroup(Constant.DISPLAY_GROUP)) {
-				statistics.putAll(MonitoringUtil.generateDisplayProperties(this.deviceDisplay));
+			plan = this.fetchPlan;
+			this.authenticate();
+			for (RetrievalType retrievalType : RetrievalType.valuesByPriority()) {
+				RetrievalStatus status = this.retrievalStatuses.get(retrievalType);
+				if (shouldDisplayGroup(propertyGroups, retrievalType.getGroupName()) && !plan.getEndpoints(retrievalType).isEmpty()
+						&& status.isRetryDue() && status.isPollDue()) {
+					dueGroups.add(retrievalType);
+				}
 			}
-
-			List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
-			if (this.shouldDisplayGroup(Constant.DISPLAY_GROUP)) {
-				controllableProperties.addAll(ControlUtil.generateDisplayControllers(this.deviceDisplay));
+		} finally {
+			this.reentrantLock.unlock();
+		}
+		Map<RetrievalType, FetchedGroup> fetchedGroups = new EnumMap<>(RetrievalType.class);
+		Map<RetrievalType, Exception> failures = new EnumMap<>(RetrievalType.class);
+		Map<RetrievalType, Long> durations = new EnumMap<>(RetrievalType.class);
+		for (RetrievalType retrievalType : dueGroups) {
+			long startTimestamp = System.currentTimeMillis();
+			try {
+				fetchedGroups.put(retrievalType, this.fetchGroup(retrievalType, plan));
+			} catch (FailedLoginException | RuntimeException e) {
+				failures.put(retrievalType, e);
 			}
-			if (CollectionUtils.isEmpty(controllableProperties)) {
-				controllableProperties.add(Constant.DUMMY_CONTROLLER);
+			durations.put(retrievalType, System.currentTimeMillis() - startTimestamp);
+		}
+		this.reentrantLock.lock();
+		try {
+			for (RetrievalType retrievalType : dueGroups) {
+				RetrievalStatus status = this.retrievalStatuses.get(retrievalType);
+				status.markAttempt();
+				Exception failure = failures.get(retrievalType);
+				if (failure == null) {
+					try {
+						this.storeFetchedGroup(retrievalType, status, fetchedGroups.get(retrievalType));
+					} catch (RuntimeException e) {
+						failure = e;
+					}
+				}
+				if (failure != null) {
+					status.markFailure();
+					if (failure instanceof FailedLoginException) {
+						this.invalidateSession();
+					}
+					this.logger.warn(Constant.GROUP_RETRIEVAL_FAILED_WARNING.formatted(retrievalType.getGroupName(), this.host, status.getNextRetryInfo()), failure);
+				}
+				status.recordDuration(durations.get(retrievalType));
 			}
-
-			extendedStatistics.setStatistics(statistics);
-			extendedStatistics.setControllableProperties(controllableProperties);
-			this.localExtendedStatistics = extendedStatistics;
 		} finally {
 			this.reentrantLock.unlock();
 		}
-		return Collections.singletonList(this.localExtendedStatistics);
 	}
 
-	@Override
-	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+	/**
+	 * Drops the rejected session so that the next poll or control request logs in again.
+	 */
+	private void invalidateSession() {
+		this.authCookie.setTrackId(null);
+		this.authCookie.setCookie(null);
+		if (this.sessionStore != null) {
+			this.sessionStore.clear();
+		}
+	}
+
+	/**
+	 * Restores the session persisted by a previous instance from {@link #sessionStoreDirectory}.
+	 * The session is validated with one request before its first use, see {@link #isSessionAccepted(RestTemplate, String)}.
+	 */
+	private void restoreSession() {
+		if (StringUtils.isNullOrEmpty(this.sessionStoreDirectory, true)
+				|| StringUtils.isNullOrEmpty(this.getLogin(), true) || StringUtils.isNullOrEmpty(this.getPassword(), true)) {
+			return;
+		}
 		this.reentrantLock.lock();
 		try {
-			String[] components = controllableProperty.getProperty().split(Constant.HASH);
-			if (!Constant.DISPLAY_GROUP.equals(components[0])) {
-				throw new InvalidArgumentException("Unsupported group %s to control".formatted(components[0]));
+			this.sessionStore = new SessionStore(SessionStore.resolveFile(Paths.get(this.sessionStoreDirectory.trim()), this.host, this.getLogin()),
+					this.host, this.getLogin(), this.getPassword());
+			SessionStore.StoredSession storedSession = this.sessionStore.load();
+			if (storedSession == null || StringUtils.isNullOrEmpty(storedSession.cookie(), true)) {
+				return;
 			}
-			Display display = Display.getByName(components[1])
-					.orElseThrow(() -> new InvalidArgumentException("Unsupported property %s to control".formatted(controllableProperty.getProperty())));
-			Map<String, Object> body = ControlUtil.buildDisplayRequest(display, controllableProperty.getValue());
-			this.doPost(EndpointConstant.DISPLAY, body);
-		} catch (InvalidArgumentException | FailedLoginException | ResourceNotReachableException ex) {
-			throw ex;
-		} catch (Exception ex) {
-			throw new IllegalStateException(Constant.CONTROL_PROPERTY_FAILED, ex);
+			this.authCookie.setTrackId(storedSession.trackId());
+			this.authCookie.setCookie(storedSession.cookie());
+			this.authCookie.setRefreshToken(storedSession.refreshToken());
+			this.authCookie.setAcquiredAt(storedSession.acquiredAt());
+			this.sessionValidationPending = true;
 		} finally {
 			this.reentrantLock.unlock();
 		}
 	}
 
-	@Override
-	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
-		if (CollectionUtils.isEmpty(controllableProperties)) {
-			if (this.logger.isWarnEnabled()) {
-				this.logger.warn(Constant.CONTROLLABLE_PROPS_EMPTY_WARNING);
-			}
-			return;
-		}
-		for (ControllableProperty controllableProperty : controllableProperties) {
-			this.controlProperty(controllableProperty);
+	/**
+	 * Persists the current session to {@link #sessionStore}, if configured.
+	 */
+	private void persistSession() {
+		if (this.sessionStore != null) {
+			this.sessionStore.save(new SessionStore.StoredSession(
+					Objects.requireNonNullElse(this.authCookie.getTrackId(), Constant.EMPTY),
+					Objects.requireNonNullElse(this.authCookie.getCookie(), Constant.EMPTY),
+					Objects.requireNonNullElse(this.authCookie.getRefreshToken(), Constant.EMPTY),
+					this.authCookie.getAcquiredAt()
+			));
 		}
 	}
 
 	/**
-	 * Loads version properties and sets initial values used to create Adapter metadata group.
+	 * Checks whether the device still accepts the restored session, with a request for the small
+	 * {@link EndpointConstant#DEVICE_INFO} document.
 	 *
-	 * @param properties the properties to load and update
+	 * @param restTemplate the template used to send the request
+	 * @param baseUrl the base URL of the device
+	 * @return {@code true} if the session is accepted, {@code false} if the device rejects it
+	 * @throws org.springframework.web.client.RestClientException if the device cannot be reached or answers with another error
 	 */
-	private void loadProperties(Properties properties) {
+	private boolean isSessionAccepted(RestTemplate restTemplate, String baseUrl) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.COOKIE, this.authCookie.getCookie());
 		try {
-			properties.load(this.getClass().getResourceAsStream("/version.properties"));
-			properties.setProperty(AdapterMetadata.ADAPTER_UPTIME.getProperty(), String.valueOf(this.adapterInitializationTimestamp));
-			properties.setProperty(AdapterMetadata.ACTIVE_PROPERTY_GROUPS.getProperty(), this.getDisplayPropertyGroups());
-		} catch (IOException e) {
-			this.logger.error(Constant.READ_PROPERTIES_FILE_FAILED, e);
+			restTemplate.exchange(baseUrl + EndpointConstant.DEVICE_INFO, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+			return true;
+		} catch (Unauthorized | Forbidden e) {
+			return false;
 		}
 	}
 
 	/**
-	 * Initializes and loads required device data from the APIs.
+	 * Adds the statistics of a group together with its {@link DataFreshness} properties.
+	 * <p>
+	 * When the latest retrieval of the group failed, its last good values are kept and {@link DataFreshness#DATA_STALE} is set.
+	 * When the group's data is older than {@link #dataMaxAge}, its values are replaced by {@link Constant#NOT_AVAILABLE}
+	 * instead of silently reusing outdated values.
+	 * </p>
+	 * <p>
+	 * The generated properties are kept in {@link #groupProperties} and only regenerated after the group's model is replaced.
+	 * </p>
 	 *
-	 * @throws Exception if authentication or data retrieval fails
+	 * @param statistics the statistics to add to
+	 * @param retrievalType the group the properties belong to
+	 * @param propertiesGenerator generates the properties of the group from its current model
 	 */
-	private void setupData() throws Exception {
-		this.authenticate();
-		if (this.shouldDisplayGroup(Constant.GENERAL_GROUP)) {
-			this.deviceInfo = this.fetchData(EndpointConstant.DEVICE_INFO, ResponseType.DEVICE_INFO);
+	private void putGroupStatistics(Map<String, String> statistics, RetrievalType retrievalType, Supplier<Map<String, String>> propertiesGenerator) {
+		if (this.groupProperties == null) {
+			this.groupProperties = new EnumMap<>(RetrievalType.class);
 		}
-		if (this.shouldDisplayGroup(Constant.CAPABILITIES_GROUP)) {
-			this.deviceCapabilities = this.fetchData(EndpointConstant.DEVICE_CAPABILITIES, ResponseType.DEVICE_CAPABILITIES);
-		}
-		if (this.shouldDisplayGroup(Constant.SYSTEM_VERSIONS_GROUP)) {
-			this.systemVersions = this.fetchData(EndpointConstant.SYSTEM_VERSIONS, ResponseType.SYSTEM_VERSIONS);
-		}
-		if (this.shouldDisplayGroup(Constant.NETWORK_GROUP)) {
-			this.networkAdapters = this.fetchData(EndpointConstant.NETWORK_ADAPTERS, ResponseType.NETWORK_ADAPTERS);
-		}
-		if (this.shouldDisplayGroup(Constant.DISPLAY_GROUP)) {
-			this.deviceDisplay = this.fetchData(EndpointConstant.DISPLAY, ResponseType.DISPLAY);
+		Map<String, String> groupProperties = this.groupProperties.computeIfAbsent(retrievalType, type -> propertiesGenerator.get());
+		RetrievalStatus status = this.retrievalStatuses.get(retrievalType);
+		if (status.isExpired(this.dataMaxAge)) {
+			groupProperties.keySet().forEach(key -> statistics.put(key, Constant.NOT_AVAILABLE));
+		} else {
+			statistics.putAll(groupProperties);
 		}
+		statistics.putAll(MonitoringUtil.generateProperties(
+				DataFreshness.values(), retrievalType.getGroupName(), property -> MonitoringUtil.mapToDataFreshness(status, property, this.dataMaxAge)
+		));
 	}
 
 	/**
@@ -355,11 +1900,27 @@ public class CrestronTouchPanelCommunicator extends RestCommunicator implements
 	 * @return {@code true} if the group is configured to be displayed; {@code false} otherwise
 	 */
 	public boolean shouldDisplayGroup(String groupName) {
-		return CollectionUtils.isNotEmpty(this.displayPropertyGroups) && this.displayPropertyGroups.contains(groupName);
+		return shouldDisplayGroup(this.displayPropertyGroups, groupName);
+	}
+
+	/**
+	 * Checks whether the specified property group is part of the given selection.
+	 *
+	 * @param propertyGroups the selection of property groups, as read once at the start of a poll cycle
+	 * @param groupName the name of the property group to check
+	 * @return {@code true} if the group is selected; {@code false} otherwise
+	 */
+	private static boolean shouldDisplayGroup(Set<String> propertyGroups, String groupName) {
+		return CollectionUtils.isNotEmpty(propertyGroups) && propertyGroups.contains(groupName);
 	}
 
 	/**
 	 * Fetches data from a given endpoint and maps the response to the specified type defined in {@link ResponseType}.
+	 * <p>
+	 * With {@link #compressedTransfer}, the request asks for a compressed response unless the endpoint's
+	 * {@link TransferCompression} found that the device ignores it. The body is decoded by {@link ContentDecoder} while it
+	 * is parsed, and its transferred and decoded sizes are recorded in {@link #pollDiagnostics}.
+	 * </p>
 	 *
 	 * @param endpoint the target endpoint to fetch data from
 	 * @param responseType defines how to extract and map the response into a specific class
@@ -369,31 +1930,321 @@ public class CrestronTouchPanelCommunicator extends RestCommunicator implements
 	 * @throws IllegalStateException if an unexpected error occurs while fetching or processing the response
 	 */
 	public <T> T fetchData(String endpoint, ResponseType responseType) throws FailedLoginException {
-		String previewedResponse = null;
+		FetchEvent fetchEvent = new FetchEvent();
+		fetchEvent.begin();
+		OperationOutcome outcome = OperationOutcome.FAILED;
+		long payloadSize = 0;
+		byte[] body = null;
+		String contentEncoding = null;
 		try {
-			String response = Optional.ofNullable(super.doGet(endpoint)).map(String::trim).orElse(null);
-			if (response == null || response.isBlank()) {
+			long now = System.currentTimeMillis();
+			TransferCompression transferCompression = this.pollDiagnostics.getTransferCompression(responseType);
+			//	Only the deadline request factory returns compressed bodies as transferred, the shared client decodes them by itself
+			boolean compressionRequested = this.compressedTransfer && this.deadlineRequestFactory != null
+					&& getUnderlyingRequestFactory(this.obtainRestTemplate()) == this.deadlineRequestFactory
+					&& transferCompression.isCompressionRequested(now);
+			long requestStart = System.nanoTime();
+			ResponseEntity<byte[]> response;
+			this.requestAcceptEncoding = compressionRequested ? Constant.ACCEPT_ENCODING : null;
+			try {
+				response = this.doRequest(endpoint, HttpMethod.GET, null, null, byte[].class);
+			} catch (Exception e) {
+				recordTimedOutRequest(this.pollDiagnostics.getRequestTimeouts(), requestStart, e);
+				throw e;
+			} finally {
+				this.requestAcceptEncoding = null;
+			}
+			this.pollDiagnostics.getRequestTimeouts().recordResponseLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStart));
+			body = response.getBody();
+			contentEncoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+			if (body == null || body.length == 0) {
+				this.logger.warn("Empty response from endpoint '%s'".formatted(endpoint));
+				outcome = OperationOutcome.EMPTY;
+				return null;
+			}
+			MeteredInputStream decodedBody = ContentDecoder.decode(body, contentEncoding);
+			//	A blank body would otherwise fail to parse and be reported as such
+			if (decodedBody.skipWhitespace()) {
+				payloadSize = decodedBody.getCount();
+				transferCompression.record(compressionRequested, decodedBody.getContentEncoding(), body.length, payloadSize, now);
 				this.logger.warn("Empty response from endpoint '%s'".formatted(endpoint));
+				outcome = OperationOutcome.EMPTY;
 				return null;
 			}
-			previewedResponse = response.substring(0, Math.min(150, response.length()));
-			JsonNode responseNode = responseType.extractNode(this.objectMapper.readTree(response));
-			@SuppressWarnings("unchecked")
-			T mappedResponse = responseType.isCollection()
-					? (T) this.objectMapper.convertValue(responseNode, responseType.getTypeRef(this.objectMapper))
-					: (T) this.objectMapper.treeToValue(responseNode, responseType.getClazz());
+			T mappedResponse = this.mapResponse(endpoint, decodedBody, responseType);
+			payloadSize = decodedBody.getCount();
+			transferCompression.record(compressionRequested, decodedBody.getContentEncoding(), body.length, payloadSize, now);
+			this.lastResponseHash = decodedBody.getHash();
+			this.lastResponseSize = payloadSize;
 			if (Objects.isNull(mappedResponse)) {
 				this.logger.warn(String.format(Constant.FETCHED_DATA_NULL_WARNING, endpoint, responseType.getClazz().getSimpleName()));
 			}
+			outcome = OperationOutcome.SUCCESS;
 
 			return mappedResponse;
 		} catch (FailedLoginException e) {
+			outcome = OperationOutcome.LOGIN_FAILED;
 			throw e;
 		} catch (JacksonException e) {
-			this.logger.error("Failed to parse JSON from endpoint %s, preview: %s".formatted(endpoint, previewedResponse), e);
+			outcome = OperationOutcome.PARSE_FAILED;
+			this.logger.error("Failed to parse JSON from endpoint %s, preview: %s".formatted(endpoint, ContentDecoder.preview(body, contentEncoding, 150)), e);
 			return null;
 		} catch (Exception e) {
+			outcome = OperationOutcome.of(e);
 			throw new IllegalStateException(Constant.FETCH_DATA_FAILED.formatted(endpoint), e);
+		} finally {
+			fetchEvent.setResponseType(responseType.name());
+			fetchEvent.setPayloadSize(payloadSize);
+			fetchEvent.complete(this.host, endpoint, outcome);
+		}
+	}
+
+	/**
+	 * Parses the decoded JSON response and maps it to the class defined in {@link ResponseType}.
+	 *
+	 * @param endpoint the endpoint the response was fetched from
+	 * @param response the decoded JSON response, whose size once read is recorded in {@link ParseEvent}
+	 * @param responseType defines how to extract and map the response into a specific class
+	 * @param <T> the generic type representing the expected response object
+	 * @return the mapped response object, may be {@code null}
+	 * @throws JacksonException if the response cannot be parsed or mapped
+	 * @throws IOException if the response cannot be decoded
+	 */
+	private <T> T mapResponse(String endpoint, MeteredInputStream response, ResponseType responseType) throws IOException {
+		ParseEvent parseEvent = new ParseEvent();
+		parseEvent.begin();
+		OperationOutcome outcome = OperationOutcome.PARSE_FAILED;
+		try {
+			T mappedResponse = responseType.readValue(response);
+			outcome = OperationOutcome.SUCCESS;
+
+			return mappedResponse;
+		} finally {
+			parseEvent.setResponseType(responseType.name());
+			parseEvent.setPayloadSize(response.getCount());
+			parseEvent.complete(this.host, endpoint, outcome);
+		}
+	}
+
+	/**
+	 * Applies the changes pushed over the WebSocket connection of {@link #pushMode} to the retrieved models.
+	 * <p>
+	 * Each message is merged into the current model of the pushed groups it contains, which replaces the model, so only
+	 * the statistics of these groups are regenerated. Groups that have not been retrieved once are left to polling, as a
+	 * partial update cannot be shown without the rest of the group. The pushed groups are polled at the
+	 * {@link #pushReconciliationInterval} while the connection is open, and at the normal cadence again once it is lost.
+	 * </p>
+	 */
+	private class PushHandler implements PushClient.Handler {
+		@Override
+		public Map<String, String> authenticate() throws Exception {
+			CrestronTouchPanelCommunicator communicator = CrestronTouchPanelCommunicator.this;
+			communicator.reentrantLock.lock();
+			try {
+				communicator.authenticate();
+				Map<String, String> headers = new HashMap<>();
+				headers.put(HttpHeaders.COOKIE, communicator.authCookie.getCookie());
+				headers.put(Constant.X_CREST_XSRF_TOKEN_HEADER, communicator.authCookie.getRefreshToken());
+				return headers;
+			} finally {
+				communicator.reentrantLock.unlock();
+			}
+		}
+
+		@Override
+		public void onConnected() {
+			CrestronTouchPanelCommunicator communicator = CrestronTouchPanelCommunicator.this;
+			communicator.reentrantLock.lock();
+			try {
+				for (RetrievalType retrievalType : PUSHED_GROUPS) {
+					RetrievalStatus status = communicator.retrievalStatuses.get(retrievalType);
+					if (status.hasSucceeded()) {
+						status.scheduleNextPoll(false, communicator.getMinPollingIntervalMs(retrievalType), 0);
+					}
+				}
+			} finally {
+				communicator.reentrantLock.unlock();
+			}
+		}
+
+		@Override
+		public void onMessage(String message) {
+			CrestronTouchPanelCommunicator communicator = CrestronTouchPanelCommunicator.this;
+			JsonNode update;
+			try {
+				update = ResponseType.getSharedMapper().readTree(message);
+			} catch (JacksonException e) {
+				communicator.logger.warn(Constant.PUSH_MESSAGE_FAILED_WARNING.formatted(communicator.host), e);
+				return;
+			}
+			communicator.reentrantLock.lock();
+			try {
+				long timestamp = System.currentTimeMillis();
+				for (RetrievalType retrievalType : PUSHED_GROUPS) {
+					if (!communicator.retrievalStatuses.get(retrievalType).hasSucceeded()) {
+						continue;
+					}
+					Object data = retrievalType.getResponseType().applyUpdate(communicator.getData(retrievalType), update);
+					if (data != null) {
+						communicator.applyData(retrievalType, data);
+						communicator.recordData(retrievalType, data, timestamp);
+					}
+				}
+			} catch (JacksonException e) {
+				communicator.logger.warn(Constant.PUSH_MESSAGE_FAILED_WARNING.formatted(communicator.host), e);
+			} finally {
+				communicator.reentrantLock.unlock();
+			}
+		}
+
+		@Override
+		public void onDisconnected(Throwable error) {
+			CrestronTouchPanelCommunicator communicator = CrestronTouchPanelCommunicator.this;
+			communicator.reentrantLock.lock();
+			try {
+				if (error instanceof WebSocketHandshakeException handshakeException
+						&& (handshakeException.getResponse().statusCode() == 401 || handshakeException.getResponse().statusCode() == 403)) {
+					communicator.invalidateSession();
+				}
+				long minPollingIntervalMs = TimeUnit.SECONDS.toMillis(communicator.minPollingInterval);
+				PUSHED_GROUPS.forEach(retrievalType -> communicator.retrievalStatuses.get(retrievalType).resetPollingInterval(minPollingIntervalMs));
+			} finally {
+				communicator.reentrantLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Model of a group fetched by {@link #fetchGroup(RetrievalType, FetchPlan)}, not stored yet.
+	 *
+	 * @param data the merged model of the group's endpoints
+	 * @param payloadHash the combined hash of the decoded responses
+	 * @param payloadSize the combined decoded size of the responses in bytes
+	 */
+	private record FetchedGroup(Object data, int payloadHash, long payloadSize) {
+	}
+
+	/**
+	 * Request factory used while fetching data under {@link #pollTimeBudget}, {@link #adaptiveTimeouts} or {@link #compressedTransfer},
+	 * applying a per-request connect and response timeout, and optionally disabling the client's own content compression,
+	 * on top of the client's default request configuration.
+	 * <p>
+	 * The request factory of {@link RestCommunicator} shares one client context whose request configuration cannot be
+	 * overridden per request, so this factory is swapped in for these fetches only and the original one is restored afterwards.
+	 * The connect timeout is applied by the connection manager, which cannot be reached through the shared client, so this
+	 * factory owns a client of its own, trusting every certificate as the shared one does. Its connection manager times
+	 * every new connection, so the connect timeout is tuned from the actual connect latencies.
+	 * </p>
+	 */
+	private static class DeadlineRequestFactory extends HttpComponentsClientHttpRequestFactory implements AutoCloseable {
+		private final AtomicReference<ConnectionConfig> connectionConfig;
+		private final RequestConfig defaultRequestConfig;
+		private RequestConfig requestConfig;
+
+		private DeadlineRequestFactory(HttpClient httpClient, AtomicReference<ConnectionConfig> connectionConfig, RequestConfig defaultRequestConfig) {
+			super(httpClient);
+			this.connectionConfig = connectionConfig;
+			this.defaultRequestConfig = defaultRequestConfig;
+		}
+
+		/**
+		 * Creates a request factory whose client uses the cookie specification and timeouts of the given shared client
+		 * until {@link #setRequestTimeouts(long, long)} is called.
+		 *
+		 * @param sharedClient the HTTP client of {@link RestCommunicator}
+		 * @param connectLatencyListener receives the time taken to establish each new connection, TLS handshake included,
+		 * or to time out doing so, in milliseconds
+		 * @return the request factory
+		 * @throws GeneralSecurityException if the TLS context cannot be created
+		 */
+		static DeadlineRequestFactory create(HttpClient sharedClient, LongConsumer connectLatencyListener) throws GeneralSecurityException {
+			RequestConfig sharedConfig = sharedClient instanceof Configurable configurable && configurable.getConfig() != null
+					? configurable.getConfig()
+					: RequestConfig.DEFAULT;
+			//	The connect timeout of the shared configuration is left out, as it would take precedence over the connection manager's
+			RequestConfig defaultRequestConfig = RequestConfig.custom()
+					.setCookieSpec(sharedConfig.getCookieSpec())
+					.setConnectionRequestTimeout(sharedConfig.getConnectionRequestTimeout())
+					.setResponseTimeout(sharedConfig.getResponseTimeout())
+					.build();
+			AtomicReference<ConnectionConfig> connectionConfig = new AtomicReference<>(ConnectionConfig.DEFAULT);
+			TlsSocketStrategy tlsSocketStrategy = new DefaultClientTlsStrategy(
+					SSLContexts.custom().loadTrustMaterial(TrustAllStrategy.INSTANCE).build(), NoopHostnameVerifier.INSTANCE);
+			DefaultHttpClientConnectionOperator connectionOperator = new DefaultHttpClientConnectionOperator(null, null,
+					RegistryBuilder.<TlsSocketStrategy>create().register(URIScheme.HTTPS.id, tlsSocketStrategy).build());
+			PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+					connectionOperator, PoolConcurrencyPolicy.STRICT, PoolReusePolicy.LIFO, TimeValue.NEG_ONE_MILLISECOND, null) {
+				@Override
+				public void connect(ConnectionEndpoint endpoint, TimeValue timeout, HttpContext context) throws IOException {
+					long connectStart = System.nanoTime();
+					try {
+						super.connect(endpoint, timeout, context);
+					} catch (ConnectTimeoutException e) {
+						connectLatencyListener.accept(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStart));
+						throw e;
+					}
+					connectLatencyListener.accept(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStart));
+				}
+			};
+			connectionManager.setConnectionConfigResolver(route -> connectionConfig.get());
+			HttpClient httpClient = HttpClients.custom()
+					.setConnectionManager(connectionManager)
+					.setRoutePlanner(new SystemDefaultRoutePlanner(ProxySelector.getDefault()))
+					.setDefaultRequestConfig(defaultRequestConfig)
+					.build();
+			return new DeadlineRequestFactory(httpClient, connectionConfig, defaultRequestConfig);
+		}
+
+		/**
+		 * Sets the connect and response timeouts of the subsequent requests. Waiting for a pooled connection is limited
+		 * by the connect timeout.
+		 *
+		 * @param connectTimeoutMs the connect timeout in milliseconds
+		 * @param responseTimeoutMs the response timeout in milliseconds
+		 */
+		void setRequestTimeouts(long connectTimeoutMs, long responseTimeoutMs) {
+			Timeout connectTimeout = Timeout.ofMilliseconds(connectTimeoutMs);
+			this.connectionConfig.set(ConnectionConfig.custom().setConnectTimeout(connectTimeout).build());
+			this.requestConfig = RequestConfig.copy(this.getRequestConfig())
+					.setConnectionRequestTimeout(connectTimeout)
+					.setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+					.build();
+		}
+
+		/**
+		 * Restores the default request configuration and connect timeout, before the factory is swapped in again.
+		 */
+		void resetRequestConfig() {
+			this.connectionConfig.set(ConnectionConfig.DEFAULT);
+			this.requestConfig = null;
+		}
+
+		/**
+		 * Stops the client from requesting and decoding compressed responses by itself for the subsequent requests, so their
+		 * bodies are returned as transferred.
+		 */
+		void disableContentCompression() {
+			this.requestConfig = RequestConfig.copy(this.getRequestConfig()).setContentCompressionEnabled(false).build();
+		}
+
+		private RequestConfig getRequestConfig() {
+			return this.requestConfig != null ? this.requestConfig : this.defaultRequestConfig;
+		}
+
+		@Override
+		protected void postProcessHttpRequest(ClassicHttpRequest request) {
+			if (this.requestConfig != null && request instanceof HttpUriRequestBase httpRequest) {
+				httpRequest.setConfig(this.requestConfig);
+			}
+		}
+
+		@Override
+		public void close() {
+			try {
+				this.destroy();
+			} catch (Exception e) {
+				//	The connections are being discarded anyway
+			}
 		}
 	}
 }
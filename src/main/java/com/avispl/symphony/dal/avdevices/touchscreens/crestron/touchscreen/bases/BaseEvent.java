@@ -0,0 +1,51 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import lombok.Getter;
+import lombok.Setter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.OperationOutcome;
+
+/**
+ * The template for all JFR events emitted by the adapter.
+ * <p>
+ * Events are only committed when enabled in the active recording settings, so callers should check
+ * {@link #shouldCommit()} before populating fields.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Category({"Symphony", "Crestron Touch Panel"})
+@StackTrace(false)
+@Getter
+@Setter
+public abstract class BaseEvent extends Event {
+	@Label("Host")
+	protected String host;
+	@Label("Endpoint")
+	protected String endpoint;
+	@Label("Outcome")
+	protected String outcome;
+
+	/**
+	 * Ends the event and commits it with the common fields, only when the event is enabled by the active recording settings.
+	 *
+	 * @param host the device host
+	 * @param endpoint the endpoint of the request
+	 * @param outcome the outcome of the request
+	 */
+	public void complete(String host, String endpoint, OperationOutcome outcome) {
+		this.end();
+		if (this.shouldCommit()) {
+			this.host = host;
+			this.endpoint = endpoint;
+			this.outcome = outcome.name();
+			this.commit();
+		}
+	}
+}
@@ -0,0 +1,18 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases;
+
+/**
+ * Property enum whose values are read from a sub-path of its group's endpoint, which can be requested on its own when
+ * only some properties of the group are selected.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public interface EndpointProperty extends BaseProperty {
+	/**
+	 * Returns the deepest CresNext path holding every value the property is mapped from.
+	 *
+	 * @return the endpoint of the property
+	 */
+	String getEndpoint();
+}
@@ -0,0 +1,111 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+
+/**
+ * Decodes response bodies sent with a {@code Content-Encoding} of {@link Constant#GZIP_ENCODING} or
+ * {@link Constant#DEFLATE_ENCODING}, as a stream the parser reads directly.
+ * <p>
+ * The encoding is checked against the leading bytes of the body, because some firmware labels uncompressed bodies as
+ * compressed: a body without the gzip magic number is read as is, and a deflate body without a zlib header is read as
+ * raw deflate data, as browsers do.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ContentDecoder {
+	/**
+	 * Opens the decoded content of a response body.
+	 *
+	 * @param body the response body as transferred
+	 * @param contentEncoding the {@code Content-Encoding} header of the response; may be {@code null}
+	 * @return the decoded content, reporting the encoding actually decoded
+	 * @throws IOException if the encoding is not supported or the compressed header is invalid
+	 */
+	public static MeteredInputStream decode(byte[] body, String contentEncoding) throws IOException {
+		InputStream inputStream = new ByteArrayInputStream(body);
+		String encoding = contentEncoding == null ? Constant.IDENTITY_ENCODING : contentEncoding.trim().toLowerCase(Locale.ROOT);
+		switch (encoding) {
+			case Constant.GZIP_ENCODING, Constant.X_GZIP_ENCODING -> {
+				if (body.length >= 2 && (body[0] & 0xFF) == 0x1F && (body[1] & 0xFF) == 0x8B) {
+					return new MeteredInputStream(new GZIPInputStream(inputStream), Constant.GZIP_ENCODING);
+				}
+			}
+			case Constant.DEFLATE_ENCODING -> {
+				return new MeteredInputStream(isZlibHeader(body) ? new InflaterInputStream(inputStream) : new RawInflaterInputStream(inputStream),
+						Constant.DEFLATE_ENCODING);
+			}
+			case "", Constant.IDENTITY_ENCODING -> {
+				//	Read as is below
+			}
+			default -> throw new IOException("Unsupported content encoding " + contentEncoding);
+		}
+		return new MeteredInputStream(inputStream, Constant.IDENTITY_ENCODING);
+	}
+
+	/**
+	 * Decodes the beginning of a response body for logging, ignoring decoding failures.
+	 *
+	 * @param body the response body as transferred; may be {@code null}
+	 * @param contentEncoding the {@code Content-Encoding} header of the response; may be {@code null}
+	 * @param maxBytes the maximum number of decoded bytes to return
+	 * @return the beginning of the decoded body, or {@code null} if it cannot be decoded
+	 */
+	public static String preview(byte[] body, String contentEncoding, int maxBytes) {
+		if (body == null) {
+			return null;
+		}
+		try (InputStream inputStream = decode(body, contentEncoding)) {
+			return new String(inputStream.readNBytes(maxBytes), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Checks whether the body starts with a zlib header, as RFC 9110 specifies for the deflate coding.
+	 *
+	 * @param body the response body
+	 * @return {@code true} if the body starts with a valid zlib header, {@code false} otherwise
+	 */
+	private static boolean isZlibHeader(byte[] body) {
+		if (body.length < 2) {
+			return false;
+		}
+		int header = (body[0] & 0xFF) << 8 | (body[1] & 0xFF);
+		return (body[0] & 0x0F) == 8 && header % 31 == 0;
+	}
+
+	/**
+	 * Inflates raw deflate data, releasing its {@link Inflater} on close.
+	 */
+	private static class RawInflaterInputStream extends InflaterInputStream {
+		RawInflaterInputStream(InputStream inputStream) {
+			super(inputStream, new Inflater(true));
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				this.inf.end();
+			}
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.compression;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Decoded response body that counts and hashes the bytes read through it, so the size and hash of a payload are known
+ * once it has been parsed, without keeping a copy of it.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Getter
+public class MeteredInputStream extends FilterInputStream {
+	private final String contentEncoding;
+	private long count;
+	private int hash;
+	private boolean blank = true;
+	@Getter(AccessLevel.NONE)
+	private int next = -1;
+
+	/**
+	 * Creates a stream reading the given decoded body.
+	 *
+	 * @param inputStream the decoded body
+	 * @param contentEncoding the encoding the body was decoded from
+	 */
+	public MeteredInputStream(InputStream inputStream, String contentEncoding) {
+		super(inputStream);
+		this.contentEncoding = contentEncoding;
+	}
+
+	/**
+	 * Reads past the leading whitespace, keeping the first other byte to be read next, so a blank body is detected
+	 * before it is handed to a parser.
+	 *
+	 * @return {@code true} if the body holds only whitespace, {@code false} otherwise
+	 * @throws IOException if the body cannot be read
+	 */
+	public boolean skipWhitespace() throws IOException {
+		int value = this.read();
+		while (value >= 0 && value <= ' ') {
+			value = this.read();
+		}
+		this.next = value;
+		return value < 0;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (this.next >= 0) {
+			int value = this.next;
+			this.next = -1;
+			return value;
+		}
+		int value = super.read();
+		if (value >= 0) {
+			this.update((byte) value);
+		}
+		return value;
+	}
+
+	@Override
+	public int read(byte[] buffer, int offset, int length) throws IOException {
+		if (this.next >= 0 && length > 0) {
+			//	The byte kept by skipWhitespace() was already counted and hashed
+			buffer[offset] = (byte) this.next;
+			this.next = -1;
+			int read = length > 1 ? this.read(buffer, offset + 1, length - 1) : 0;
+			return 1 + Math.max(read, 0);
+		}
+		int read = super.read(buffer, offset, length);
+		for (int i = 0; i < read; i++) {
+			this.update(buffer[offset + i]);
+		}
+		return read;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return super.available() + (this.next >= 0 ? 1 : 0);
+	}
+
+	@Override
+	public long skip(long length) throws IOException {
+		//	Skipped bytes are read, so they are still counted and hashed
+		long skipped = 0;
+		while (skipped < length && this.read() >= 0) {
+			skipped++;
+		}
+		return skipped;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	private void update(byte value) {
+		this.count++;
+		this.hash = 31 * this.hash + (value & 0xFF);
+		if ((value & 0xFF) > ' ') {
+			this.blank = false;
+		}
+	}
+}
@@ -20,6 +20,10 @@ import com.avispl.symphony.dal.util.ControllablePropertyFactory;
 public final class Constant {
 	//	Formats
 	public static final String PROPERTY_FORMAT = "%s#%s";
+	public static final String RESPONSE_SIZE_AVERAGE_FORMAT = "%sResponseSizeAverage(bytes)";
+	public static final String TRANSFER_SIZE_AVERAGE_FORMAT = "%sTransferSizeAverage(bytes)";
+	public static final String COMPRESSION_RATIO_FORMAT = "%sCompressionRatio";
+	public static final String CONTENT_ENCODING_FORMAT = "%sContentEncoding";
 	public static final Pattern NON_ALPHANUMERIC_PATTERN = Pattern.compile("[^a-zA-Z0-9]");
 
 	//	Values
@@ -31,6 +35,44 @@ public final class Constant {
 	public static final String ON = "On";
 	public static final String OFF = "Off";
 	public static final String ALL = "All";
+	public static final String NONE = "None";
+	public static final String SHARED = "Shared";
+	public static final int DIAGNOSTICS_WINDOW_SIZE = 10;
+	public static final long DEFAULT_DATA_MAX_AGE_SECONDS = Duration.ofMinutes(10).toSeconds();
+	public static final long RETRY_BACKOFF_BASE_MS = DEFAULT_INTERVAL_MS;
+	public static final long RETRY_BACKOFF_MAX_MS = Duration.ofMinutes(10).toMillis();
+	public static final long MIN_REQUEST_TIMEOUT_MS = Duration.ofSeconds(1).toMillis();
+	public static final int MAX_CONSECUTIVE_DEFERRALS = 5;
+	public static final String SNAPSHOT_FILE_EXTENSION = ".snapshot";
+	public static final int SNAPSHOT_COMPACTION_RECORDS = 64;
+	public static final int MAX_CONCURRENT_INITIAL_LOGINS = 16;
+	public static final String SESSION_FILE_EXTENSION = ".session";
+	public static final int SESSION_KEY_ITERATIONS = 50_000;
+	public static final long SNAPSHOT_REFRESH_INTERVAL_MS = Duration.ofSeconds(DEFAULT_DATA_MAX_AGE_SECONDS / 2).toMillis();
+	public static final String WARM_UP_FIXTURE_PATH = "/warmup/%s.json";
+	public static final int MAX_DISPLAY_HISTORY_SIZE = 100_000;
+	public static final String JOURNAL_FILE_EXTENSION = ".journal";
+	public static final int JOURNAL_SEGMENT_SIZE = 64 * 1024;
+	public static final int JOURNAL_MAX_SEGMENTS = 4;
+	public static final int JOURNAL_MAX_VALUE_LENGTH = 128;
+	public static final long DEFAULT_REACHABILITY_TIMEOUT_MS = Duration.ofSeconds(1).toMillis();
+	public static final long ADAPTIVE_POLLING_STEP_MS = DEFAULT_INTERVAL_MS;
+	public static final String STANDBY_STATE = "Standby";
+	public static final int LATENCY_WINDOW_SIZE = 100;
+	public static final int MIN_TIMEOUT_SAMPLES = 20;
+	public static final double TIMEOUT_PERCENTILE = 0.99;
+	public static final double TIMEOUT_SAFETY_FACTOR = 3;
+	public static final long PUSH_RECONNECT_BASE_MS = Duration.ofSeconds(1).toMillis();
+	public static final long PUSH_RECONNECT_MAX_MS = Duration.ofMinutes(1).toMillis();
+	public static final long DEFAULT_PUSH_RECONCILIATION_INTERVAL_SECONDS = Duration.ofMinutes(5).toSeconds();
+	public static final long DEFAULT_PUSH_PING_INTERVAL_SECONDS = Duration.ofSeconds(30).toSeconds();
+	public static final String ACCEPT_ENCODING = "gzip, deflate";
+	public static final String GZIP_ENCODING = "gzip";
+	public static final String X_GZIP_ENCODING = "x-gzip";
+	public static final String DEFLATE_ENCODING = "deflate";
+	public static final String IDENTITY_ENCODING = "identity";
+	public static final int COMPRESSION_FALLBACK_THRESHOLD = 3;
+	public static final long COMPRESSION_REPROBE_INTERVAL_MS = Duration.ofHours(1).toMillis();
 
 	//	Special characters
 	public static final String COMMA = ",";
@@ -45,6 +87,8 @@ public final class Constant {
 	public static final String SYSTEM_VERSIONS_GROUP = "SystemVersions";
 	public static final String NETWORK_GROUP = "Network";
 	public static final String DISPLAY_GROUP = "Display";
+	public static final String DIAGNOSTICS_GROUP = "Diagnostics";
+	public static final String DISPLAY_HISTORY_GROUP = "DisplayHistory";
 	public static final String LCD_DISPLAY_GROUP = "LCD";
 	public static final String AUDIO_DISPLAY_GROUP = "Audio";
 	public static final String BUTTON_TOOLBAR_DISPLAY_GROUP = "ButtonToolbar";
@@ -53,12 +97,33 @@ public final class Constant {
 	public static final String CONTROLLABLE_PROPS_EMPTY_WARNING = "ControllableProperties list is null or empty, skipping control operation";
 	public static final String FETCHED_DATA_NULL_WARNING = "Fetched data is null. Endpoint: %s, ResponseClass: %s";
 	public static final String NO_VALID_DISPLAY_PROPERTY_GROUPS_WARNING = "No valid display property groups found from input: '%s'";
+	public static final String UNSUPPORTED_PROPERTY_FILTER_GROUP_WARNING = "Unsupported group %s in property filters '%s', its filters select nothing";
+	public static final String GROUP_RETRIEVAL_FAILED_WARNING = "Failed to retrieve %s group of %s, serving last known data. %s";
+	public static final String GROUP_DEFERRED_WARNING = "Deferred %s group of %s to the next poll cycle, %d ms of the poll time budget left (expected fetch duration: %s ms)";
+	public static final String SNAPSHOT_READ_FAILED_WARNING = "Failed to restore the device snapshot from %s, starting without it";
+	public static final String SNAPSHOT_RECORD_SKIPPED_WARNING = "Skipped an unreadable record in the device snapshot %s: %s";
+	public static final String SNAPSHOT_WRITE_FAILED_WARNING = "Failed to persist the %s group to the device snapshot %s";
+	public static final String SNAPSHOT_REFRESH_FAILED_WARNING = "Background refresh of the restored snapshot of %s failed, retrying on the next poll";
+	public static final String SESSION_READ_FAILED_WARNING = "Failed to read the stored session %s, logging in again: %s";
+	public static final String SESSION_WRITE_FAILED_WARNING = "Failed to update the stored session %s";
+	public static final String INITIAL_LOGIN_PERMIT_TIMEOUT_WARNING = "Waited %d ms for one of %d concurrent initial login slots, logging in to %s anyway";
+	public static final String JOURNAL_READ_FAILED_WARNING = "Failed to read the change journal in %s";
+	public static final String JOURNAL_WRITE_FAILED_WARNING = "Failed to journal the %s change in %s";
+	public static final String JOURNAL_SEGMENT_CORRUPT_WARNING = "Skipping the older records of the corrupt journal segment %s";
+	public static final String UNSUPPORTED_REACHABILITY_CHECK_WARNING = "Unsupported reachability check '%s', expected one of None, ICMP, TCP";
+	public static final String ICMP_PROBE_UNAVAILABLE_WARNING = "ICMP probe of %s could not run, falling back to a TCP probe";
+	public static final String INIT_WARM_UP_FAILED_WARNING = "Init warm-up over the %s fixture failed, the first poll may be slower: %s";
+	public static final String PUSH_DISCONNECTED_WARNING = "Push connection to %s lost (%s), reconnecting in %d ms";
+	public static final String PUSH_MESSAGE_FAILED_WARNING = "Failed to apply a push message from %s";
+	public static final String POLL_ALLOCATION_BUDGET_EXCEEDED_WARNING = "Poll cycle of %s allocated %d bytes, exceeding the budget of %d bytes (fetch: %d, statistics: %d)";
 
 	//	Fail messages
 	public static final String READ_PROPERTIES_FILE_FAILED = "Failed to load version properties file.";
 	public static final String FETCH_DATA_FAILED = "Device monitoring cannot proceed, the required data could not be fetched from the %s endpoint.";
+	public static final String NO_DATA_READ_FAILED = "No data could be read from %s, the response is empty or cannot be parsed.";
 	public static final String MAP_TO_UPTIME_FAILED = "Failed to mapToUptime with uptime: ";
 	public static final String MAP_TO_UPTIME_MIN_FAILED = "Failed to mapToUptimeMin with uptime: ";
+	public static final String DEVICE_UNREACHABLE = "Device %s did not answer the reachability check: %s";
 	public static final String LOGIN_FAILED = "Failed to login, please check the credentials";
 	public static final String CONTROL_PROPERTY_FAILED = "Unable to perform this action at the moment. Please try again later";
 }
@@ -18,5 +18,18 @@ public final class EndpointConstant {
 	public static final String DEVICE_CAPABILITIES = "/Device/DeviceCapabilities";
 	public static final String SYSTEM_VERSIONS = "/Device/SystemVersions";
 	public static final String NETWORK_ADAPTERS = "/Device/NetworkAdapters";
+	public static final String NETWORK_ADAPTERS_DNS_SETTINGS = "/Device/NetworkAdapters/DnsSettings";
+	public static final String NETWORK_ADAPTERS_HOST_NAME = "/Device/NetworkAdapters/HostName";
+	public static final String NETWORK_ADAPTERS_IPV6 = "/Device/NetworkAdapters/IPv6";
+	public static final String NETWORK_ADAPTERS_ETHERNET_LAN = "/Device/NetworkAdapters/Adapters/EthernetLan";
+	public static final String NETWORK_ADAPTERS_WIFI = "/Device/NetworkAdapters/Adapters/Wifi";
 	public static final String DISPLAY = "/Device/Display";
+	public static final String DISPLAY_AUDIO = "/Device/Display/Audio";
+	public static final String DISPLAY_CURRENT_STATE = "/Device/Display/CurrentState";
+	public static final String DISPLAY_LOCAL_SETUP_ACCESS = "/Device/Display/IsLocalSetupAccessEnabled";
+	public static final String DISPLAY_LCD = "/Device/Display/Lcd";
+	public static final String DISPLAY_LCD_AUTO_BRIGHTNESS = "/Device/Display/Lcd/AutoBrightness";
+	public static final String DISPLAY_LCD_PRESETS = "/Device/Display/Lcd/Presets";
+	public static final String DISPLAY_VIRTUAL_BUTTONS = "/Device/Display/VirtualButtons";
+	public static final String WEBSOCKET = "/websockify";
 }
@@ -0,0 +1,332 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter.JournalField;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter.RetrievalType;
+
+/**
+ * Append-only binary journal of the {@link JournalField} transitions of one device, so the history of status, mute,
+ * link and address changes survives between polls and restarts at a fraction of the cost of full snapshots.
+ * <p>
+ * The journal is a sequence of segment files of {@link Constant#JOURNAL_SEGMENT_SIZE} bytes named
+ * {@code <host>.journal.<sequence>}. The newest segment is memory-mapped and appended to; when a record does not fit,
+ * a new segment is started and the oldest ones are deleted beyond {@link Constant#JOURNAL_MAX_SEGMENTS}.
+ * A segment starts with a header holding a magic number and the end of its records. Each record is framed by its length
+ * at both ends, so records are read from the newest backwards without scanning or loading a segment:
+ * </p>
+ * <pre>
+ * int length | long timestamp | byte field code | short previous length | previous | short value length | value | int length
+ * </pre>
+ * <p>
+ * Values are UTF-8 with a length of {@code -1} for {@code null}, truncated to {@link Constant#JOURNAL_MAX_VALUE_LENGTH}
+ * characters. The header end offset is written after the record, so a crash of the JVM does not expose a partly written
+ * record. Segments are not forced to disk on every write, so after a crash of the operating system a record may still
+ * be torn; a record whose lengths do not match its content is treated as corrupt, and the older records of its segment
+ * are skipped. I/O failures are logged and never propagated, as the journal must not affect polling. Methods are
+ * synchronized, so the journal can be read while the communicator writes to it.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class ChangeJournal implements AutoCloseable {
+	private static final Log LOGGER = LogFactory.getLog(ChangeJournal.class);
+	private static final int MAGIC = 0x434A4E4C;
+	private static final int HEADER_SIZE = 8;
+	private static final int END_OFFSET_POSITION = 4;
+	private static final int RECORD_OVERHEAD = Integer.BYTES * 2 + Long.BYTES + Byte.BYTES + Short.BYTES * 2;
+	private static final short NULL_LENGTH = -1;
+
+	private final Path directory;
+	private final String segmentPrefix;
+	/** Last journaled value of each field; a field without entry has never been journaled. */
+	private final Map<JournalField, String> lastValues;
+	private long activeSequence;
+	private FileChannel activeChannel;
+	private MappedByteBuffer activeBuffer;
+
+	/**
+	 * Creates a journal for the given host within the given directory. Segments are opened on the first write or read.
+	 *
+	 * @param directory the journal directory
+	 * @param host the device host; characters that are not valid in file names are replaced
+	 */
+	public ChangeJournal(Path directory, String host) {
+		this.directory = directory;
+		this.segmentPrefix = Constant.NON_ALPHANUMERIC_PATTERN.matcher(host).replaceAll("_") + Constant.JOURNAL_FILE_EXTENSION + ".";
+		this.lastValues = new EnumMap<>(JournalField.class);
+	}
+
+	/**
+	 * Loads the last journaled value of each field, so the first retrieval after a restart only records actual transitions.
+	 */
+	public synchronized void open() {
+		this.lastValues.clear();
+		try {
+			List<Change> changes = this.read(Integer.MAX_VALUE, JournalField.values().length);
+			for (Change change : changes) {
+				this.lastValues.putIfAbsent(change.field(), change.value());
+			}
+		} catch (IOException e) {
+			LOGGER.warn(Constant.JOURNAL_READ_FAILED_WARNING.formatted(this.directory), e);
+		}
+	}
+
+	/**
+	 * Records the transitions of the fields of the given group, diffed against the last journaled values.
+	 *
+	 * @param retrievalType the retrieved group
+	 * @param model the retrieved model of the group
+	 * @param timestamp the time the model was retrieved, in epoch milliseconds
+	 */
+	public synchronized void record(RetrievalType retrievalType, Object model, long timestamp) {
+		for (JournalField field : JournalField.values()) {
+			if (field.getRetrievalType() != retrievalType) {
+				continue;
+			}
+			String value = truncate(field.getValue(model));
+			String previousValue = this.lastValues.get(field);
+			if (this.lastValues.containsKey(field) && Objects.equals(previousValue, value)) {
+				continue;
+			}
+			try {
+				this.append(new Change(timestamp, field, previousValue, value));
+				this.lastValues.put(field, value);
+			} catch (IOException e) {
+				LOGGER.warn(Constant.JOURNAL_WRITE_FAILED_WARNING.formatted(field.getName(), this.directory), e);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Reads the most recent changes, newest first, only visiting the segments that hold them.
+	 *
+	 * @param count the maximum number of changes to return
+	 * @return the changes, newest first; empty if nothing has been journaled or the journal cannot be read
+	 */
+	public synchronized List<Change> readLast(int count) {
+		try {
+			return this.read(count, Integer.MAX_VALUE);
+		} catch (IOException e) {
+			LOGGER.warn(Constant.JOURNAL_READ_FAILED_WARNING.formatted(this.directory), e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Flushes the active segment and releases it. The journal reopens it on the next write or read.
+	 */
+	@Override
+	public synchronized void close() {
+		if (this.activeBuffer != null) {
+			this.activeBuffer.force();
+			this.activeBuffer = null;
+		}
+		if (this.activeChannel != null) {
+			try {
+				this.activeChannel.close();
+			} catch (IOException e) {
+				LOGGER.debug("Failed to close the journal segment in " + this.directory, e);
+			}
+			this.activeChannel = null;
+		}
+	}
+
+	private void append(Change change) throws IOException {
+		byte[] previousValue = encode(change.previousValue());
+		byte[] value = encode(change.value());
+		int length = RECORD_OVERHEAD + (previousValue == null ? 0 : previousValue.length) + (value == null ? 0 : value.length);
+		if (this.activeBuffer == null) {
+			List<Long> sequences = this.listSequences();
+			this.openActiveSegment(sequences.isEmpty() ? 0 : sequences.get(sequences.size() - 1));
+		}
+		int endOffset = this.activeBuffer.getInt(END_OFFSET_POSITION);
+		if (endOffset + length > this.activeBuffer.capacity()) {
+			this.roll();
+			endOffset = HEADER_SIZE;
+		}
+		ByteBuffer buffer = this.activeBuffer.duplicate();
+		buffer.position(endOffset);
+		buffer.putInt(length).putLong(change.timestamp()).put(change.field().getCode());
+		putValue(buffer, previousValue);
+		putValue(buffer, value);
+		buffer.putInt(length);
+		this.activeBuffer.putInt(END_OFFSET_POSITION, endOffset + length);
+	}
+
+	/**
+	 * Starts a new segment and deletes the oldest ones beyond {@link Constant#JOURNAL_MAX_SEGMENTS}.
+	 */
+	private void roll() throws IOException {
+		this.close();
+		this.openActiveSegment(this.activeSequence + 1);
+		List<Long> sequences = this.listSequences();
+		for (int i = 0; i < sequences.size() - Constant.JOURNAL_MAX_SEGMENTS; i++) {
+			Files.deleteIfExists(this.segmentFile(sequences.get(i)));
+		}
+	}
+
+	private void openActiveSegment(long sequence) throws IOException {
+		Files.createDirectories(this.directory);
+		Path file = this.segmentFile(sequence);
+		this.activeChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.activeBuffer = this.activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, Constant.JOURNAL_SEGMENT_SIZE);
+		this.activeSequence = sequence;
+		if (this.activeBuffer.getInt(0) != MAGIC || !isValidEndOffset(this.activeBuffer, this.activeBuffer.getInt(END_OFFSET_POSITION))) {
+			this.activeBuffer.putInt(0, MAGIC);
+			this.activeBuffer.putInt(END_OFFSET_POSITION, HEADER_SIZE);
+		}
+	}
+
+	/**
+	 * Reads changes newest first until {@code count} changes are read or {@code fieldCount} distinct fields are seen.
+	 */
+	private List<Change> read(int count, int fieldCount) throws IOException {
+		List<Change> changes = new ArrayList<>();
+		Map<JournalField, Boolean> seenFields = new EnumMap<>(JournalField.class);
+		List<Long> sequences = this.listSequences();
+		for (int i = sequences.size() - 1; i >= 0 && changes.size() < count && seenFields.size() < fieldCount; i--) {
+			ByteBuffer segment = this.mapForRead(sequences.get(i));
+			if (segment == null) {
+				continue;
+			}
+			int position = segment.getInt(END_OFFSET_POSITION);
+			while (position > HEADER_SIZE && changes.size() < count && seenFields.size() < fieldCount) {
+				Change change;
+				try {
+					int length = segment.getInt(position - Integer.BYTES);
+					if (length < RECORD_OVERHEAD || position - length < HEADER_SIZE) {
+						throw new IllegalStateException("Invalid record length " + length + " at offset " + position);
+					}
+					position -= length;
+					change = decode(segment.duplicate().position(position), length);
+				} catch (RuntimeException e) {
+					//	Without a valid length, the start of the older records cannot be found
+					LOGGER.warn(Constant.JOURNAL_SEGMENT_CORRUPT_WARNING.formatted(this.segmentFile(sequences.get(i))), e);
+					break;
+				}
+				if (change != null) {
+					changes.add(change);
+					seenFields.put(change.field(), Boolean.TRUE);
+				}
+			}
+		}
+		return changes;
+	}
+
+	private ByteBuffer mapForRead(long sequence) throws IOException {
+		if (this.activeBuffer != null && sequence == this.activeSequence) {
+			return this.activeBuffer.duplicate();
+		}
+		Path file = this.segmentFile(sequence);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_SIZE) {
+				return null;
+			}
+			MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return segment.getInt(0) == MAGIC && isValidEndOffset(segment, segment.getInt(END_OFFSET_POSITION)) ? segment : null;
+		}
+	}
+
+	private List<Long> listSequences() throws IOException {
+		if (!Files.isDirectory(this.directory)) {
+			return Collections.emptyList();
+		}
+		try (Stream<Path> files = Files.list(this.directory)) {
+			return files.map(file -> file.getFileName().toString())
+					.filter(name -> name.startsWith(this.segmentPrefix))
+					.map(name -> name.substring(this.segmentPrefix.length()))
+					.filter(sequence -> !sequence.isEmpty() && sequence.chars().allMatch(Character::isDigit))
+					.map(Long::parseLong).sorted().toList();
+		}
+	}
+
+	private Path segmentFile(long sequence) {
+		return this.directory.resolve(this.segmentPrefix + sequence);
+	}
+
+	private static boolean isValidEndOffset(ByteBuffer segment, int endOffset) {
+		return endOffset >= HEADER_SIZE && endOffset <= segment.capacity();
+	}
+
+	/**
+	 * Decodes the record at the position of the given buffer.
+	 *
+	 * @param buffer the segment, positioned at the start of the record
+	 * @param length the length of the record, read from its end
+	 * @return the change, or {@code null} if its field is unknown
+	 * @throws RuntimeException if the record is corrupt
+	 */
+	private static Change decode(ByteBuffer buffer, int length) {
+		int start = buffer.position();
+		if (buffer.getInt() != length) {
+			throw new IllegalStateException("Mismatched record length at offset " + start);
+		}
+		long timestamp = buffer.getLong();
+		byte code = buffer.get();
+		String previousValue = getValue(buffer);
+		String value = getValue(buffer);
+		if (buffer.position() != start + length - Integer.BYTES) {
+			throw new IllegalStateException("Mismatched record content at offset " + start);
+		}
+		return JournalField.getByCode(code).map(field -> new Change(timestamp, field, previousValue, value)).orElse(null);
+	}
+
+	private static void putValue(ByteBuffer buffer, byte[] value) {
+		if (value == null) {
+			buffer.putShort(NULL_LENGTH);
+		} else {
+			buffer.putShort((short) value.length).put(value);
+		}
+	}
+
+	private static String getValue(ByteBuffer buffer) {
+		short length = buffer.getShort();
+		if (length == NULL_LENGTH) {
+			return null;
+		}
+		byte[] value = new byte[length];
+		buffer.get(value);
+		return new String(value, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] encode(String value) {
+		return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String truncate(String value) {
+		return value == null || value.length() <= Constant.JOURNAL_MAX_VALUE_LENGTH ? value : value.substring(0, Constant.JOURNAL_MAX_VALUE_LENGTH);
+	}
+
+	/**
+	 * A transition of one field.
+	 *
+	 * @param timestamp the time the new value was retrieved, in epoch milliseconds
+	 * @param field the field that changed
+	 * @param previousValue the value before the transition, {@code null} if not reported or never journaled
+	 * @param value the value after the transition, {@code null} if not reported
+	 */
+	public record Change(long timestamp, JournalField field, String previousValue, String value) {
+	}
+}
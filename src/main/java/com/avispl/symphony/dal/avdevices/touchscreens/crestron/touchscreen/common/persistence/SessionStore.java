@@ -0,0 +1,199 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+
+/**
+ * Persists the authenticated session of one device and user to a local file, encrypted at rest, so that a restarted
+ * communicator can reuse it instead of logging in again.
+ * <p>
+ * The session is encrypted with AES-GCM under a key derived from the device password with PBKDF2 and a random salt,
+ * and the host and login are bound to the ciphertext as associated data. A file copied to another host or user, or
+ * written with a different password, fails authentication and is treated as absent.
+ * </p>
+ * <p>
+ * I/O and decryption failures are logged and never propagated, as the store is an optimization and a full login is
+ * always possible. Instances are not thread-safe; callers serialize access.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class SessionStore {
+	private static final Log LOGGER = LogFactory.getLog(SessionStore.class);
+	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+	private static final byte FORMAT_VERSION = 1;
+	private static final int SALT_LENGTH = 16;
+	private static final int IV_LENGTH = 12;
+	private static final int TAG_LENGTH_BITS = 128;
+	private static final int KEY_LENGTH_BITS = 256;
+	private static final String KEY_DERIVATION_ALGORITHM = "PBKDF2WithHmacSHA256";
+	private static final String CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
+
+	private final Path file;
+	private final byte[] associatedData;
+	private final char[] password;
+
+	/**
+	 * Creates a store backed by the given file.
+	 *
+	 * @param file the session file of one device and user
+	 * @param host the device host, bound to the stored session
+	 * @param login the login the session belongs to
+	 * @param password the password the encryption key is derived from
+	 */
+	public SessionStore(Path file, String host, String login, String password) {
+		this.file = file;
+		this.associatedData = (host + Constant.HASH + login).getBytes(StandardCharsets.UTF_8);
+		this.password = password.toCharArray();
+	}
+
+	/**
+	 * Resolves the session file of a host and login within the given directory.
+	 *
+	 * @param directory the session store directory
+	 * @param host the device host
+	 * @param login the login the session belongs to
+	 * @return the path of the session file; characters that are not valid in file names are replaced
+	 */
+	public static Path resolveFile(Path directory, String host, String login) {
+		String name = Constant.NON_ALPHANUMERIC_PATTERN.matcher(host + "_" + login).replaceAll("_");
+		return directory.resolve(name + Constant.SESSION_FILE_EXTENSION);
+	}
+
+	/**
+	 * Reads the stored session.
+	 *
+	 * @return the stored session, or {@code null} if there is none or it cannot be read or decrypted
+	 */
+	public StoredSession load() {
+		if (!Files.isRegularFile(this.file)) {
+			return null;
+		}
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(this.file));
+			if (buffer.get() != FORMAT_VERSION) {
+				throw new IOException("Unsupported session file format");
+			}
+			byte[] salt = new byte[SALT_LENGTH];
+			byte[] iv = new byte[IV_LENGTH];
+			buffer.get(salt).get(iv);
+			byte[] cipherText = new byte[buffer.remaining()];
+			buffer.get(cipherText);
+			Cipher cipher = this.createCipher(Cipher.DECRYPT_MODE, salt, iv);
+			try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(cipher.doFinal(cipherText)))) {
+				return new StoredSession(input.readUTF(), input.readUTF(), input.readUTF(), input.readLong());
+			}
+		} catch (IOException | GeneralSecurityException | RuntimeException e) {
+			LOGGER.warn(Constant.SESSION_READ_FAILED_WARNING.formatted(this.file, e.getMessage()));
+			return null;
+		}
+	}
+
+	/**
+	 * Encrypts and stores the session, replacing the previous one atomically.
+	 *
+	 * @param session the session to store
+	 */
+	public void save(StoredSession session) {
+		try {
+			ByteArrayOutputStream plainText = new ByteArrayOutputStream();
+			try (DataOutputStream output = new DataOutputStream(plainText)) {
+				output.writeUTF(session.trackId());
+				output.writeUTF(session.cookie());
+				output.writeUTF(session.refreshToken());
+				output.writeLong(session.acquiredAt());
+			}
+			byte[] salt = new byte[SALT_LENGTH];
+			byte[] iv = new byte[IV_LENGTH];
+			SECURE_RANDOM.nextBytes(salt);
+			SECURE_RANDOM.nextBytes(iv);
+			byte[] cipherText = this.createCipher(Cipher.ENCRYPT_MODE, salt, iv).doFinal(plainText.toByteArray());
+			byte[] content = ByteBuffer.allocate(1 + SALT_LENGTH + IV_LENGTH + cipherText.length)
+					.put(FORMAT_VERSION).put(salt).put(iv).put(cipherText).array();
+
+			Path directory = this.file.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			Path temporaryFile = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+			try {
+				restrictPermissions(temporaryFile);
+				Files.write(temporaryFile, content);
+				Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temporaryFile);
+			}
+		} catch (IOException | GeneralSecurityException e) {
+			LOGGER.warn(Constant.SESSION_WRITE_FAILED_WARNING.formatted(this.file), e);
+		}
+	}
+
+	/**
+	 * Deletes the stored session, e.g. after the device rejected it.
+	 */
+	public void clear() {
+		try {
+			Files.deleteIfExists(this.file);
+		} catch (IOException e) {
+			LOGGER.warn(Constant.SESSION_WRITE_FAILED_WARNING.formatted(this.file), e);
+		}
+	}
+
+	private Cipher createCipher(int mode, byte[] salt, byte[] iv) throws GeneralSecurityException {
+		PBEKeySpec keySpec = new PBEKeySpec(this.password, salt, Constant.SESSION_KEY_ITERATIONS, KEY_LENGTH_BITS);
+		try {
+			SecretKey secretKey = SecretKeyFactory.getInstance(KEY_DERIVATION_ALGORITHM).generateSecret(keySpec);
+			Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+			cipher.init(mode, new SecretKeySpec(secretKey.getEncoded(), "AES"), new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+			cipher.updateAAD(this.associatedData);
+			return cipher;
+		} finally {
+			keySpec.clearPassword();
+		}
+	}
+
+	/**
+	 * Restricts the file to its owner where the file system supports POSIX permissions.
+	 */
+	private static void restrictPermissions(Path path) throws IOException {
+		try {
+			Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+		} catch (UnsupportedOperationException e) {
+			//	Not a POSIX file system; the file keeps the directory's default permissions
+		}
+	}
+
+	/**
+	 * An authenticated session as stored on disk.
+	 *
+	 * @param trackId the track ID cookie obtained by the GET login request
+	 * @param cookie the session cookies obtained by the POST login request
+	 * @param refreshToken the XSRF token sent with POST requests
+	 * @param acquiredAt the time the session was obtained, in epoch milliseconds
+	 */
+	public record StoredSession(String trackId, String cookie, String refreshToken, long acquiredAt) {
+	}
+}
@@ -0,0 +1,194 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.persistence;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter.RetrievalType;
+
+/**
+ * Persists the last retrieved model of each {@link RetrievalType} of one device to a local file, so that a restarted
+ * communicator can serve the last known data before its first poll completes.
+ * <p>
+ * The file is an append-only log with one record per line: the group name, the capture timestamp and the model as
+ * compact JSON, separated by tabs. A record is appended when a group's model changes, or when the persisted record is
+ * older than {@link Constant#SNAPSHOT_REFRESH_INTERVAL_MS} so that the restored data age stays accurate for groups
+ * that never change. The latest record of a group wins on restore, and the file is rewritten with only the latest records once it holds
+ * {@link Constant#SNAPSHOT_COMPACTION_RECORDS} records. Compaction writes a temporary file and moves it over the log,
+ * so a crash leaves either the old or the new file, and a torn last line is skipped on restore.
+ * </p>
+ * <p>
+ * I/O failures are logged and never propagated, as the snapshot is an optimization and must not affect polling.
+ * Instances are not thread-safe; callers serialize access.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class SnapshotStore {
+	private static final Log LOGGER = LogFactory.getLog(SnapshotStore.class);
+	private static final String SEPARATOR = "\t";
+
+	private final Path file;
+	private final ObjectMapper objectMapper;
+	/** Latest persisted JSON of each group, used to skip unchanged models. */
+	private final Map<RetrievalType, Record> records;
+	private int recordCount;
+
+	/**
+	 * Creates a store backed by the given file. The file and its directory are created on the first write.
+	 *
+	 * @param file the snapshot file of one device
+	 * @param objectMapper the mapper used to serialize the models; they are bound with the readers of {@link ResponseType}
+	 */
+	public SnapshotStore(Path file, ObjectMapper objectMapper) {
+		this.file = file;
+		this.objectMapper = objectMapper;
+		this.records = new EnumMap<>(RetrievalType.class);
+	}
+
+	/**
+	 * Resolves the snapshot file of a host within the given directory.
+	 *
+	 * @param directory the snapshot directory
+	 * @param host the device host; characters that are not valid in file names are replaced
+	 * @return the path of the host's snapshot file
+	 */
+	public static Path resolveFile(Path directory, String host) {
+		return directory.resolve(Constant.NON_ALPHANUMERIC_PATTERN.matcher(host).replaceAll("_") + Constant.SNAPSHOT_FILE_EXTENSION);
+	}
+
+	/**
+	 * Reads the latest persisted model of each group.
+	 *
+	 * @return the restored models by retrieval type; empty if the file does not exist or cannot be read
+	 */
+	public Map<RetrievalType, RestoredModel> restore() {
+		Map<RetrievalType, RestoredModel> restoredModels = new EnumMap<>(RetrievalType.class);
+		if (!Files.isRegularFile(this.file)) {
+			return restoredModels;
+		}
+		List<String> lines;
+		try {
+			lines = Files.readAllLines(this.file, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			LOGGER.warn(Constant.SNAPSHOT_READ_FAILED_WARNING.formatted(this.file), e);
+			return restoredModels;
+		}
+		this.records.clear();
+		for (String line : lines) {
+			String[] fields = line.split(SEPARATOR, 3);
+			try {
+				RetrievalType retrievalType = RetrievalType.valueOf(fields[0]);
+				this.records.put(retrievalType, new Record(Long.parseLong(fields[1]), fields[2]));
+			} catch (RuntimeException e) {
+				LOGGER.warn(Constant.SNAPSHOT_RECORD_SKIPPED_WARNING.formatted(this.file, e.getMessage()));
+			}
+		}
+		this.recordCount = lines.size();
+		this.records.entrySet().removeIf(entry -> {
+			try {
+				Object model = readModel(entry.getKey().getResponseType(), entry.getValue().json());
+				restoredModels.put(entry.getKey(), new RestoredModel(model, entry.getValue().capturedAt()));
+				return false;
+			} catch (JacksonException e) {
+				LOGGER.warn(Constant.SNAPSHOT_RECORD_SKIPPED_WARNING.formatted(this.file, e.getOriginalMessage()));
+				return true;
+			}
+		});
+		return restoredModels;
+	}
+
+	/**
+	 * Persists the model of a group if it differs from the last persisted one, or if the last persisted record is due
+	 * for a refresh.
+	 *
+	 * @param retrievalType the group the model belongs to
+	 * @param model the latest retrieved model
+	 * @param capturedAt the time the model was retrieved, in epoch milliseconds
+	 */
+	public void persist(RetrievalType retrievalType, Object model, long capturedAt) {
+		try {
+			String json = this.objectMapper.writeValueAsString(model);
+			Record previous = this.records.get(retrievalType);
+			if (previous != null && previous.json().equals(json) && capturedAt - previous.capturedAt() < Constant.SNAPSHOT_REFRESH_INTERVAL_MS) {
+				return;
+			}
+			Record record = new Record(capturedAt, json);
+			this.records.put(retrievalType, record);
+			if (this.recordCount + 1 >= Constant.SNAPSHOT_COMPACTION_RECORDS) {
+				this.compact();
+			} else {
+				Files.createDirectories(this.file.toAbsolutePath().getParent());
+				Files.writeString(this.file, format(retrievalType, record), StandardCharsets.UTF_8,
+						StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+				this.recordCount++;
+			}
+		} catch (IOException e) {
+			LOGGER.warn(Constant.SNAPSHOT_WRITE_FAILED_WARNING.formatted(retrievalType.getGroupName(), this.file), e);
+		}
+	}
+
+	/**
+	 * Rewrites the file with only the latest record of each group.
+	 *
+	 * @throws IOException if the file cannot be written
+	 */
+	private void compact() throws IOException {
+		Path directory = this.file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temporaryFile = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+				for (Map.Entry<RetrievalType, Record> entry : this.records.entrySet()) {
+					writer.write(format(entry.getKey(), entry.getValue()));
+				}
+			}
+			Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			this.recordCount = this.records.size();
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	private Object readModel(ResponseType responseType, String json) throws JacksonException {
+		return responseType.getReader().readValue(json);
+	}
+
+	private static String format(RetrievalType retrievalType, Record record) {
+		return retrievalType.name() + SEPARATOR + record.capturedAt() + SEPARATOR + record.json() + System.lineSeparator();
+	}
+
+	/**
+	 * A model restored from the snapshot.
+	 *
+	 * @param model the restored model
+	 * @param capturedAt the time the model was retrieved from the device, in epoch milliseconds
+	 */
+	public record RestoredModel(Object model, long capturedAt) {
+	}
+
+	/**
+	 * A persisted record of one group.
+	 *
+	 * @param capturedAt the time the model was retrieved, in epoch milliseconds
+	 * @param json the model as compact JSON
+	 */
+	private record Record(long capturedAt, String json) {
+	}
+}
@@ -0,0 +1,256 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.plan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseProperty;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.EndpointProperty;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter.RetrievalType;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Display;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Network;
+
+/**
+ * Property-level selection compiled from include and exclude filters, with the endpoints requested for each group.
+ * <p>
+ * A filter is a group name followed by {@code #} or {@code .} and a glob over the property names of the group, where
+ * {@code *} matches any characters and {@code ?} a single one, e.g. {@code Display.Audio*} or {@code Network#LAN*}. A
+ * group name alone selects the whole group, and a leading {@code !} makes the filter an exclude. Matching ignores case.
+ * A property is selected unless its group has includes that it matches none of, or it matches an exclude.
+ * </p>
+ * <p>
+ * Groups whose properties are {@link EndpointProperty} are retrieved from the deepest sub-paths holding their selected
+ * properties, e.g. {@code /Device/Display/Audio} instead of {@code /Device/Display}, and from their own endpoint when
+ * every sub-path is needed.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public final class FetchPlan {
+	/** Plan selecting every property, which retrieves each group from its own endpoint. */
+	public static final FetchPlan UNFILTERED = new FetchPlan(Collections.emptyList());
+
+	private final List<Filter> filters;
+	private final Set<String> includedGroups;
+	private final Map<RetrievalType, List<String>> endpoints;
+
+	private FetchPlan(List<Filter> filters) {
+		this.filters = filters;
+		this.includedGroups = filters.stream().filter(filter -> !filter.exclude())
+				.map(filter -> filter.group().toLowerCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+		this.endpoints = new EnumMap<>(RetrievalType.class);
+		for (RetrievalType retrievalType : RetrievalType.values()) {
+			EndpointProperty[] properties = getEndpointProperties(retrievalType);
+			this.endpoints.put(retrievalType, properties == null
+					? List.of(retrievalType.getEndpoint())
+					: this.planEndpoints(retrievalType, properties));
+		}
+	}
+
+	/**
+	 * Compiles comma-separated property filters into a plan.
+	 *
+	 * @param propertyFilters the filters; {@code null} or blank selects every property
+	 * @return the compiled plan
+	 */
+	public static FetchPlan compile(String propertyFilters) {
+		if (propertyFilters == null || propertyFilters.isBlank()) {
+			return UNFILTERED;
+		}
+		List<Filter> filters = Arrays.stream(propertyFilters.split(Constant.COMMA))
+				.map(String::trim).filter(filter -> !filter.isEmpty() && !"!".equals(filter))
+				.map(Filter::parse).toList();
+		return filters.isEmpty() ? UNFILTERED : new FetchPlan(filters);
+	}
+
+	/**
+	 * Returns the filters of the plan, as they are configured.
+	 *
+	 * @return the comma-separated filters, empty if every property is selected
+	 */
+	public String getFilters() {
+		return this.filters.stream().map(Filter::source).collect(Collectors.joining(Constant.COMMA_SPACE));
+	}
+
+	/**
+	 * Returns the group names the filters refer to.
+	 *
+	 * @return the group names, as configured
+	 */
+	public Set<String> getGroups() {
+		return this.filters.stream().map(Filter::group).collect(Collectors.toCollection(TreeSet::new));
+	}
+
+	/**
+	 * Checks whether the plan selects every property.
+	 *
+	 * @return {@code true} if no filter is configured, {@code false} otherwise
+	 */
+	public boolean isUnfiltered() {
+		return this.filters.isEmpty();
+	}
+
+	/**
+	 * Checks whether a property is selected.
+	 *
+	 * @param groupName the group of the property
+	 * @param propertyName the name of the property within the group
+	 * @return {@code true} if the property is selected, {@code false} otherwise
+	 */
+	public boolean isSelected(String groupName, String propertyName) {
+		if (this.filters.isEmpty()) {
+			return true;
+		}
+		boolean included = !this.includedGroups.contains(groupName.toLowerCase(Locale.ROOT));
+		for (Filter filter : this.filters) {
+			if (filter.matches(groupName, propertyName)) {
+				if (filter.exclude()) {
+					return false;
+				}
+				included = true;
+			}
+		}
+		return included;
+	}
+
+	/**
+	 * Checks whether a property is selected from its full name.
+	 *
+	 * @param propertyName the name of the property in the {@link Constant#PROPERTY_FORMAT} format
+	 * @return {@code true} if the property is selected or has no group, {@code false} otherwise
+	 */
+	public boolean isSelected(String propertyName) {
+		int separator = propertyName.indexOf(Constant.HASH);
+		return separator < 0 || this.isSelected(propertyName.substring(0, separator), propertyName.substring(separator + 1));
+	}
+
+	/**
+	 * Returns the selected properties among the given ones.
+	 *
+	 * @param properties the properties of a group
+	 * @param groupName the name of the group
+	 * @param <T> the property enum
+	 * @return the selected properties, or {@code properties} itself if all are selected
+	 */
+	public <T extends Enum<T> & BaseProperty> T[] select(T[] properties, String groupName) {
+		if (this.filters.isEmpty()) {
+			return properties;
+		}
+		return Arrays.stream(properties).filter(property -> this.isSelected(groupName, property.getName()))
+				.toArray(length -> Arrays.copyOf(properties, length));
+	}
+
+	/**
+	 * Removes the properties that are not selected from generated properties.
+	 *
+	 * @param properties the generated properties, keyed in the {@link Constant#PROPERTY_FORMAT} format
+	 * @return the selected properties, or {@code properties} itself if all are selected
+	 */
+	public Map<String, String> select(Map<String, String> properties) {
+		if (this.filters.isEmpty()) {
+			return properties;
+		}
+		return properties.entrySet().stream().filter(entry -> this.isSelected(entry.getKey()))
+				.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+	}
+
+	/**
+	 * Returns the endpoints requested to retrieve a group.
+	 *
+	 * @param retrievalType the group
+	 * @return the endpoints in request order, empty if none of the group's properties is selected
+	 */
+	public List<String> getEndpoints(RetrievalType retrievalType) {
+		return this.endpoints.get(retrievalType);
+	}
+
+	/**
+	 * Computes the endpoints of a group from the sub-paths of its selected properties, leaving out sub-paths nested in
+	 * another requested one.
+	 *
+	 * @param retrievalType the group
+	 * @param properties all properties of the group
+	 * @return the endpoints of the group
+	 */
+	private List<String> planEndpoints(RetrievalType retrievalType, EndpointProperty[] properties) {
+		Set<String> allEndpoints = new TreeSet<>();
+		Set<String> selectedEndpoints = new TreeSet<>();
+		for (EndpointProperty property : properties) {
+			allEndpoints.add(property.getEndpoint());
+			if (this.isSelected(retrievalType.getGroupName(), property.getName())) {
+				selectedEndpoints.add(property.getEndpoint());
+			}
+		}
+		if (selectedEndpoints.equals(allEndpoints)) {
+			return List.of(retrievalType.getEndpoint());
+		}
+		List<String> endpoints = new ArrayList<>();
+		for (String endpoint : selectedEndpoints) {
+			//	Sorted paths list a parent right before its children
+			if (endpoints.isEmpty() || !endpoint.startsWith(endpoints.get(endpoints.size() - 1) + "/")) {
+				endpoints.add(endpoint);
+			}
+		}
+		return List.copyOf(endpoints);
+	}
+
+	/**
+	 * Returns the properties of a group that are read from sub-paths of its endpoint.
+	 *
+	 * @param retrievalType the group
+	 * @return the properties of the group, or {@code null} if the group is always retrieved from its own endpoint
+	 */
+	private static EndpointProperty[] getEndpointProperties(RetrievalType retrievalType) {
+		return switch (retrievalType) {
+			case DISPLAY -> Display.values();
+			case NETWORK -> Network.values();
+			default -> null;
+		};
+	}
+
+	/**
+	 * A single include or exclude filter.
+	 *
+	 * @param source the filter as configured
+	 * @param group the group the filter applies to
+	 * @param pattern the pattern of the property names, {@code null} for the whole group
+	 * @param exclude whether matching properties are excluded
+	 */
+	private record Filter(String source, String group, Pattern pattern, boolean exclude) {
+		static Filter parse(String source) {
+			boolean exclude = source.startsWith("!");
+			String filter = exclude ? source.substring(1).trim() : source;
+			int separator = filter.indexOf(Constant.HASH);
+			if (separator < 0) {
+				separator = filter.indexOf('.');
+			}
+			if (separator < 0) {
+				return new Filter(source, filter, null, exclude);
+			}
+			StringBuilder regex = new StringBuilder();
+			for (String literal : filter.substring(separator + 1).split("(?=[*?])|(?<=[*?])")) {
+				switch (literal) {
+					case "*" -> regex.append(".*");
+					case "?" -> regex.append('.');
+					default -> regex.append(Pattern.quote(literal));
+				}
+			}
+			return new Filter(source, filter.substring(0, separator).trim(), Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE), exclude);
+		}
+
+		boolean matches(String groupName, String propertyName) {
+			return this.group.equalsIgnoreCase(groupName) && (this.pattern == null || this.pattern.matcher(propertyName).matches());
+		}
+	}
+}
@@ -0,0 +1,368 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.push;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+
+/**
+ * Keeps a CresNext WebSocket connection open to receive the state changes pushed by a panel.
+ * <p>
+ * Each connection is authenticated through {@link Handler#authenticate()}, then requests every subscribed path once,
+ * which makes the panel send the current state of the subtree and push its subsequent changes. A connection that fails
+ * or closes is reopened on a background thread, after a delay starting at {@link Constant#PUSH_RECONNECT_BASE_MS} and
+ * doubling on each consecutive failure up to {@link Constant#PUSH_RECONNECT_MAX_MS}. The delay is reset once the panel
+ * sends a message or answers a ping, so a panel accepting connections and dropping them at once still backs off. An open
+ * connection is pinged periodically, and considered lost when a ping is still unanswered at the next one, since a panel
+ * losing power or its network does not close it.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class PushClient implements AutoCloseable {
+	private static final Log LOGGER = LogFactory.getLog(PushClient.class);
+
+	/**
+	 * Callbacks of a {@link PushClient}, invoked on its background threads.
+	 */
+	public interface Handler {
+		/**
+		 * Authenticates against the panel before a connection is opened.
+		 *
+		 * @return the headers of the WebSocket handshake request
+		 * @throws Exception if authentication fails
+		 */
+		Map<String, String> authenticate() throws Exception;
+
+		/**
+		 * Called when a connection is opened.
+		 */
+		void onConnected();
+
+		/**
+		 * Called with each complete message received.
+		 *
+		 * @param message the text of the message
+		 */
+		void onMessage(String message);
+
+		/**
+		 * Called when a connection cannot be opened, fails or is closed by the panel.
+		 *
+		 * @param error the failure, or {@code null} if the panel closed the connection
+		 */
+		void onDisconnected(Throwable error);
+	}
+
+	private final URI uri;
+	private final List<String> subscriptions;
+	private final Handler handler;
+	private final long connectTimeoutMs;
+	private final long pingIntervalMs;
+	private final ScheduledExecutorService executor;
+	private HttpClient httpClient;
+	private volatile WebSocket webSocket;
+	private volatile boolean closed;
+	private volatile boolean pongPending;
+	private volatile int consecutiveFailures;
+
+	/**
+	 * Creates a client, which does not connect until {@link #start()} is called.
+	 *
+	 * @param uri the WebSocket URI of the panel
+	 * @param subscriptions the paths requested on each connection
+	 * @param handler the callbacks of the client
+	 * @param connectTimeoutMs the time in milliseconds to wait for a connection to open
+	 * @param pingIntervalMs the time in milliseconds between two pings of an open connection, {@code 0} to disable them
+	 */
+	public PushClient(URI uri, List<String> subscriptions, Handler handler, long connectTimeoutMs, long pingIntervalMs) {
+		this.uri = uri;
+		this.subscriptions = List.copyOf(subscriptions);
+		this.handler = handler;
+		this.connectTimeoutMs = Math.max(Constant.MIN_REQUEST_TIMEOUT_MS, connectTimeoutMs);
+		this.pingIntervalMs = Math.max(0, pingIntervalMs);
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "CrestronTouchPanelPush-" + uri.getHost());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Opens the first connection in the background.
+	 */
+	public void start() {
+		this.executor.execute(this::connect);
+		if (this.pingIntervalMs > 0) {
+			this.executor.scheduleWithFixedDelay(this::ping, this.pingIntervalMs, this.pingIntervalMs, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Checks whether a connection is currently open.
+	 *
+	 * @return {@code true} if connected, {@code false} otherwise
+	 */
+	public boolean isConnected() {
+		WebSocket current = this.webSocket;
+		return current != null && !current.isInputClosed() && !current.isOutputClosed();
+	}
+
+	/**
+	 * Closes the connection and stops reconnecting.
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+		this.executor.shutdownNow();
+		WebSocket current = this.webSocket;
+		this.webSocket = null;
+		if (current != null) {
+			current.abort();
+		}
+	}
+
+	/**
+	 * Authenticates, opens a connection and sends the subscriptions. Runs on {@link #executor}.
+	 */
+	private void connect() {
+		if (this.closed) {
+			return;
+		}
+		WebSocket connected = null;
+		try {
+			Map<String, String> headers = this.handler.authenticate();
+			WebSocket.Builder builder = this.getHttpClient().newWebSocketBuilder().connectTimeout(Duration.ofMillis(this.connectTimeoutMs));
+			headers.forEach((name, value) -> {
+				if (value != null) {
+					builder.header(name, value);
+				}
+			});
+			connected = builder.buildAsync(this.uri, new MessageListener()).get(this.connectTimeoutMs, TimeUnit.MILLISECONDS);
+			synchronized (this) {
+				this.webSocket = connected;
+			}
+			//	The listener may have reported the end of the connection before it was assigned, which was then ignored
+			if (connected.isInputClosed()) {
+				this.onConnectionLost(connected, null);
+				return;
+			}
+			this.pongPending = false;
+			for (String subscription : this.subscriptions) {
+				connected.sendText(subscription, true).get(this.connectTimeoutMs, TimeUnit.MILLISECONDS);
+			}
+			this.handler.onConnected();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			this.onConnectFailed(connected, e.getCause());
+		} catch (Exception e) {
+			this.onConnectFailed(connected, e);
+		}
+	}
+
+	/**
+	 * Pings the open connection, or aborts it if the previous ping is still unanswered. Runs on {@link #executor}.
+	 */
+	private void ping() {
+		WebSocket current = this.webSocket;
+		if (current == null) {
+			return;
+		}
+		if (this.pongPending) {
+			current.abort();
+			this.onConnectionLost(current, new IOException("No pong received within " + this.pingIntervalMs + " ms"));
+			return;
+		}
+		this.pongPending = true;
+		current.sendPing(ByteBuffer.allocate(0)).exceptionally(error -> {
+			current.abort();
+			this.onConnectionLost(current, error);
+			return current;
+		});
+	}
+
+	/**
+	 * Aborts a connection that failed while being set up and reports it, unless its listener already did.
+	 *
+	 * @param connected the opened connection, or {@code null} if it could not be opened
+	 * @param error the failure
+	 */
+	private void onConnectFailed(WebSocket connected, Throwable error) {
+		if (connected != null) {
+			connected.abort();
+		}
+		this.onConnectionLost(connected, error);
+	}
+
+	/**
+	 * Handles the end of a connection once, however many of its callbacks report it.
+	 *
+	 * @param lost the connection that ended, or {@code null} if it could not be opened
+	 * @param error the failure, or {@code null} if the panel closed the connection
+	 */
+	private synchronized void onConnectionLost(WebSocket lost, Throwable error) {
+		if (this.webSocket != lost) {
+			return;
+		}
+		this.webSocket = null;
+		try {
+			this.executor.execute(() -> this.onDisconnected(error));
+		} catch (RuntimeException e) {
+			//	The client was closed concurrently
+		}
+	}
+
+	/**
+	 * Reports a lost connection to the handler and schedules the next connection attempt.
+	 *
+	 * @param error the failure, or {@code null} if the panel closed the connection
+	 */
+	private void onDisconnected(Throwable error) {
+		if (this.closed) {
+			return;
+		}
+		this.handler.onDisconnected(error);
+		long delay = Math.min(Constant.PUSH_RECONNECT_BASE_MS << Math.min(this.consecutiveFailures, 16), Constant.PUSH_RECONNECT_MAX_MS);
+		this.consecutiveFailures++;
+		if (LOGGER.isWarnEnabled()) {
+			LOGGER.warn(Constant.PUSH_DISCONNECTED_WARNING.formatted(this.uri, error == null ? "closed by the device" : error.toString(), delay));
+		}
+		try {
+			this.executor.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+		} catch (RuntimeException e) {
+			//	The client was closed concurrently
+		}
+	}
+
+	/**
+	 * Returns the HTTP client opening the connections, created on first use. Certificates are not validated, as for the
+	 * REST requests of the adapter, because panels use self-signed certificates.
+	 *
+	 * @return the HTTP client
+	 * @throws GeneralSecurityException if the TLS context cannot be created
+	 */
+	private HttpClient getHttpClient() throws GeneralSecurityException {
+		if (this.httpClient == null) {
+			SSLContext sslContext = SSLContext.getInstance("TLS");
+			sslContext.init(null, new TrustManager[] { new TrustAllManager() }, null);
+			this.httpClient = HttpClient.newBuilder()
+					.sslContext(sslContext)
+					.connectTimeout(Duration.ofMillis(this.connectTimeoutMs))
+					.build();
+		}
+		return this.httpClient;
+	}
+
+	/**
+	 * Reassembles the received text frames into messages and reports the end of the connection.
+	 */
+	private class MessageListener implements WebSocket.Listener {
+		private final StringBuilder buffer = new StringBuilder();
+		private boolean received;
+
+		@Override
+		public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+			this.onReceived();
+			this.buffer.append(data);
+			if (last) {
+				String message = this.buffer.toString();
+				this.buffer.setLength(0);
+				try {
+					PushClient.this.handler.onMessage(message);
+				} catch (RuntimeException e) {
+					LOGGER.warn(Constant.PUSH_MESSAGE_FAILED_WARNING.formatted(PushClient.this.uri), e);
+				}
+			}
+			webSocket.request(1);
+			return null;
+		}
+
+		@Override
+		public CompletionStage<?> onPong(WebSocket webSocket, ByteBuffer message) {
+			this.onReceived();
+			webSocket.request(1);
+			return null;
+		}
+
+		@Override
+		public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+			PushClient.this.onConnectionLost(webSocket, null);
+			return null;
+		}
+
+		@Override
+		public void onError(WebSocket webSocket, Throwable error) {
+			PushClient.this.onConnectionLost(webSocket, error);
+		}
+
+		/**
+		 * Marks the pending ping as answered and, on the first frame of the connection, resets the reconnection delay.
+		 * Listener callbacks are invoked one at a time.
+		 */
+		private void onReceived() {
+			PushClient.this.pongPending = false;
+			if (!this.received) {
+				this.received = true;
+				PushClient.this.consecutiveFailures = 0;
+			}
+		}
+	}
+
+	/**
+	 * Trust manager accepting every certificate and skipping host name verification.
+	 */
+	private static class TrustAllManager extends X509ExtendedTrustManager {
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType) {
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType) {
+		}
+
+		@Override
+		public X509Certificate[] getAcceptedIssuers() {
+			return new X509Certificate[0];
+		}
+	}
+}
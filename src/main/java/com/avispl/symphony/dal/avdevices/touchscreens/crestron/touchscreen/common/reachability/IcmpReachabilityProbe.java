@@ -0,0 +1,55 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.reachability;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.icmp4j.IcmpPingRequest;
+import org.icmp4j.IcmpPingResponse;
+import org.icmp4j.IcmpPingUtil;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+
+/**
+ * Probes a device with a single ICMP echo request through the bundled icmp4j library. The port is ignored.
+ * A network that filters ICMP makes every device look unreachable, so {@link TcpReachabilityProbe} is preferred there.
+ * <p>
+ * Only a timed out or failed echo reports the device unreachable. When icmp4j cannot run at all, e.g. its native
+ * library fails to load, the result says nothing about the device, so the failure is logged once and this probe
+ * falls back to {@link TcpReachabilityProbe} from then on.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class IcmpReachabilityProbe implements ReachabilityProbe {
+	private static final Log LOGGER = LogFactory.getLog(IcmpReachabilityProbe.class);
+	private static final int PACKET_SIZE = 32;
+
+	private final ReachabilityProbe fallback = new TcpReachabilityProbe();
+	private volatile boolean unavailable;
+
+	@Override
+	public ProbeResult probe(String host, int port, int timeoutMs) {
+		if (this.unavailable) {
+			return this.fallback.probe(host, port, timeoutMs);
+		}
+		IcmpPingResponse response;
+		try {
+			IcmpPingRequest request = IcmpPingUtil.createIcmpPingRequest();
+			request.setHost(host);
+			request.setPacketSize(PACKET_SIZE);
+			request.setTimeout(timeoutMs);
+			response = IcmpPingUtil.executePingRequest(request);
+		} catch (RuntimeException | LinkageError e) {
+			this.unavailable = true;
+			if (LOGGER.isWarnEnabled()) {
+				LOGGER.warn(Constant.ICMP_PROBE_UNAVAILABLE_WARNING.formatted(host), e);
+			}
+			return this.fallback.probe(host, port, timeoutMs);
+		}
+		if (response.getSuccessFlag()) {
+			return ProbeResult.reachable(response.getRtt());
+		}
+		return ProbeResult.unreachable(response.getTimeoutFlag() ? "ICMP echo timed out after %d ms".formatted(timeoutMs) : response.getErrorMessage());
+	}
+}
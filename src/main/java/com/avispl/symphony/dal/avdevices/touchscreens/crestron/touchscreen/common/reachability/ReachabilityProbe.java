@@ -0,0 +1,51 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.reachability;
+
+/**
+ * Checks whether a device answers at the network level before a poll cycle spends HTTP connect timeouts on it.
+ * Implementations must honour the timeout and report failures in the result instead of throwing.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@FunctionalInterface
+public interface ReachabilityProbe {
+	/**
+	 * Probes the given device.
+	 *
+	 * @param host the device host
+	 * @param port the port the device serves its API on
+	 * @param timeoutMs the maximum time to wait for an answer, in milliseconds
+	 * @return the result of the probe
+	 */
+	ProbeResult probe(String host, int port, int timeoutMs);
+
+	/**
+	 * The result of a probe.
+	 *
+	 * @param reachable whether the device answered within the timeout
+	 * @param rttMs the round-trip time in milliseconds, or {@code -1} if the device did not answer
+	 * @param error the reason the device is considered unreachable, or {@code null} if it answered
+	 */
+	record ProbeResult(boolean reachable, long rttMs, String error) {
+		/**
+		 * Creates the result of a device that answered.
+		 *
+		 * @param rttMs the round-trip time in milliseconds
+		 * @return the result
+		 */
+		public static ProbeResult reachable(long rttMs) {
+			return new ProbeResult(true, rttMs, null);
+		}
+
+		/**
+		 * Creates the result of a device that did not answer.
+		 *
+		 * @param error the reason the device is considered unreachable
+		 * @return the result
+		 */
+		public static ProbeResult unreachable(String error) {
+			return new ProbeResult(false, -1, error);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.reachability;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probes a device by opening and closing a TCP connection to its API port. Works where ICMP is filtered,
+ * and also detects a device whose network stack answers while its web server is down.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class TcpReachabilityProbe implements ReachabilityProbe {
+	@Override
+	public ProbeResult probe(String host, int port, int timeoutMs) {
+		long start = System.nanoTime();
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, port), timeoutMs);
+			return ProbeResult.reachable(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		} catch (IOException | IllegalArgumentException e) {
+			return ProbeResult.unreachable(e.getMessage());
+		}
+	}
+}
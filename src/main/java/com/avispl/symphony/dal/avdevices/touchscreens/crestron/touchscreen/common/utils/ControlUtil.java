@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -16,6 +17,7 @@ import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.commo
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay.Audio;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay.VirtualButtons;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DisplaySnapshot;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.Lcd;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.Lcd.AutoBrightness;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.Lcd.Presets;
@@ -34,106 +36,139 @@ public final class ControlUtil {
 	private static final Log LOGGER = LogFactory.getLog(ControlUtil.class);
 
 	/**
-	 * Generates a list of {@link AdvancedControllableProperty} for the given {@link DeviceDisplay}.
+	 * Generates a list of {@link AdvancedControllableProperty} for the given {@link DisplaySnapshot}.
 	 * <p>
 	 * Includes controls for LCD, audio, button toolbar and local setup access.
 	 * </p>
 	 *
-	 * @param display the {@link DeviceDisplay} to build controllers from; if null, an empty list is returned
+	 * @param display the {@link DisplaySnapshot} to build controllers from; if null, an empty list is returned
 	 * @return list of controllable properties for the display
 	 */
-	public static List<AdvancedControllableProperty> generateDisplayControllers(DeviceDisplay display) {
+	public static List<AdvancedControllableProperty> generateDisplayControllers(DisplaySnapshot display) {
+		return generateDisplayControllers(display, property -> true);
+	}
+
+	/**
+	 * Generates the {@link AdvancedControllableProperty} of the selected {@link Display} properties for the given
+	 * {@link DisplaySnapshot}, so that no controller is built from values that were not retrieved.
+	 *
+	 * @param display the {@link DisplaySnapshot} to build controllers from; if null, an empty list is returned
+	 * @param selected tests whether the controller of a property is generated
+	 * @return list of controllable properties for the display
+	 */
+	public static List<AdvancedControllableProperty> generateDisplayControllers(DisplaySnapshot display, Predicate<Display> selected) {
 		if (display == null) {
 			LOGGER.warn("The display is null, returning empty property");
 			return new ArrayList<>();
 		}
 		String prefixName = Constant.DISPLAY_GROUP;
-		Lcd lcd = Util.getLcd(display);
-		Lcd.AutoBrightness autoBrightness = Util.getLcdAutoBrightness(display);
-		Lcd.Presets presets = Util.getLcdPresets(display);
-		DeviceDisplay.Audio audio = Util.getDisplayAudio(display);
-		DeviceDisplay.VirtualButtons buttonToolbar = Util.getDisplayButtonToolbar(display);
 		List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
-		controllableProperties.add(ControllablePropertyFactory.createSwitch(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LOCAL_SETUP_SEQUENCE.getName()),
-				getSwitchValue(display.getIsLocalSetupAccessEnabled())
-		));
+		if (selected.test(Display.LOCAL_SETUP_SEQUENCE)) {
+			controllableProperties.add(ControllablePropertyFactory.createSwitch(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LOCAL_SETUP_SEQUENCE.getName()),
+					getSwitchValue(display.getIsLocalSetupAccessEnabled())
+			));
+		}
 		//	Add LCD's controllable properties
-		controllableProperties.add(ControllablePropertyFactory.createSwitch(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LCD_AUTO_BRIGHTNESS.getName()),
-				getSwitchValue(autoBrightness.getIsEnabled())
-		));
-		if (Boolean.TRUE.equals(autoBrightness.getIsEnabled())) {
-			controllableProperties.add(createSlider(
-					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LCD_ALS_THRESHOLD.getName()),
-					100, autoBrightness.getThresholdValue()
+		if (selected.test(Display.LCD_AUTO_BRIGHTNESS)) {
+			controllableProperties.add(ControllablePropertyFactory.createSwitch(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LCD_AUTO_BRIGHTNESS.getName()),
+					getSwitchValue(display.getIsAutoBrightnessEnabled())
 			));
-		} else {
+		}
+		if (Boolean.TRUE.equals(display.getIsAutoBrightnessEnabled())) {
+			if (selected.test(Display.LCD_ALS_THRESHOLD)) {
+				controllableProperties.add(createSlider(
+						String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LCD_ALS_THRESHOLD.getName()),
+						100, display.getAlsThreshold()
+				));
+			}
+		} else if (selected.test(Display.LCD_BRIGHTNESS)) {
 			controllableProperties.add(createSlider(
 					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LCD_BRIGHTNESS.getName()),
-					100, lcd.getBrightness()
+					100, display.getBrightness()
+			));
+		}
+		if (selected.test(Display.LCD_BRIGHTNESS_HIGH_PRESET)) {
+			controllableProperties.add(createSlider(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LCD_BRIGHTNESS_HIGH_PRESET.getName()),
+					100, display.getHighPreset()
+			));
+		}
+		if (selected.test(Display.LCD_BRIGHTNESS_LOW_PRESET)) {
+			controllableProperties.add(createSlider(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LCD_BRIGHTNESS_LOW_PRESET.getName()),
+					100, display.getLowPreset()
+			));
+		}
+		if (selected.test(Display.LCD_STANDBY_TIMEOUT)) {
+			controllableProperties.add(createSlider(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LCD_STANDBY_TIMEOUT.getName()),
+					120, display.getStandbyTimeoutMinutes()
 			));
 		}
-		controllableProperties.add(createSlider(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LCD_BRIGHTNESS_HIGH_PRESET.getName()),
-				100, presets.getHighLevel()
-		));
-		controllableProperties.add(createSlider(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LCD_BRIGHTNESS_LOW_PRESET.getName()),
-				100, presets.getLowLevel()
-		));
-		controllableProperties.add(createSlider(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.LCD_STANDBY_TIMEOUT.getName()),
-				120, lcd.getStandbyTimeoutMinutes()
-		));
 		//	Add Audio's controllable properties
-		controllableProperties.add(ControllablePropertyFactory.createSwitch(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.AUDIO_PANEL_MUTE.getName()),
-				getSwitchValue(audio.getIsMuted())
-		));
-		if (Boolean.FALSE.equals(audio.getIsMuted())) {
+		if (selected.test(Display.AUDIO_PANEL_MUTE)) {
+			controllableProperties.add(ControllablePropertyFactory.createSwitch(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.AUDIO_PANEL_MUTE.getName()),
+					getSwitchValue(display.getIsMuted())
+			));
+		}
+		if (Boolean.FALSE.equals(display.getIsMuted()) && selected.test(Display.AUDIO_PANEL_VOLUME)) {
 			controllableProperties.add(createSlider(
 					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.AUDIO_PANEL_VOLUME.getName()),
-					100, audio.getVolume()
+					100, display.getVolume()
 			));
 		}
-		controllableProperties.add(ControllablePropertyFactory.createSwitch(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.AUDIO_MEDIA_MUTE.getName()),
-				getSwitchValue(audio.getIsMediaMuted())
-		));
-		if (Boolean.FALSE.equals(audio.getIsMediaMuted())) {
+		if (selected.test(Display.AUDIO_MEDIA_MUTE)) {
+			controllableProperties.add(ControllablePropertyFactory.createSwitch(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.AUDIO_MEDIA_MUTE.getName()),
+					getSwitchValue(display.getIsMediaMuted())
+			));
+		}
+		if (Boolean.FALSE.equals(display.getIsMediaMuted()) && selected.test(Display.AUDIO_MEDIA_VOLUME)) {
 			controllableProperties.add(createSlider(
 					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.AUDIO_MEDIA_VOLUME.getName()),
-					100, audio.getMediaVolume()
+					100, display.getMediaVolume()
+			));
+		}
+		if (selected.test(Display.AUDIO_BEEP_ENABLED)) {
+			controllableProperties.add(ControllablePropertyFactory.createSwitch(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.AUDIO_BEEP_ENABLED.getName()),
+					getSwitchValue(display.getIsBeepEnabled())
 			));
 		}
-		controllableProperties.add(ControllablePropertyFactory.createSwitch(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.AUDIO_BEEP_ENABLED.getName()),
-				getSwitchValue(audio.getIsBeepEnabled())
-		));
-		if (Boolean.TRUE.equals(audio.getIsBeepEnabled())) {
+		if (Boolean.TRUE.equals(display.getIsBeepEnabled()) && selected.test(Display.AUDIO_BEEP_VOLUME)) {
 			controllableProperties.add(createSlider(
 					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.AUDIO_BEEP_VOLUME.getName()),
-					100, audio.getBeepVolume()
+					100, display.getBeepVolume()
 			));
 		}
 		//	Add Button toolbar's controllable properties
-		controllableProperties.add(ControllablePropertyFactory.createSwitch(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.BUTTON_TOOLBAR_SHOW_ON_WAKE.getName()),
-				getSwitchValue(buttonToolbar.getIsShowOnWakeEnabled())
-		));
-		controllableProperties.add(ControllablePropertyFactory.createSwitch(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.BUTTON_TOOLBAR_SHOW_DURING_STANDBY.getName()),
-				getSwitchValue(buttonToolbar.getIsShowDuringStandbyEnabled())
-		));
-		controllableProperties.add(ControllablePropertyFactory.createDropdown(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.BUTTON_TOOLBAR_DISPLAY_EDGE.getName()),
-				DisplayEdge.getValues(), buttonToolbar.getDisplayEdge()
-		));
-		controllableProperties.add(createSlider(
-				String.format(Constant.PROPERTY_FORMAT, prefixName, Display.BUTTON_TOOLBAR_AUTO_HIDE_TIMEOUT.getName()),
-				600, buttonToolbar.getAutoHideTimeOutSeconds()
-		));
+		if (selected.test(Display.BUTTON_TOOLBAR_SHOW_ON_WAKE)) {
+			controllableProperties.add(ControllablePropertyFactory.createSwitch(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.BUTTON_TOOLBAR_SHOW_ON_WAKE.getName()),
+					getSwitchValue(display.getIsShowOnWakeEnabled())
+			));
+		}
+		if (selected.test(Display.BUTTON_TOOLBAR_SHOW_DURING_STANDBY)) {
+			controllableProperties.add(ControllablePropertyFactory.createSwitch(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.BUTTON_TOOLBAR_SHOW_DURING_STANDBY.getName()),
+					getSwitchValue(display.getIsShowDuringStandbyEnabled())
+			));
+		}
+		if (selected.test(Display.BUTTON_TOOLBAR_DISPLAY_EDGE)) {
+			controllableProperties.add(ControllablePropertyFactory.createDropdown(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.BUTTON_TOOLBAR_DISPLAY_EDGE.getName()),
+					DisplayEdge.getValues(), display.displayEdge()
+			));
+		}
+		if (selected.test(Display.BUTTON_TOOLBAR_AUTO_HIDE_TIMEOUT)) {
+			controllableProperties.add(createSlider(
+					String.format(Constant.PROPERTY_FORMAT, prefixName, Display.BUTTON_TOOLBAR_AUTO_HIDE_TIMEOUT.getName()),
+					600, display.getAutoHideTimeoutSeconds()
+			));
+		}
 
 		return controllableProperties;
 	}
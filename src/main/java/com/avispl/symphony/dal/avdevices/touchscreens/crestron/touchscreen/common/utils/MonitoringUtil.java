@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -22,18 +23,23 @@ import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceCapabilities;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceInfo;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.RetrievalStatus;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.SystemVersion;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay.Audio;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay.VirtualButtons;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.Lcd;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.Lcd.AutoBrightness;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.Lcd.Presets;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkAdapters;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.IPv6;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics.PollDiagnostics;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics.RollingAverage;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics.TransferCompression;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DisplaySnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.history.DisplayHistory;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.history.IntTimeSeries;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkSnapshot;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.AdapterMetadata;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Capabilities;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.DataFreshness;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Diagnostics;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Display;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.DisplayHistoryStatistic;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.DisplayMetric;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.General;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Network;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.SystemVersions;
@@ -102,7 +108,7 @@ public final class MonitoringUtil {
 	}
 
 	/**
-	 * Generates a key–value map representing all available {@link DeviceDisplay} properties.
+	 * Generates a key–value map representing all available {@link DisplaySnapshot} properties.
 	 * <p>
 	 * Each {@link Display} entry produces one or more key–value pairs using the naming format
 	 * defined in {@link Constant#PROPERTY_FORMAT}, prefixed by
@@ -110,143 +116,263 @@ public final class MonitoringUtil {
 	 * to {@link Constant#NOT_AVAILABLE} when not provided.
 	 * </p>
 	 *
-	 * @param display the {@link DeviceDisplay} instance to process; if null, an empty map is returned
+	 * @param display the {@link DisplaySnapshot} instance to process; if null, an empty map is returned
 	 * @return a {@link Map} containing formatted property names and their corresponding values
 	 */
-	public static Map<String, String> generateDisplayProperties(DeviceDisplay display) {
+	public static Map<String, String> generateDisplayProperties(DisplaySnapshot display) {
 		if (display == null) {
 			LOGGER.warn("The display is null, returning empty property");
 			return Collections.emptyMap();
 		}
 		String prefixName = Constant.DISPLAY_GROUP;
-		AutoBrightness autoBrightness = Util.getLcdAutoBrightness(display);
-		Audio audio = Util.getDisplayAudio(display);
-		Lcd lcd = Util.getLcd(display);
-		Presets presets = Util.getLcdPresets(display);
-		VirtualButtons buttonToolbar = Util.getDisplayButtonToolbar(display);
 		Map<String, String> properties = new HashMap<>();
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.DISPLAY_STATUS.getName()),
-				Optional.ofNullable(mapToValue(display.getCurrentState())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.currentState())).orElse(Constant.NOT_AVAILABLE)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LOCAL_SETUP_SEQUENCE.getName()),
-				mapToValue(autoBrightness.getIsEnabled(), Constant.ON, Constant.OFF)
+				mapToValue(display.getIsLocalSetupAccessEnabled(), Constant.ON, Constant.OFF)
 		);
 		//	Audio
 		//	Audio.Panel
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.AUDIO_PANEL_MUTE.getName()),
-				mapToValue(audio.getIsMuted(), Constant.ON, Constant.OFF)
+				mapToValue(display.getIsMuted(), Constant.ON, Constant.OFF)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.AUDIO_PANEL_VOLUME.getName()),
-				Optional.ofNullable(mapToValue(audio.getVolume())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getVolume())).orElse(Constant.NOT_AVAILABLE)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.AUDIO_PANEL_VOLUME_VALUE.getName()),
-				Optional.ofNullable(mapToValue(audio.getVolume())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getVolume())).orElse(Constant.NOT_AVAILABLE)
 		);
 		//	Audio.Media
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.AUDIO_MEDIA_MUTE.getName()),
-				mapToValue(audio.getIsMediaMuted(), Constant.ON, Constant.OFF)
+				mapToValue(display.getIsMediaMuted(), Constant.ON, Constant.OFF)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.AUDIO_MEDIA_VOLUME.getName()),
-				Optional.ofNullable(mapToValue(audio.getMediaVolume())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getMediaVolume())).orElse(Constant.NOT_AVAILABLE)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.AUDIO_MEDIA_VOLUME_VALUE.getName()),
-				Optional.ofNullable(mapToValue(audio.getMediaVolume())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getMediaVolume())).orElse(Constant.NOT_AVAILABLE)
 		);
 		//	Audio.Beep
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.AUDIO_BEEP_ENABLED.getName()),
-				mapToValue(audio.getIsBeepEnabled(), Constant.ON, Constant.OFF)
+				mapToValue(display.getIsBeepEnabled(), Constant.ON, Constant.OFF)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.AUDIO_BEEP_VOLUME.getName()),
-				Optional.ofNullable(mapToValue(audio.getBeepVolume())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getBeepVolume())).orElse(Constant.NOT_AVAILABLE)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.AUDIO_BEEP_VOLUME_VALUE.getName()),
-				Optional.ofNullable(mapToValue(audio.getBeepVolume())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getBeepVolume())).orElse(Constant.NOT_AVAILABLE)
 		);
 		//	LCD
 		//	LCD.Brightness
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LCD_AUTO_BRIGHTNESS.getName()),
-				mapToValue(autoBrightness.getIsEnabled(), Constant.ON, Constant.OFF)
+				mapToValue(display.getIsAutoBrightnessEnabled(), Constant.ON, Constant.OFF)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LCD_BRIGHTNESS.getName()),
-				Optional.ofNullable(mapToValue(lcd.getBrightness())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getBrightness())).orElse(Constant.NOT_AVAILABLE)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LCD_BRIGHTNESS_VALUE.getName()),
-				Optional.ofNullable(mapToValue(lcd.getBrightness())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getBrightness())).orElse(Constant.NOT_AVAILABLE)
 		);
 		//	LCD.Threshold
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LCD_ALS_THRESHOLD.getName()),
-				Optional.ofNullable(mapToValue(autoBrightness.getThresholdValue())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getAlsThreshold())).orElse(Constant.NOT_AVAILABLE)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LCD_ALS_THRESHOLD_VALUE.getName()),
-				Optional.ofNullable(mapToValue(autoBrightness.getThresholdValue())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getAlsThreshold())).orElse(Constant.NOT_AVAILABLE)
 		);
 		//	LCD.HighPreset
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LCD_BRIGHTNESS_HIGH_PRESET.getName()),
-				Optional.ofNullable(mapToValue(presets.getHighLevel())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getHighPreset())).orElse(Constant.NOT_AVAILABLE)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LCD_BRIGHTNESS_HIGH_PRESET_VALUE.getName()),
-				Optional.ofNullable(mapToValue(presets.getHighLevel())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getHighPreset())).orElse(Constant.NOT_AVAILABLE)
 		);
 		//	LCD.LowPreset
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LCD_BRIGHTNESS_LOW_PRESET.getName()),
-				Optional.ofNullable(mapToValue(presets.getLowLevel())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getLowPreset())).orElse(Constant.NOT_AVAILABLE)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LCD_BRIGHTNESS_LOW_PRESET_VALUE.getName()),
-				Optional.ofNullable(mapToValue(presets.getLowLevel())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getLowPreset())).orElse(Constant.NOT_AVAILABLE)
 		);
 		//	LCD.StandByTimeout
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LCD_STANDBY_TIMEOUT.getName()),
-				Optional.ofNullable(mapToValue(lcd.getStandbyTimeoutMinutes())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getStandbyTimeoutMinutes())).orElse(Constant.NOT_AVAILABLE)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.LCD_STANDBY_TIMEOUT_VALUE.getName()),
-				Optional.ofNullable(mapToValue(lcd.getStandbyTimeoutMinutes())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getStandbyTimeoutMinutes())).orElse(Constant.NOT_AVAILABLE)
 		);
 		//	ButtonToolbar
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.BUTTON_TOOLBAR_SHOW_ON_WAKE.getName()),
-				mapToValue(buttonToolbar.getIsShowOnWakeEnabled(), Constant.ON, Constant.OFF)
+				mapToValue(display.getIsShowOnWakeEnabled(), Constant.ON, Constant.OFF)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.BUTTON_TOOLBAR_SHOW_DURING_STANDBY.getName()),
-				mapToValue(buttonToolbar.getIsShowOnWakeEnabled(), Constant.ON, Constant.OFF)
+				mapToValue(display.getIsShowOnWakeEnabled(), Constant.ON, Constant.OFF)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.BUTTON_TOOLBAR_DISPLAY_EDGE.getName()),
-				Optional.ofNullable(mapToValue(buttonToolbar.getDisplayEdge())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.displayEdge())).orElse(Constant.NOT_AVAILABLE)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.BUTTON_TOOLBAR_AUTO_HIDE_TIMEOUT.getName()),
-				Optional.ofNullable(mapToValue(buttonToolbar.getAutoHideTimeOutSeconds())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getAutoHideTimeoutSeconds())).orElse(Constant.NOT_AVAILABLE)
 		);
 		properties.put(
 				Constant.PROPERTY_FORMAT.formatted(prefixName, Display.BUTTON_TOOLBAR_AUTO_HIDE_TIMEOUT_VALUE.getName()),
-				Optional.ofNullable(mapToValue(buttonToolbar.getAutoHideTimeOutSeconds())).orElse(Constant.NOT_AVAILABLE)
+				Optional.ofNullable(mapToValue(display.getAutoHideTimeoutSeconds())).orElse(Constant.NOT_AVAILABLE)
 		);
 		return properties;
 	}
 
+	/**
+	 * Generates a key–value map representing the {@link PollDiagnostics} of the adapter.
+	 * <p>
+	 * Includes the {@link Diagnostics} allocation, duration and deferral values, and the response size average and the
+	 * {@link TransferCompression} values of each {@link ResponseType} that has been fetched at least once, all prefixed by
+	 * {@link Constant#DIAGNOSTICS_GROUP}.
+	 * </p>
+	 *
+	 * @param diagnostics the diagnostics to process; if null, an empty map is returned
+	 * @return a {@link Map} containing formatted property names and their corresponding values
+	 */
+	public static Map<String, String> generateDiagnosticsProperties(PollDiagnostics diagnostics) {
+		if (diagnostics == null) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> properties = new HashMap<>(generateProperties(
+				Diagnostics.values(), Constant.DIAGNOSTICS_GROUP, property -> mapToDiagnostics(diagnostics, property)
+		));
+		for (Map.Entry<ResponseType, RollingAverage> responseSize : diagnostics.getResponseSizes().entrySet()) {
+			properties.put(
+					Constant.PROPERTY_FORMAT.formatted(Constant.DIAGNOSTICS_GROUP, Constant.RESPONSE_SIZE_AVERAGE_FORMAT.formatted(responseSize.getKey().getName())),
+					Optional.ofNullable(responseSize.getValue().getAverage()).map(String::valueOf).orElse(Constant.NOT_AVAILABLE)
+			);
+		}
+		for (Map.Entry<ResponseType, TransferCompression> entry : diagnostics.getTransferCompressions().entrySet()) {
+			String name = entry.getKey().getName();
+			TransferCompression transferCompression = entry.getValue();
+			properties.put(
+					Constant.PROPERTY_FORMAT.formatted(Constant.DIAGNOSTICS_GROUP, Constant.TRANSFER_SIZE_AVERAGE_FORMAT.formatted(name)),
+					Optional.ofNullable(transferCompression.getTransferSizes().getAverage()).map(String::valueOf).orElse(Constant.NOT_AVAILABLE)
+			);
+			properties.put(
+					Constant.PROPERTY_FORMAT.formatted(Constant.DIAGNOSTICS_GROUP, Constant.COMPRESSION_RATIO_FORMAT.formatted(name)),
+					Optional.ofNullable(transferCompression.getCompressionRatio()).map(ratio -> String.format(Locale.ROOT, "%.2f", ratio)).orElse(Constant.NOT_AVAILABLE)
+			);
+			properties.put(
+					Constant.PROPERTY_FORMAT.formatted(Constant.DIAGNOSTICS_GROUP, Constant.CONTENT_ENCODING_FORMAT.formatted(name)),
+					Optional.ofNullable(transferCompression.getLastContentEncoding()).orElse(Constant.NOT_AVAILABLE)
+			);
+		}
+		return properties;
+	}
+
+	/**
+	 * Generates a key–value map of the {@link DisplayHistoryStatistic} values of each {@link DisplayMetric}, named after
+	 * the metric followed by the statistic and prefixed by {@link Constant#DISPLAY_HISTORY_GROUP}.
+	 *
+	 * @param history the display history to process; if null, an empty map is returned
+	 * @param now the current time in milliseconds
+	 * @param windowMs the length of the window in milliseconds; {@code 0} or less covers all kept samples
+	 * @return a {@link Map} containing formatted property names and their corresponding values
+	 */
+	public static Map<String, String> generateDisplayHistoryProperties(DisplayHistory history, long now, long windowMs) {
+		if (history == null) {
+			return Collections.emptyMap();
+		}
+		long since = windowMs > 0 ? now - windowMs : Long.MIN_VALUE;
+		Map<String, String> properties = new HashMap<>();
+		for (DisplayMetric metric : DisplayMetric.values()) {
+			IntTimeSeries series = history.getSeries(metric);
+			boolean hasSamples = series.count(since) > 0;
+			for (DisplayHistoryStatistic statistic : DisplayHistoryStatistic.values()) {
+				String value = switch (statistic) {
+					case MIN -> hasSamples ? String.valueOf(series.getMin(since)) : null;
+					case MAX -> hasSamples ? String.valueOf(series.getMax(since)) : null;
+					case AVERAGE -> hasSamples ? String.valueOf(Math.round(series.getAverage(since) * 10) / 10.0) : null;
+					case LAST_CHANGE_AGE -> series.getLastChangeTimestamp() > 0 ? String.valueOf((now - series.getLastChangeTimestamp()) / 1000) : null;
+				};
+				properties.put(
+						Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_HISTORY_GROUP, metric.getName() + statistic.getName()),
+						Optional.ofNullable(value).orElse(Constant.NOT_AVAILABLE)
+				);
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * Generates diagnostics property from poll diagnostics object. Returns null if the value is not measured yet.
+	 *
+	 * @param diagnostics poll diagnostics object
+	 * @return the Diagnostics property
+	 */
+	public static String mapToDiagnostics(PollDiagnostics diagnostics, Diagnostics property) {
+		Object value = switch (property) {
+			case POLL_ALLOCATED_AVERAGE -> diagnostics.getPollAllocatedBytes().getAverage();
+			case POLL_ALLOCATED_LAST -> diagnostics.getPollAllocatedBytes().getLast();
+			case FETCH_ALLOCATED_AVERAGE -> diagnostics.getFetchAllocatedBytes().getAverage();
+			case STATISTICS_ALLOCATED_AVERAGE -> diagnostics.getStatisticsAllocatedBytes().getAverage();
+			case POLL_DURATION_AVERAGE -> diagnostics.getPollDurations().getAverage();
+			case POLL_DURATION_LAST -> diagnostics.getPollDurations().getLast();
+			case DEFERRED_GROUPS -> diagnostics.getDeferredGroups().isEmpty() ? Constant.NONE : String.join(Constant.COMMA_SPACE, diagnostics.getDeferredGroups());
+			case DEFERRED_GROUPS_TOTAL -> diagnostics.getDeferredGroupsTotal();
+			case REACHABILITY_RTT_AVERAGE -> diagnostics.getReachabilityRtts().getAverage();
+			case REACHABILITY_RTT_LAST -> diagnostics.getReachabilityRtts().getLast();
+			case CONNECT_LATENCY_P99 -> diagnostics.getRequestTimeouts().getConnectLatencies().getPercentile(Constant.TIMEOUT_PERCENTILE);
+			case RESPONSE_LATENCY_P99 -> diagnostics.getRequestTimeouts().getResponseLatencies().getPercentile(Constant.TIMEOUT_PERCENTILE);
+			case CONNECT_TIMEOUT -> diagnostics.getRequestTimeouts().getConnectTimeoutMs();
+			case RESPONSE_TIMEOUT -> diagnostics.getRequestTimeouts().getResponseTimeoutMs();
+		};
+		return value == null ? null : value.toString();
+	}
+
+	/**
+	 * Generates data freshness property from retrieval status object. Returns null if the value is not available yet.
+	 *
+	 * @param status retrieval status object
+	 * @param maxAgeSeconds the maximum data age in seconds before the data is considered stale
+	 * @return the Data Freshness property
+	 */
+	public static String mapToDataFreshness(RetrievalStatus status, DataFreshness property, long maxAgeSeconds) {
+		if (status == null) {
+			LOGGER.warn("The retrieval status is null, returning empty property");
+			return null;
+		}
+		return switch (property) {
+			case DATA_AGE -> mapToValue(Optional.ofNullable(status.getDataAgeSeconds()).map(Long::intValue).orElse(null));
+			case DATA_STALE -> mapToValue(status.isStale(maxAgeSeconds));
+			case LAST_ATTEMPT_AGE -> mapToValue(Optional.ofNullable(status.getLastAttemptAgeSeconds()).map(Long::intValue).orElse(null));
+			case CONSECUTIVE_FAILURES -> mapToValue(status.getConsecutiveFailures());
+			case NEXT_RETRY -> mapToValue((int) status.getNextRetrySeconds());
+			case POLLING_INTERVAL -> mapToValue((int) (status.getPollingIntervalMs() / 1000));
+		};
+	}
+
 	/**
 	 * Generates adapter metadata map from version properties. Returns empty property if null or all values unavailable.
 	 *
@@ -319,24 +445,24 @@ public final class MonitoringUtil {
 	 * @param networkAdapters network adapters object
 	 * @return the Network property
 	 */
-	public static String mapToNetwork(NetworkAdapters networkAdapters, Network property) {
+	public static String mapToNetwork(NetworkSnapshot networkAdapters, Network property) {
 		if (networkAdapters == null) {
 			LOGGER.warn("The networkAdapters is null, returning empty property");
 			return null;
 		}
 		return switch (property) {
-			case DNS_SERVERS -> mapToValue(String.join(Constant.COMMA, Util.getIPv4(networkAdapters.getDnsSettings()).getDnsServers()));
-			case HOSTNAME -> mapToValue(networkAdapters.getHostName());
-			case IPV6_ENABLED -> mapToValue(Optional.ofNullable(networkAdapters.getIPv6()).orElse(new IPv6()).getSupported(), "Yes", "No");
-			case LAN_DEFAULT_GATEWAY -> mapToValue(Util.getIPv4(networkAdapters.getAdapters()).getDefaultGateway());
-			case LAN_DHCP_ENABLED -> mapToValue(Util.getIPv4(networkAdapters.getAdapters()).getIsDhcpEnabled(), Constant.ON, Constant.OFF);
-			case LAN_DOMAIN_NAME -> mapToValue(Util.getEthernetLan(networkAdapters.getAdapters()).getDomainName(), false);
-			case LAN_IP_ADDRESS -> mapToValue(Util.getFirstAddress(networkAdapters.getAdapters()).getAddress());
-			case LAN_LINK_ACTIVE -> mapToValue(Util.getEthernetLan(networkAdapters.getAdapters()).getLinkStatus());
-			case LAN_SUBNET_MASK -> mapToValue(Util.getFirstAddress(networkAdapters.getAdapters()).getSubnetMask());
-			case WIFI_DOMAIN_NAME -> mapToValue(Util.getWifi(networkAdapters.getAdapters()).getDomainName(), false);
-			case WIFI_LINK_ACTIVE -> mapToValue(Util.getWifi(networkAdapters.getAdapters()).getLinkStatus());
-			case WIFI_MAC_ADDRESS -> mapToValue(Util.getWifi(networkAdapters.getAdapters()).getMacAddress());
+			case DNS_SERVERS -> mapToValue(networkAdapters.dnsServers());
+			case HOSTNAME -> mapToValue(networkAdapters.hostName());
+			case IPV6_ENABLED -> mapToValue(networkAdapters.getIpv6Supported(), "Yes", "No");
+			case LAN_DEFAULT_GATEWAY -> mapToValue(networkAdapters.lanDefaultGateway());
+			case LAN_DHCP_ENABLED -> mapToValue(networkAdapters.getLanDhcpEnabled(), Constant.ON, Constant.OFF);
+			case LAN_DOMAIN_NAME -> mapToValue(networkAdapters.lanDomainName(), false);
+			case LAN_IP_ADDRESS -> mapToValue(networkAdapters.lanAddress());
+			case LAN_LINK_ACTIVE -> mapToValue(networkAdapters.getLanLinkStatus());
+			case LAN_SUBNET_MASK -> mapToValue(networkAdapters.lanSubnetMask());
+			case WIFI_DOMAIN_NAME -> mapToValue(networkAdapters.wifiDomainName(), false);
+			case WIFI_LINK_ACTIVE -> mapToValue(networkAdapters.getWifiLinkStatus());
+			case WIFI_MAC_ADDRESS -> mapToValue(networkAdapters.wifiMacAddress());
 		};
 	}
 
@@ -1,6 +1,7 @@
 /** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
 package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.utils;
 
+import java.lang.management.ManagementFactory;
 import java.util.Optional;
 
 import lombok.AccessLevel;
@@ -8,14 +9,6 @@ import lombok.NoArgsConstructor;
 
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceCapabilities;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceCapabilities.PortConfig;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.Lcd;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkAdapters.DnsSettings;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.Adapters;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.Adapters.LanAdapter;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.Adapters.WifiAdapter;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.AddressConfig;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.IPv4;
 
 /**
  * Utility class providing helper methods.
@@ -25,6 +18,9 @@ import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.model
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Util {
+	/** Thread MX bean used to measure allocated bytes; {@code null} when the JVM does not support it. */
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = initThreadMXBean();
+
 	/**
 	 * Retrieves the {@link PortConfig} instance from the given {@link DeviceCapabilities}.
 	 * <p>
@@ -45,116 +41,54 @@ public final class Util {
 	}
 
 	/**
-	 * Safely retrieves the IPv4 configuration from a {@link DnsSettings} instance.
-	 *
-	 * @param dnsSettings the DNS settings object, may be {@code null}
-	 * @return the {@link IPv4} configuration if present, otherwise an empty {@link IPv4}
-	 */
-	public static IPv4 getIPv4(DnsSettings dnsSettings) {
-		return dnsSettings == null
-				? new IPv4()
-				: Optional.ofNullable(dnsSettings.getIPv4()).orElse(new IPv4());
-	}
-
-	/**
-	 * Safely retrieves the IPv4 configuration from the {@link Adapters}’s Ethernet LAN adapter.
-	 *
-	 * @param adapters the collection of network adapters, may be {@code null}
-	 * @return the {@link IPv4} configuration from Ethernet LAN, or an empty {@link IPv4} if unavailable
-	 */
-	public static IPv4 getIPv4(Adapters adapters) {
-		return adapters == null || adapters.getEthernetLan() == null
-				? new IPv4()
-				: Optional.ofNullable(adapters.getEthernetLan().getIPv4()).orElse(new IPv4());
-	}
-
-	/**
-	 * Safely retrieves the {@link LanAdapter} from {@link Adapters}.
-	 *
-	 * @param adapters the parent {@link Adapters} object, may be {@code null}
-	 * @return the {@link LanAdapter} if available, otherwise an empty {@link LanAdapter}
-	 */
-	public static LanAdapter getEthernetLan(Adapters adapters) {
-		return adapters == null
-				? new LanAdapter()
-				: Optional.ofNullable(adapters.getEthernetLan()).orElse(new LanAdapter());
-	}
-
-
-	/**
-	 * Safely retrieves the {@link WifiAdapter} from {@link Adapters}.
-	 *
-	 * @param adapters the parent {@link Adapters} object, may be {@code null}
-	 * @return the {@link WifiAdapter} if available, otherwise an empty {@link WifiAdapter}
-	 */
-	public static WifiAdapter getWifi(Adapters adapters) {
-		return adapters == null
-				? new WifiAdapter()
-				: Optional.ofNullable(adapters.getWifi()).orElse(new WifiAdapter());
-	}
-
-	/**
-	 * Retrieves the first {@link AddressConfig} from the IPv4 configuration within the given {@link Adapters} instance.
-	 *
-	 * @param adapters the {@link Adapters} object containing IPv4 address list, may be {@code null}
-	 * @return the first {@link AddressConfig} if present, otherwise an empty {@link AddressConfig}
-	 */
-	public static AddressConfig getFirstAddress(Adapters adapters) {
-		return Optional.ofNullable(getIPv4(adapters).getAddressConfigs().get(0)).orElse(new AddressConfig());
-	}
-
-	/**
-	 * Returns the {@link Lcd} section of the given {@link DeviceDisplay}, or a new {@link Lcd} instance if none is present.
+	 * Computes the number of bytes the given text occupies when encoded as UTF-8, without allocating an encoded copy.
 	 *
-	 * @param display the display object; may be null
-	 * @return the existing Lcd instance or a new one if missing
+	 * @param value the text to measure; may be null
+	 * @return the UTF-8 encoded length in bytes, or 0 if {@code value} is null
 	 */
-	public static Lcd getLcd(DeviceDisplay display) {
-		return Optional.ofNullable(display.getLcd()).orElse(new Lcd());
+	public static long getUtf8Length(CharSequence value) {
+		if (value == null) {
+			return 0;
+		}
+		long length = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (ch < 0x80) {
+				length++;
+			} else if (ch < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(ch) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+				length += 4;
+				i++;
+			} else {
+				length += 3;
+			}
+		}
+		return length;
 	}
 
 	/**
-	 * Returns the {@link Lcd.AutoBrightness} section of the given {@link DeviceDisplay},
-	 * or a new {@link Lcd.AutoBrightness} instance if none is present.
+	 * Returns the total number of bytes allocated in the heap by the current thread.
 	 *
-	 * @param display the display object; may be null
-	 * @return the existing AutoBrightness instance or a new one if missing
+	 * @return the allocated bytes, or {@code -1} if the JVM does not support thread allocation measurement
 	 */
-	public static Lcd.AutoBrightness getLcdAutoBrightness(DeviceDisplay display) {
-		return Optional.ofNullable(getLcd(display).getAutoBrightness()).orElse(new Lcd.AutoBrightness());
+	public static long getCurrentThreadAllocatedBytes() {
+		if (THREAD_MX_BEAN == null || !THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled()) {
+			return -1;
+		}
+		return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
 	}
 
 	/**
-	 * Returns the {@link Lcd.Presets} section of the given {@link DeviceDisplay},
-	 * or a new {@link Lcd.Presets} instance if none is present.
-	 *
-	 * @param display the display object; may be null
-	 * @return the existing Presets instance or a new one if missing
-	 */
-	public static Lcd.Presets getLcdPresets(DeviceDisplay display) {
-		return Optional.ofNullable(getLcd(display).getPresets()).orElse(new Lcd.Presets());
-	}
-
-	/**
-	 * Returns the {@link DeviceDisplay.Audio} section of the display,
-	 * or a new {@link DeviceDisplay.Audio} instance if none is present.
-	 *
-	 * @param display the display object; may be null
-	 * @return the existing Audio instance or a new one if missing
-	 */
-	public static DeviceDisplay.Audio getDisplayAudio(DeviceDisplay display) {
-		return Optional.ofNullable(display.getAudio()).orElse(new DeviceDisplay.Audio());
-	}
-
-
-	/**
-	 * Returns the {@link DeviceDisplay.VirtualButtons} section of the display,
-	 * or a new {@link DeviceDisplay.VirtualButtons} instance if none is present.
+	 * Resolves the {@link com.sun.management.ThreadMXBean} if the platform bean supports thread allocation measurement.
 	 *
-	 * @param display the display object; may be null
-	 * @return the existing VirtualButtons instance or a new one if missing
+	 * @return the thread MX bean, or {@code null} if allocation measurement is unsupported
 	 */
-	public static DeviceDisplay.VirtualButtons getDisplayButtonToolbar(DeviceDisplay display) {
-		return Optional.ofNullable(display.getVirtualButtons()).orElse(new DeviceDisplay.VirtualButtons());
+	private static com.sun.management.ThreadMXBean initThreadMXBean() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+				&& threadMXBean.isThreadAllocatedMemorySupported()) {
+			return threadMXBean;
+		}
+		return null;
 	}
 }
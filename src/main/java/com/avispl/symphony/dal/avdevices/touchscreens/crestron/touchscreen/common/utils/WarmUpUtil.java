@@ -0,0 +1,122 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceCapabilities;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceInfo;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.SystemVersion;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DisplaySnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkSnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Capabilities;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Display;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.General;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Network;
+
+/**
+ * Utility class warming up the parsing, serialization and mapping code before the first poll.
+ * <p>
+ * Runs the pipeline of a poll and of the control requests once over the payloads embedded in {@code /warmup}, so Jackson
+ * builds its deserializers and serializers for every {@link ResponseType} and the model and property classes are loaded.
+ * The work benefits every instance in the class loader, so it runs only once.
+ * </p>
+ * <p>
+ * The payloads are the responses of a TSW-1070 panel to each {@code /Device/*} endpoint, with placeholder serial and
+ * MAC addresses. They are also the fixtures served by the test stub server and parsed by the benchmarks, so the warm-up
+ * exercises the same documents the tests check.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WarmUpUtil {
+	private static final Log LOGGER = LogFactory.getLog(WarmUpUtil.class);
+	private static boolean warmedUp;
+
+	/**
+	 * Warms up the pipeline unless it has already been done in this class loader, waiting for a warm-up in progress.
+	 * A fixture that cannot be processed is logged and skipped.
+	 *
+	 * @return {@code true} if this call performed the warm-up, {@code false} if it had already been done
+	 */
+	public static synchronized boolean warmUp() {
+		if (warmedUp) {
+			return false;
+		}
+		ObjectMapper mapper = ResponseType.getSharedMapper();
+		for (ResponseType responseType : ResponseType.values()) {
+			try {
+				Object model = responseType.readValue(readFixture(responseType));
+				mapModel(responseType, model);
+				mapper.writeValueAsString(model);
+			} catch (IOException | RuntimeException e) {
+				LOGGER.warn(Constant.INIT_WARM_UP_FAILED_WARNING.formatted(responseType.getName(), e.getMessage()));
+			}
+		}
+		warmedUp = true;
+		return true;
+	}
+
+	/**
+	 * Maps the model of the given response type the same way a poll does, and for the display also builds the control
+	 * payload of every generated controller.
+	 *
+	 * @param responseType the response type of the model
+	 * @param model the model parsed from the fixture
+	 * @throws IOException if a control payload cannot be serialized
+	 */
+	@SuppressWarnings("unchecked")
+	private static void mapModel(ResponseType responseType, Object model) throws IOException {
+		switch (responseType) {
+			case DEVICE_INFO -> MonitoringUtil.generateProperties(General.values(), null, property -> MonitoringUtil.mapToGeneral((DeviceInfo) model, property));
+			case DEVICE_CAPABILITIES -> MonitoringUtil.generateProperties(Capabilities.values(), Constant.CAPABILITIES_GROUP,
+					property -> MonitoringUtil.mapToCapabilities((DeviceCapabilities) model, property));
+			case SYSTEM_VERSIONS -> MonitoringUtil.generateSystemVersionProperties((List<SystemVersion>) model);
+			case NETWORK_ADAPTERS -> MonitoringUtil.generateProperties(Network.values(), Constant.NETWORK_GROUP,
+					property -> MonitoringUtil.mapToNetwork((NetworkSnapshot) model, property));
+			case DISPLAY -> {
+				DisplaySnapshot display = (DisplaySnapshot) model;
+				MonitoringUtil.generateDisplayProperties(display);
+				for (AdvancedControllableProperty controller : ControlUtil.generateDisplayControllers(display)) {
+					String name = controller.getName().substring(controller.getName().indexOf(Constant.HASH) + 1);
+					Display property = Display.getByName(name).orElse(null);
+					//	Symphony sends slider values back as Double
+					Object value = controller.getValue() instanceof Number number ? number.doubleValue() : controller.getValue();
+					if (property != null) {
+						ResponseType.getSharedMapper().writeValueAsString(ControlUtil.buildDisplayRequest(property, value));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads the embedded fixture of the given response type.
+	 *
+	 * @param responseType the response type, whose name is the fixture name
+	 * @return the fixture content
+	 * @throws IOException if the fixture is missing or cannot be read
+	 */
+	private static String readFixture(ResponseType responseType) throws IOException {
+		String path = Constant.WARM_UP_FIXTURE_PATH.formatted(responseType.getName());
+		try (InputStream inputStream = WarmUpUtil.class.getResourceAsStream(path)) {
+			if (inputStream == null) {
+				throw new IOException("Missing resource " + path);
+			}
+			return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -24,6 +24,8 @@ public class AuthCookie {
 	private String origin;
 	private String loginReferer;
 	private String refreshToken;
+	/** Time the session cookie was obtained, in epoch milliseconds; {@code 0} if not logged in. */
+	private long acquiredAt;
 
 	/**
 	 * Builds and returns a set of default HTTP headers.
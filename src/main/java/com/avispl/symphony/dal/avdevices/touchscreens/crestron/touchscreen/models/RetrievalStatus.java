@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models;
+
+import lombok.Getter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics.RollingAverage;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter.RetrievalType;
+
+/**
+ * Tracks the last attempt, last success, consecutive failures and fetch durations of a {@link RetrievalType},
+ * schedules retries of a failing group with an exponential backoff, and schedules the next retrieval of a healthy group
+ * with an adaptive polling interval.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Getter
+public class RetrievalStatus {
+	private long lastAttemptTimestamp;
+	private long lastSuccessTimestamp;
+	private long nextRetryTimestamp;
+	private int consecutiveFailures;
+	private int consecutiveDeferrals;
+	private long pollingIntervalMs;
+	private long nextPollTimestamp;
+	private int payloadHash;
+	private boolean restored;
+	private final RollingAverage fetchDurations = new RollingAverage(Constant.DIAGNOSTICS_WINDOW_SIZE);
+
+	/**
+	 * Marks that a retrieval has been started at the current time.
+	 */
+	public void markAttempt() {
+		this.lastAttemptTimestamp = System.currentTimeMillis();
+		this.consecutiveDeferrals = 0;
+	}
+
+	/**
+	 * Marks that the retrieval was deferred to the next poll cycle because it would not fit in the poll time budget.
+	 */
+	public void markDeferred() {
+		this.consecutiveDeferrals++;
+	}
+
+	/**
+	 * Records how long a retrieval took, whether it succeeded or not.
+	 *
+	 * @param durationMs the duration of the retrieval in milliseconds
+	 */
+	public void recordDuration(long durationMs) {
+		this.fetchDurations.add(Math.max(0, durationMs));
+	}
+
+	/**
+	 * Returns the expected duration of the next retrieval, based on the recent fetch durations.
+	 *
+	 * @return the average duration in milliseconds, or {@code null} if no retrieval has been recorded yet
+	 */
+	public Long getExpectedDurationMs() {
+		return this.fetchDurations.getAverage();
+	}
+
+	/**
+	 * Marks that the latest retrieval succeeded, resets the consecutive failure count and clears the backoff.
+	 */
+	public void markSuccess() {
+		this.lastSuccessTimestamp = System.currentTimeMillis();
+		this.nextRetryTimestamp = 0;
+		this.consecutiveFailures = 0;
+		this.restored = false;
+	}
+
+	/**
+	 * Marks that the group's data was restored from a persisted snapshot rather than retrieved from the device.
+	 * The data is reported as stale until the next successful retrieval.
+	 *
+	 * @param capturedAt the time the restored data was retrieved from the device, in epoch milliseconds
+	 */
+	public void markRestored(long capturedAt) {
+		this.lastSuccessTimestamp = capturedAt;
+		this.restored = true;
+	}
+
+	/**
+	 * Marks that the latest retrieval failed and schedules the next retry.
+	 * <p>
+	 * The delay starts at {@link Constant#RETRY_BACKOFF_BASE_MS} and doubles on each consecutive failure,
+	 * up to {@link Constant#RETRY_BACKOFF_MAX_MS}.
+	 * </p>
+	 */
+	public void markFailure() {
+		this.consecutiveFailures++;
+		long delay = Constant.RETRY_BACKOFF_BASE_MS << Math.min(this.consecutiveFailures - 1, 16);
+		this.nextRetryTimestamp = this.lastAttemptTimestamp + Math.min(delay, Constant.RETRY_BACKOFF_MAX_MS);
+	}
+
+	/**
+	 * Checks whether the group may be retrieved now, i.e. it is not waiting for its backoff to elapse.
+	 *
+	 * @return {@code true} if the retrieval is due, {@code false} otherwise
+	 */
+	public boolean isRetryDue() {
+		return System.currentTimeMillis() >= this.nextRetryTimestamp;
+	}
+
+	/**
+	 * Records the hash of the latest retrieved payload.
+	 *
+	 * @param payloadHash the hash of the raw response
+	 * @return {@code true} if the payload is the same as the one of the previous successful retrieval, {@code false} otherwise
+	 */
+	public boolean updatePayloadHash(int payloadHash) {
+		boolean unchanged = this.hasSucceeded() && this.payloadHash == payloadHash;
+		this.payloadHash = payloadHash;
+		return unchanged;
+	}
+
+	/**
+	 * Schedules the next retrieval after a successful one.
+	 * <p>
+	 * While the group is idle, the polling interval starts at {@link Constant#ADAPTIVE_POLLING_STEP_MS} and doubles on each
+	 * retrieval, up to {@code maxIntervalMs}. Any other retrieval sets it back to {@code minIntervalMs}.
+	 * </p>
+	 *
+	 * @param idle whether the payload was unchanged and the panel is in standby
+	 * @param minIntervalMs the polling interval of an active group in milliseconds
+	 * @param maxIntervalMs the longest polling interval of an idle group in milliseconds; at most {@code minIntervalMs} disables the adaptation
+	 */
+	public void scheduleNextPoll(boolean idle, long minIntervalMs, long maxIntervalMs) {
+		if (idle && maxIntervalMs > minIntervalMs) {
+			long interval = Math.max(this.pollingIntervalMs << 1, Constant.ADAPTIVE_POLLING_STEP_MS);
+			this.pollingIntervalMs = Math.min(Math.max(interval, minIntervalMs), maxIntervalMs);
+		} else {
+			this.pollingIntervalMs = minIntervalMs;
+		}
+		this.nextPollTimestamp = this.lastAttemptTimestamp + this.pollingIntervalMs;
+	}
+
+	/**
+	 * Sets the polling interval back to the given one and makes the group due on the next poll cycle.
+	 *
+	 * @param minIntervalMs the polling interval of an active group in milliseconds
+	 */
+	public void resetPollingInterval(long minIntervalMs) {
+		this.pollingIntervalMs = minIntervalMs;
+		this.nextPollTimestamp = 0;
+	}
+
+	/**
+	 * Checks whether the polling interval of the group has elapsed since its last retrieval.
+	 *
+	 * @return {@code true} if the retrieval is due, {@code false} otherwise
+	 */
+	public boolean isPollDue() {
+		return System.currentTimeMillis() >= this.nextPollTimestamp;
+	}
+
+	/**
+	 * Checks whether at least one retrieval has succeeded.
+	 *
+	 * @return {@code true} if data has been retrieved successfully at least once, {@code false} otherwise
+	 */
+	public boolean hasSucceeded() {
+		return this.lastSuccessTimestamp > 0;
+	}
+
+	/**
+	 * Returns the age of the last successfully retrieved data.
+	 *
+	 * @return the age in seconds, or {@code null} if no retrieval has succeeded yet
+	 */
+	public Long getDataAgeSeconds() {
+		return this.hasSucceeded() ? Math.max(0, System.currentTimeMillis() - this.lastSuccessTimestamp) / 1000 : null;
+	}
+
+	/**
+	 * Returns the time elapsed since the last retrieval attempt.
+	 *
+	 * @return the elapsed time in seconds, or {@code null} if no retrieval has been attempted yet
+	 */
+	public Long getLastAttemptAgeSeconds() {
+		return this.lastAttemptTimestamp > 0 ? Math.max(0, System.currentTimeMillis() - this.lastAttemptTimestamp) / 1000 : null;
+	}
+
+	/**
+	 * Returns the time remaining until the next retry of a failing group.
+	 *
+	 * @return the remaining time in seconds, or {@code 0} if the retrieval is due
+	 */
+	public long getNextRetrySeconds() {
+		return Math.max(0, this.nextRetryTimestamp - System.currentTimeMillis()) / 1000;
+	}
+
+	/**
+	 * Returns a message indicating how long remains until the next retry of a failing group.
+	 * <br/>
+	 * Example output: "Next retry in 60 seconds."
+	 *
+	 * @return a message describing how many seconds remain until the next retry
+	 */
+	public String getNextRetryInfo() {
+		return String.format("Next retry in %s seconds.", this.getNextRetrySeconds());
+	}
+
+	/**
+	 * Checks whether the data is stale, either because the latest retrieval failed and the last good data is being reused,
+	 * because it was restored from a snapshot and not retrieved since, or because it is older than the given maximum age.
+	 *
+	 * @param maxAgeSeconds the maximum age in seconds; {@code 0} or less disables the age check
+	 * @return {@code true} if the data is stale, {@code false} otherwise
+	 */
+	public boolean isStale(long maxAgeSeconds) {
+		return (this.hasSucceeded() && this.consecutiveFailures > 0) || this.restored || this.isExpired(maxAgeSeconds);
+	}
+
+	/**
+	 * Checks whether the retrieved data is older than the given maximum age and should no longer be shown.
+	 * Data that has never been retrieved successfully is not considered expired, as there is nothing to reuse.
+	 *
+	 * @param maxAgeSeconds the maximum age in seconds; {@code 0} or less disables the check
+	 * @return {@code true} if the data is older than {@code maxAgeSeconds}, {@code false} otherwise
+	 */
+	public boolean isExpired(long maxAgeSeconds) {
+		Long dataAge = this.getDataAgeSeconds();
+		return maxAgeSeconds > 0 && dataAge != null && dataAge > maxAgeSeconds;
+	}
+}
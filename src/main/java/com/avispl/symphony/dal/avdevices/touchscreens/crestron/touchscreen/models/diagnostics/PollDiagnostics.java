@@ -0,0 +1,114 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
+
+/**
+ * Keeps rolling averages of response sizes and the {@link TransferCompression} per {@link ResponseType}, of the bytes allocated and the time taken by each poll cycle,
+ * of the reachability round-trip times, the groups deferred because of the poll time budget, and the request latencies
+ * the request timeouts are tuned from.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Getter
+public class PollDiagnostics {
+	private final int windowSize;
+	private final Map<ResponseType, RollingAverage> responseSizes;
+	private final Map<ResponseType, TransferCompression> transferCompressions;
+	private final RollingAverage fetchAllocatedBytes;
+	private final RollingAverage statisticsAllocatedBytes;
+	private final RollingAverage pollAllocatedBytes;
+	private final RollingAverage pollDurations;
+	private final RollingAverage reachabilityRtts;
+	private final RequestTimeouts requestTimeouts;
+	private final List<String> deferredGroups;
+	private long deferredGroupsTotal;
+
+	public PollDiagnostics(int windowSize) {
+		this.windowSize = windowSize;
+		this.responseSizes = new EnumMap<>(ResponseType.class);
+		this.transferCompressions = new EnumMap<>(ResponseType.class);
+		this.fetchAllocatedBytes = new RollingAverage(windowSize);
+		this.statisticsAllocatedBytes = new RollingAverage(windowSize);
+		this.pollAllocatedBytes = new RollingAverage(windowSize);
+		this.pollDurations = new RollingAverage(windowSize);
+		this.reachabilityRtts = new RollingAverage(windowSize);
+		this.requestTimeouts = new RequestTimeouts(Constant.LATENCY_WINDOW_SIZE);
+		this.deferredGroups = new ArrayList<>();
+	}
+
+	/**
+	 * Records the size of a response received for the given response type.
+	 *
+	 * @param responseType the response type of the endpoint
+	 * @param sizeInBytes the UTF-8 size of the response in bytes
+	 */
+	public void recordResponseSize(ResponseType responseType, long sizeInBytes) {
+		this.responseSizes.computeIfAbsent(responseType, type -> new RollingAverage(this.windowSize)).add(sizeInBytes);
+	}
+
+	/**
+	 * Returns the transfer compression of the given response type, created on first use.
+	 *
+	 * @param responseType the response type of the endpoint
+	 * @return the transfer compression of the endpoint
+	 */
+	public TransferCompression getTransferCompression(ResponseType responseType) {
+		return this.transferCompressions.computeIfAbsent(responseType, type -> new TransferCompression(this.windowSize));
+	}
+
+	/**
+	 * Records the bytes allocated by a poll cycle. Negative values mean allocation measurement is unsupported and are ignored.
+	 *
+	 * @param fetchBytes bytes allocated while fetching and mapping the device data
+	 * @param statisticsBytes bytes allocated while generating statistics and controllers
+	 */
+	public void recordAllocation(long fetchBytes, long statisticsBytes) {
+		if (fetchBytes < 0 || statisticsBytes < 0) {
+			return;
+		}
+		this.fetchAllocatedBytes.add(fetchBytes);
+		this.statisticsAllocatedBytes.add(statisticsBytes);
+		this.pollAllocatedBytes.add(fetchBytes + statisticsBytes);
+	}
+
+	/**
+	 * Records how long a poll cycle took.
+	 *
+	 * @param durationMs the duration of the poll cycle in milliseconds
+	 */
+	public void recordPollDuration(long durationMs) {
+		this.pollDurations.add(Math.max(0, durationMs));
+	}
+
+	/**
+	 * Records the round-trip time of a successful reachability probe.
+	 *
+	 * @param rttMs the round-trip time in milliseconds
+	 */
+	public void recordReachabilityRtt(long rttMs) {
+		this.reachabilityRtts.add(Math.max(0, rttMs));
+		this.requestTimeouts.recordConnectLatency(rttMs);
+	}
+
+	/**
+	 * Records the groups deferred to the next poll cycle, replacing those of the previous cycle.
+	 *
+	 * @param groupNames the names of the deferred groups; empty if no group was deferred
+	 */
+	public void recordDeferredGroups(Collection<String> groupNames) {
+		this.deferredGroups.clear();
+		this.deferredGroups.addAll(groupNames);
+		this.deferredGroupsTotal += groupNames.size();
+	}
+}
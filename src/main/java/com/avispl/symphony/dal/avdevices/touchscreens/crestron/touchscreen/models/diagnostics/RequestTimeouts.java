@@ -0,0 +1,87 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics;
+
+import lombok.Getter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+
+/**
+ * Tracks the connect and response latencies of a panel and derives the connect and response timeouts of its requests.
+ * <p>
+ * Each timeout is the p99 of its latencies times {@link Constant#TIMEOUT_SAFETY_FACTOR}, clamped to the configured bounds.
+ * Until {@link Constant#MIN_TIMEOUT_SAMPLES} latencies have been recorded, the upper bound is used.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Getter
+public class RequestTimeouts {
+	private final RollingPercentile connectLatencies;
+	private final RollingPercentile responseLatencies;
+	private long connectTimeoutMs;
+	private long responseTimeoutMs;
+
+	public RequestTimeouts(int windowSize) {
+		this.connectLatencies = new RollingPercentile(windowSize);
+		this.responseLatencies = new RollingPercentile(windowSize);
+	}
+
+	/**
+	 * Records the time taken to establish a connection to the panel.
+	 *
+	 * @param latencyMs the connect latency in milliseconds
+	 */
+	public synchronized void recordConnectLatency(long latencyMs) {
+		this.connectLatencies.add(Math.max(0, latencyMs));
+	}
+
+	/**
+	 * Records the time taken by a request to the panel, from sending it to reading the whole response.
+	 *
+	 * @param latencyMs the response latency in milliseconds
+	 */
+	public synchronized void recordResponseLatency(long latencyMs) {
+		this.responseLatencies.add(Math.max(0, latencyMs));
+	}
+
+	/**
+	 * Derives the current timeouts from the recorded latencies. Pooled connections are reused across requests, so until
+	 * {@link Constant#MIN_TIMEOUT_SAMPLES} connect latencies have been recorded, the connect timeout is derived from the
+	 * response latencies, which bound the connection time.
+	 *
+	 * @param minTimeoutMs the lower bound of the timeouts in milliseconds
+	 * @param maxTimeoutMs the upper bound of the timeouts in milliseconds
+	 */
+	public synchronized void tune(long minTimeoutMs, long maxTimeoutMs) {
+		long upperBound = Math.max(minTimeoutMs, maxTimeoutMs);
+		this.responseTimeoutMs = computeTimeout(this.responseLatencies, minTimeoutMs, upperBound);
+		this.connectTimeoutMs = computeTimeout(this.connectLatencies.getCount() >= Constant.MIN_TIMEOUT_SAMPLES ? this.connectLatencies : this.responseLatencies, minTimeoutMs, upperBound);
+	}
+
+	/**
+	 * Sets both timeouts to the given value, as when tuning is disabled.
+	 *
+	 * @param timeoutMs the timeout in milliseconds
+	 */
+	public synchronized void reset(long timeoutMs) {
+		this.connectTimeoutMs = timeoutMs;
+		this.responseTimeoutMs = timeoutMs;
+	}
+
+	/**
+	 * Computes a timeout from the p99 of the given latencies.
+	 *
+	 * @param latencies the recorded latencies
+	 * @param minTimeoutMs the lower bound in milliseconds
+	 * @param maxTimeoutMs the upper bound in milliseconds
+	 * @return the timeout in milliseconds
+	 */
+	private static long computeTimeout(RollingPercentile latencies, long minTimeoutMs, long maxTimeoutMs) {
+		if (latencies.getCount() < Constant.MIN_TIMEOUT_SAMPLES) {
+			return maxTimeoutMs;
+		}
+		long timeout = Math.round(latencies.getPercentile(Constant.TIMEOUT_PERCENTILE) * Constant.TIMEOUT_SAFETY_FACTOR);
+		return Math.min(Math.max(timeout, minTimeoutMs), maxTimeoutMs);
+	}
+}
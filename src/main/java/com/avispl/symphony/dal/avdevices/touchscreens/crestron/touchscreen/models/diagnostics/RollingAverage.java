@@ -0,0 +1,60 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics;
+
+/**
+ * Fixed-size window of {@code long} samples that keeps a running sum, so recording and averaging never allocate.
+ * <p>
+ * The window is allocated on the first sample, so an instance that never records anything stays small.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class RollingAverage {
+	private final int windowSize;
+	private long[] samples;
+	private int count;
+	private int nextIndex;
+	private long sum;
+
+	public RollingAverage(int windowSize) {
+		this.windowSize = Math.max(1, windowSize);
+	}
+
+	/**
+	 * Adds a sample, evicting the oldest one when the window is full.
+	 *
+	 * @param sample the value to add
+	 */
+	public void add(long sample) {
+		if (this.samples == null) {
+			this.samples = new long[this.windowSize];
+		}
+		if (this.count == this.windowSize) {
+			this.sum -= this.samples[this.nextIndex];
+		} else {
+			this.count++;
+		}
+		this.samples[this.nextIndex] = sample;
+		this.sum += sample;
+		this.nextIndex = (this.nextIndex + 1) % this.windowSize;
+	}
+
+	/**
+	 * Returns the average of the samples in the window.
+	 *
+	 * @return the rounded average, or {@code null} if no sample has been recorded
+	 */
+	public Long getAverage() {
+		return this.count == 0 ? null : Math.round((double) this.sum / this.count);
+	}
+
+	/**
+	 * Returns the most recently recorded sample.
+	 *
+	 * @return the last sample, or {@code null} if no sample has been recorded
+	 */
+	public Long getLast() {
+		return this.count == 0 ? null : this.samples[(this.nextIndex - 1 + this.windowSize) % this.windowSize];
+	}
+}
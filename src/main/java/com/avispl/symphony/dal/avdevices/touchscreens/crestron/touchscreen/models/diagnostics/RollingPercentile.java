@@ -0,0 +1,66 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size window of {@code long} samples answering percentile queries.
+ * <p>
+ * The window and the buffer it is sorted in are allocated on the first sample, so an instance that never records
+ * anything stays small. Queries sort a copy of the window in place and do not allocate afterwards.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class RollingPercentile {
+	private final int windowSize;
+	private long[] samples;
+	private long[] sorted;
+	private int count;
+	private int nextIndex;
+
+	public RollingPercentile(int windowSize) {
+		this.windowSize = Math.max(1, windowSize);
+	}
+
+	/**
+	 * Adds a sample, evicting the oldest one when the window is full.
+	 *
+	 * @param sample the value to add
+	 */
+	public void add(long sample) {
+		if (this.samples == null) {
+			this.samples = new long[this.windowSize];
+			this.sorted = new long[this.windowSize];
+		}
+		this.samples[this.nextIndex] = sample;
+		this.nextIndex = (this.nextIndex + 1) % this.windowSize;
+		this.count = Math.min(this.count + 1, this.windowSize);
+	}
+
+	/**
+	 * Returns the number of samples in the window.
+	 *
+	 * @return the sample count
+	 */
+	public int getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Returns the nearest-rank percentile of the samples in the window.
+	 *
+	 * @param percentile the percentile, between {@code 0} (exclusive) and {@code 1} (inclusive)
+	 * @return the smallest sample that is greater than or equal to {@code percentile} of the samples, or {@code null} if no sample has been recorded
+	 */
+	public Long getPercentile(double percentile) {
+		if (this.count == 0) {
+			return null;
+		}
+		System.arraycopy(this.samples, 0, this.sorted, 0, this.count);
+		Arrays.sort(this.sorted, 0, this.count);
+		int rank = (int) Math.ceil(percentile * this.count);
+		return this.sorted[Math.min(Math.max(rank, 1), this.count) - 1];
+	}
+}
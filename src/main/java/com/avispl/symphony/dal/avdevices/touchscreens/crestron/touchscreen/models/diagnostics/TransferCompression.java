@@ -0,0 +1,80 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.diagnostics;
+
+import lombok.Getter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+
+/**
+ * Keeps the transferred and decoded sizes of the responses of one endpoint, and whether compressed responses are still
+ * requested from it.
+ * <p>
+ * Firmware that ignores {@code Accept-Encoding} answers every request uncompressed. After
+ * {@link Constant#COMPRESSION_FALLBACK_THRESHOLD} such responses in a row, compression is no longer requested from the
+ * endpoint until {@link Constant#COMPRESSION_REPROBE_INTERVAL_MS} has passed, so a firmware upgrade is picked up.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Getter
+public class TransferCompression {
+	private final RollingAverage transferSizes;
+	private final RollingAverage decodedSizes;
+	private String lastContentEncoding;
+	private int consecutiveUncompressed;
+	private long reprobeTimestamp;
+
+	public TransferCompression(int windowSize) {
+		this.transferSizes = new RollingAverage(windowSize);
+		this.decodedSizes = new RollingAverage(windowSize);
+	}
+
+	/**
+	 * Checks whether compressed responses should be requested from the endpoint.
+	 *
+	 * @param now the current time in milliseconds
+	 * @return {@code true} unless the endpoint was found to ignore {@code Accept-Encoding} and is not due for a new probe
+	 */
+	public boolean isCompressionRequested(long now) {
+		return now >= this.reprobeTimestamp;
+	}
+
+	/**
+	 * Records a response of the endpoint.
+	 *
+	 * @param requested whether compression was requested
+	 * @param contentEncoding the encoding the response body was decoded with, {@link Constant#IDENTITY_ENCODING} if none
+	 * @param transferSize the size of the response body as transferred, in bytes
+	 * @param decodedSize the size of the decoded response body, in bytes
+	 * @param now the current time in milliseconds
+	 */
+	public void record(boolean requested, String contentEncoding, long transferSize, long decodedSize, long now) {
+		this.transferSizes.add(transferSize);
+		this.decodedSizes.add(decodedSize);
+		this.lastContentEncoding = contentEncoding;
+		if (!requested) {
+			return;
+		}
+		if (!Constant.IDENTITY_ENCODING.equals(contentEncoding)) {
+			this.consecutiveUncompressed = 0;
+		} else if (++this.consecutiveUncompressed >= Constant.COMPRESSION_FALLBACK_THRESHOLD) {
+			this.consecutiveUncompressed = 0;
+			this.reprobeTimestamp = now + Constant.COMPRESSION_REPROBE_INTERVAL_MS;
+		}
+	}
+
+	/**
+	 * Returns the ratio of the average decoded size to the average transferred size.
+	 *
+	 * @return the compression ratio, {@code 1} for uncompressed responses, or {@code null} if nothing has been recorded
+	 */
+	public Double getCompressionRatio() {
+		Long transferSize = this.transferSizes.getAverage();
+		Long decodedSize = this.decodedSizes.getAverage();
+		if (transferSize == null || decodedSize == null || transferSize == 0) {
+			return null;
+		}
+		return (double) decodedSize / transferSize;
+	}
+}
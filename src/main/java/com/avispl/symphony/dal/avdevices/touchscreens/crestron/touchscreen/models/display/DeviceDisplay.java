@@ -10,7 +10,8 @@ import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.commo
 
 /**
  * Represents detailed display about a device.
- * This model is used to deserialize the JSON response returned by {@link EndpointConstant#DISPLAY}
+ * This model is used to deserialize the JSON response returned by {@link EndpointConstant#DISPLAY},
+ * and is the wire format of the {@link DisplaySnapshot} kept by the adapter.
  *
  * @author Kevin / Symphony Dev Team
  * @since 1.0.0
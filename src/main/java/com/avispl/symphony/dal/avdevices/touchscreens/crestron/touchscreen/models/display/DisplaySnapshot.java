@@ -0,0 +1,269 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay.Audio;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay.VirtualButtons;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.Lcd.AutoBrightness;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.Lcd.Presets;
+
+/**
+ * Immutable display state of a device, bound from the JSON response returned by {@link EndpointConstant#DISPLAY}.
+ * <p>
+ * Values are kept flat in primitive fields. Whether the device reported a primitive value is recorded in
+ * {@link #present}, one bit per value, and absent text values are {@code null}. Snapshots are read through
+ * {@link DeviceDisplay}, which remains the wire format: the snapshot is bound from it and written back as it, so
+ * partial updates and persisted snapshots keep the shape of the response.
+ * </p>
+ *
+ * @param present the bits of the primitive values reported by the device
+ * @param currentState the state of the display, e.g. {@code Active} or {@code Standby}
+ * @param displayEdge the edge the button toolbar is shown on
+ * @param localSetupAccessEnabled whether the setup screen can be opened on the panel
+ * @param muted whether the panel audio is muted
+ * @param mediaMuted whether the media audio is muted
+ * @param beepEnabled whether touch beeps are enabled
+ * @param autoBrightnessEnabled whether the LCD brightness follows the ambient light sensor
+ * @param showOnWakeEnabled whether the button toolbar is shown when the panel wakes up
+ * @param showDuringStandbyEnabled whether the button toolbar is shown during standby
+ * @param volume the panel volume
+ * @param mediaVolume the media volume
+ * @param beepVolume the beep volume
+ * @param brightness the LCD brightness
+ * @param alsThreshold the ambient light sensor threshold
+ * @param highPreset the high LCD brightness preset
+ * @param lowPreset the low LCD brightness preset
+ * @param standbyTimeoutMinutes the idle time before standby, in minutes
+ * @param autoHideTimeoutSeconds the idle time before the button toolbar is hidden, in seconds
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public record DisplaySnapshot(int present, String currentState, String displayEdge,
+		boolean localSetupAccessEnabled, boolean muted, boolean mediaMuted, boolean beepEnabled,
+		boolean autoBrightnessEnabled, boolean showOnWakeEnabled, boolean showDuringStandbyEnabled,
+		int volume, int mediaVolume, int beepVolume, int brightness, int alsThreshold,
+		int highPreset, int lowPreset, int standbyTimeoutMinutes, int autoHideTimeoutSeconds) {
+	public static final int LOCAL_SETUP_ACCESS_ENABLED = 1;
+	public static final int MUTED = 1 << 1;
+	public static final int MEDIA_MUTED = 1 << 2;
+	public static final int BEEP_ENABLED = 1 << 3;
+	public static final int AUTO_BRIGHTNESS_ENABLED = 1 << 4;
+	public static final int SHOW_ON_WAKE_ENABLED = 1 << 5;
+	public static final int SHOW_DURING_STANDBY_ENABLED = 1 << 6;
+	public static final int VOLUME = 1 << 7;
+	public static final int MEDIA_VOLUME = 1 << 8;
+	public static final int BEEP_VOLUME = 1 << 9;
+	public static final int BRIGHTNESS = 1 << 10;
+	public static final int ALS_THRESHOLD = 1 << 11;
+	public static final int HIGH_PRESET = 1 << 12;
+	public static final int LOW_PRESET = 1 << 13;
+	public static final int STANDBY_TIMEOUT_MINUTES = 1 << 14;
+	public static final int AUTO_HIDE_TIMEOUT_SECONDS = 1 << 15;
+
+	/** Snapshot of a display that reported nothing. */
+	public static final DisplaySnapshot EMPTY = new DisplaySnapshot(0, null, null,
+			false, false, false, false, false, false, false, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+	private static final Audio NO_AUDIO = new Audio();
+	private static final Lcd NO_LCD = new Lcd();
+	private static final AutoBrightness NO_AUTO_BRIGHTNESS = new AutoBrightness();
+	private static final Presets NO_PRESETS = new Presets();
+	private static final VirtualButtons NO_VIRTUAL_BUTTONS = new VirtualButtons();
+
+	/**
+	 * Creates a snapshot from the display read from the device.
+	 *
+	 * @param wire the display as read from the device
+	 * @return the snapshot of the display
+	 */
+	@JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+	public static DisplaySnapshot of(DeviceDisplay wire) {
+		Audio audio = wire.getAudio() == null ? NO_AUDIO : wire.getAudio();
+		Lcd lcd = wire.getLcd() == null ? NO_LCD : wire.getLcd();
+		AutoBrightness autoBrightness = lcd.getAutoBrightness() == null ? NO_AUTO_BRIGHTNESS : lcd.getAutoBrightness();
+		Presets presets = lcd.getPresets() == null ? NO_PRESETS : lcd.getPresets();
+		VirtualButtons buttonToolbar = wire.getVirtualButtons() == null ? NO_VIRTUAL_BUTTONS : wire.getVirtualButtons();
+		int present = bit(wire.getIsLocalSetupAccessEnabled(), LOCAL_SETUP_ACCESS_ENABLED)
+				| bit(audio.getIsMuted(), MUTED)
+				| bit(audio.getIsMediaMuted(), MEDIA_MUTED)
+				| bit(audio.getIsBeepEnabled(), BEEP_ENABLED)
+				| bit(autoBrightness.getIsEnabled(), AUTO_BRIGHTNESS_ENABLED)
+				| bit(buttonToolbar.getIsShowOnWakeEnabled(), SHOW_ON_WAKE_ENABLED)
+				| bit(buttonToolbar.getIsShowDuringStandbyEnabled(), SHOW_DURING_STANDBY_ENABLED)
+				| bit(audio.getVolume(), VOLUME)
+				| bit(audio.getMediaVolume(), MEDIA_VOLUME)
+				| bit(audio.getBeepVolume(), BEEP_VOLUME)
+				| bit(lcd.getBrightness(), BRIGHTNESS)
+				| bit(autoBrightness.getThresholdValue(), ALS_THRESHOLD)
+				| bit(presets.getHighLevel(), HIGH_PRESET)
+				| bit(presets.getLowLevel(), LOW_PRESET)
+				| bit(lcd.getStandbyTimeoutMinutes(), STANDBY_TIMEOUT_MINUTES)
+				| bit(buttonToolbar.getAutoHideTimeOutSeconds(), AUTO_HIDE_TIMEOUT_SECONDS);
+		return new DisplaySnapshot(present, wire.getCurrentState(), buttonToolbar.getDisplayEdge(),
+				Boolean.TRUE.equals(wire.getIsLocalSetupAccessEnabled()), Boolean.TRUE.equals(audio.getIsMuted()),
+				Boolean.TRUE.equals(audio.getIsMediaMuted()), Boolean.TRUE.equals(audio.getIsBeepEnabled()),
+				Boolean.TRUE.equals(autoBrightness.getIsEnabled()), Boolean.TRUE.equals(buttonToolbar.getIsShowOnWakeEnabled()),
+				Boolean.TRUE.equals(buttonToolbar.getIsShowDuringStandbyEnabled()),
+				intValue(audio.getVolume()), intValue(audio.getMediaVolume()), intValue(audio.getBeepVolume()),
+				intValue(lcd.getBrightness()), intValue(autoBrightness.getThresholdValue()),
+				intValue(presets.getHighLevel()), intValue(presets.getLowLevel()),
+				intValue(lcd.getStandbyTimeoutMinutes()), intValue(buttonToolbar.getAutoHideTimeOutSeconds()));
+	}
+
+	/**
+	 * Converts the snapshot back to the wire format, with only the reported values set.
+	 *
+	 * @return the display as the device reports it
+	 */
+	@JsonValue
+	public DeviceDisplay toWire() {
+		DeviceDisplay wire = new DeviceDisplay();
+		wire.setCurrentState(this.currentState);
+		wire.setIsLocalSetupAccessEnabled(this.getIsLocalSetupAccessEnabled());
+		if (this.has(MUTED | MEDIA_MUTED | BEEP_ENABLED | VOLUME | MEDIA_VOLUME | BEEP_VOLUME)) {
+			Audio audio = new Audio();
+			audio.setIsMuted(this.getIsMuted());
+			audio.setIsMediaMuted(this.getIsMediaMuted());
+			audio.setIsBeepEnabled(this.getIsBeepEnabled());
+			audio.setVolume(this.getVolume());
+			audio.setMediaVolume(this.getMediaVolume());
+			audio.setBeepVolume(this.getBeepVolume());
+			wire.setAudio(audio);
+		}
+		if (this.has(AUTO_BRIGHTNESS_ENABLED | ALS_THRESHOLD | HIGH_PRESET | LOW_PRESET | BRIGHTNESS | STANDBY_TIMEOUT_MINUTES)) {
+			Lcd lcd = new Lcd();
+			lcd.setBrightness(this.getBrightness());
+			lcd.setStandbyTimeoutMinutes(this.getStandbyTimeoutMinutes());
+			if (this.has(AUTO_BRIGHTNESS_ENABLED | ALS_THRESHOLD)) {
+				AutoBrightness autoBrightness = new AutoBrightness();
+				autoBrightness.setIsEnabled(this.getIsAutoBrightnessEnabled());
+				autoBrightness.setThresholdValue(this.getAlsThreshold());
+				lcd.setAutoBrightness(autoBrightness);
+			}
+			if (this.has(HIGH_PRESET | LOW_PRESET)) {
+				Presets presets = new Presets();
+				presets.setHighLevel(this.getHighPreset());
+				presets.setLowLevel(this.getLowPreset());
+				lcd.setPresets(presets);
+			}
+			wire.setLcd(lcd);
+		}
+		if (this.displayEdge != null || this.has(SHOW_ON_WAKE_ENABLED | SHOW_DURING_STANDBY_ENABLED | AUTO_HIDE_TIMEOUT_SECONDS)) {
+			VirtualButtons buttonToolbar = new VirtualButtons();
+			buttonToolbar.setDisplayEdge(this.displayEdge);
+			buttonToolbar.setIsShowOnWakeEnabled(this.getIsShowOnWakeEnabled());
+			buttonToolbar.setIsShowDuringStandbyEnabled(this.getIsShowDuringStandbyEnabled());
+			buttonToolbar.setAutoHideTimeOutSeconds(this.getAutoHideTimeoutSeconds());
+			wire.setVirtualButtons(buttonToolbar);
+		}
+		return wire;
+	}
+
+	/**
+	 * Checks whether the device reported any of the given values.
+	 *
+	 * @param values the bits of the values, e.g. {@link #VOLUME}
+	 * @return {@code true} if at least one of the values was reported, {@code false} otherwise
+	 */
+	public boolean has(int values) {
+		return (this.present & values) != 0;
+	}
+
+	//	Boxed values for the mapping helpers, null when the device did not report them
+	public Boolean getIsLocalSetupAccessEnabled() {
+		return this.flag(LOCAL_SETUP_ACCESS_ENABLED, this.localSetupAccessEnabled);
+	}
+
+	public Boolean getIsMuted() {
+		return this.flag(MUTED, this.muted);
+	}
+
+	public Boolean getIsMediaMuted() {
+		return this.flag(MEDIA_MUTED, this.mediaMuted);
+	}
+
+	public Boolean getIsBeepEnabled() {
+		return this.flag(BEEP_ENABLED, this.beepEnabled);
+	}
+
+	public Boolean getIsAutoBrightnessEnabled() {
+		return this.flag(AUTO_BRIGHTNESS_ENABLED, this.autoBrightnessEnabled);
+	}
+
+	public Boolean getIsShowOnWakeEnabled() {
+		return this.flag(SHOW_ON_WAKE_ENABLED, this.showOnWakeEnabled);
+	}
+
+	public Boolean getIsShowDuringStandbyEnabled() {
+		return this.flag(SHOW_DURING_STANDBY_ENABLED, this.showDuringStandbyEnabled);
+	}
+
+	public Integer getVolume() {
+		return this.number(VOLUME, this.volume);
+	}
+
+	public Integer getMediaVolume() {
+		return this.number(MEDIA_VOLUME, this.mediaVolume);
+	}
+
+	public Integer getBeepVolume() {
+		return this.number(BEEP_VOLUME, this.beepVolume);
+	}
+
+	public Integer getBrightness() {
+		return this.number(BRIGHTNESS, this.brightness);
+	}
+
+	public Integer getAlsThreshold() {
+		return this.number(ALS_THRESHOLD, this.alsThreshold);
+	}
+
+	public Integer getHighPreset() {
+		return this.number(HIGH_PRESET, this.highPreset);
+	}
+
+	public Integer getLowPreset() {
+		return this.number(LOW_PRESET, this.lowPreset);
+	}
+
+	public Integer getStandbyTimeoutMinutes() {
+		return this.number(STANDBY_TIMEOUT_MINUTES, this.standbyTimeoutMinutes);
+	}
+
+	public Integer getAutoHideTimeoutSeconds() {
+		return this.number(AUTO_HIDE_TIMEOUT_SECONDS, this.autoHideTimeoutSeconds);
+	}
+
+	/**
+	 * Boxes a flag, which reuses the cached {@link Boolean} constants.
+	 *
+	 * @param bit the bit of the flag
+	 * @param value the value of the flag
+	 * @return the value, or {@code null} if the device did not report it
+	 */
+	private Boolean flag(int bit, boolean value) {
+		return this.has(bit) ? Boolean.valueOf(value) : null;
+	}
+
+	/**
+	 * Boxes a number, for the mapping helpers and the wire format.
+	 *
+	 * @param bit the bit of the number
+	 * @param value the value of the number
+	 * @return the value, or {@code null} if the device did not report it
+	 */
+	private Integer number(int bit, int value) {
+		return this.has(bit) ? Integer.valueOf(value) : null;
+	}
+
+	private static int bit(Object value, int bit) {
+		return value == null ? 0 : bit;
+	}
+
+	private static int intValue(Integer value) {
+		return value == null ? 0 : value;
+	}
+}
@@ -0,0 +1,31 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Getter;
+import lombok.Setter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseEvent;
+
+/**
+ * JFR event covering the login sequence performed before each poll or control request.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Name("com.avispl.symphony.crestron.touchscreen.Authenticate")
+@Label("Authenticate")
+@Description("Login sequence against a Crestron touch panel")
+@Getter
+@Setter
+public class AuthenticateEvent extends BaseEvent {
+	@Label("Login Performed")
+	@Description("Whether a full POST login was sent instead of reusing the existing session")
+	private boolean loginPerformed;
+
+	@Label("Session Restored")
+	@Description("Whether a session persisted by a previous instance was validated and reused")
+	private boolean sessionRestored;
+}
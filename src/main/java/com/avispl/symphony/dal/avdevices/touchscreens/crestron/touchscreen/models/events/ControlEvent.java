@@ -0,0 +1,28 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Getter;
+import lombok.Setter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseEvent;
+
+/**
+ * JFR event covering a single control request.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Name("com.avispl.symphony.crestron.touchscreen.Control")
+@Label("Control")
+@Description("Control request sent to a Crestron touch panel")
+@Getter
+@Setter
+public class ControlEvent extends BaseEvent {
+	@Label("Property")
+	private String property;
+	@Label("Value")
+	private String value;
+}
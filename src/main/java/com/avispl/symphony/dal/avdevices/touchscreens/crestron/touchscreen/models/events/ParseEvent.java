@@ -0,0 +1,30 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Getter;
+import lombok.Setter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseEvent;
+
+/**
+ * JFR event covering JSON parsing and model binding of a monitoring response.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Name("com.avispl.symphony.crestron.touchscreen.Parse")
+@Label("Parse")
+@Description("JSON parsing and binding of a Crestron touch panel response")
+@Getter
+@Setter
+public class ParseEvent extends BaseEvent {
+	@Label("Response Type")
+	private String responseType;
+	@Label("Payload Size")
+	@DataAmount
+	private long payloadSize;
+}
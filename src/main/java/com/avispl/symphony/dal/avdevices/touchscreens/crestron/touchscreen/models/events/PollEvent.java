@@ -0,0 +1,28 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Getter;
+import lombok.Setter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseEvent;
+
+/**
+ * JFR event covering a full {@code getMultipleStatistics()} cycle.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Name("com.avispl.symphony.crestron.touchscreen.Poll")
+@Label("Poll")
+@Description("Full monitoring cycle of a Crestron touch panel")
+@Getter
+@Setter
+public class PollEvent extends BaseEvent {
+	@Label("Property Groups")
+	private String propertyGroups;
+	@Label("Statistics Count")
+	private int statisticsCount;
+}
@@ -0,0 +1,62 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.history;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DisplaySnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.DisplayMetric;
+
+/**
+ * Keeps an {@link IntTimeSeries} per {@link DisplayMetric}, recorded from each retrieved {@link DisplaySnapshot}.
+ * Memory is bounded by the capacity: 12 bytes per sample and metric, allocated once. Series are indexed by the ordinal
+ * of their metric, so recording a display allocates nothing.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class DisplayHistory {
+	/** Cached, as {@link DisplayMetric#values()} copies the array on every call. */
+	private static final DisplayMetric[] METRICS = DisplayMetric.values();
+
+	private final int capacity;
+	private final IntTimeSeries[] series;
+
+	public DisplayHistory(int capacity) {
+		this.capacity = capacity;
+		this.series = new IntTimeSeries[METRICS.length];
+		for (int i = 0; i < this.series.length; i++) {
+			this.series[i] = new IntTimeSeries(capacity);
+		}
+	}
+
+	/**
+	 * Records the metrics of the given display. Metrics the display does not report are skipped.
+	 *
+	 * @param display the retrieved display
+	 * @param timestamp the time the display was retrieved, in milliseconds
+	 */
+	public void record(DisplaySnapshot display, long timestamp) {
+		for (DisplayMetric metric : METRICS) {
+			if (metric.isReported(display)) {
+				this.series[metric.ordinal()].add(timestamp, metric.getValue(display));
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of samples kept per metric.
+	 *
+	 * @return the capacity of each series
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Returns the samples of the given metric.
+	 *
+	 * @param metric the display metric
+	 * @return the series of the metric
+	 */
+	public IntTimeSeries getSeries(DisplayMetric metric) {
+		return this.series[metric.ordinal()];
+	}
+}
@@ -0,0 +1,142 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.history;
+
+/**
+ * Fixed-capacity ring buffer of timestamped {@code int} samples backed by primitive arrays, so recording and windowed
+ * statistics never box or allocate. Samples are expected in chronological order; the oldest one is evicted when full.
+ * <p>
+ * Windowed methods consider the samples recorded at or after {@code since}; they return {@code 0} for an empty window,
+ * which callers tell apart with {@link #count(long)}.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class IntTimeSeries {
+	private final int[] values;
+	private final long[] timestamps;
+	private int count;
+	private int nextIndex;
+	private long lastChangeTimestamp;
+
+	public IntTimeSeries(int capacity) {
+		this.values = new int[Math.max(1, capacity)];
+		this.timestamps = new long[this.values.length];
+	}
+
+	/**
+	 * Adds a sample, evicting the oldest one when the buffer is full.
+	 *
+	 * @param timestamp the time the value was observed, in milliseconds
+	 * @param value the observed value
+	 */
+	public void add(long timestamp, int value) {
+		if (this.count == 0 || this.values[this.lastIndex()] != value) {
+			this.lastChangeTimestamp = timestamp;
+		}
+		this.values[this.nextIndex] = value;
+		this.timestamps[this.nextIndex] = timestamp;
+		this.nextIndex = (this.nextIndex + 1) % this.values.length;
+		this.count = Math.min(this.count + 1, this.values.length);
+	}
+
+	/**
+	 * Returns the maximum number of samples kept.
+	 *
+	 * @return the capacity of the buffer
+	 */
+	public int getCapacity() {
+		return this.values.length;
+	}
+
+	/**
+	 * Returns the time the value last differed from the previous sample, or the time of the first sample if it never changed.
+	 * The change may have been evicted from the buffer already.
+	 *
+	 * @return the timestamp of the last change in milliseconds, or {@code 0} if no sample has been recorded
+	 */
+	public long getLastChangeTimestamp() {
+		return this.lastChangeTimestamp;
+	}
+
+	/**
+	 * Counts the samples in the window.
+	 *
+	 * @param since the start of the window in milliseconds
+	 * @return the number of samples recorded at or after {@code since}
+	 */
+	public int count(long since) {
+		int windowCount = 0;
+		for (int i = 0; i < this.count && this.timestampAt(i) >= since; i++) {
+			windowCount++;
+		}
+		return windowCount;
+	}
+
+	/**
+	 * Returns the minimum value in the window.
+	 *
+	 * @param since the start of the window in milliseconds
+	 * @return the minimum value, or {@code 0} if the window is empty
+	 */
+	public int getMin(long since) {
+		int min = Integer.MAX_VALUE;
+		int i = 0;
+		for (; i < this.count && this.timestampAt(i) >= since; i++) {
+			min = Math.min(min, this.valueAt(i));
+		}
+		return i == 0 ? 0 : min;
+	}
+
+	/**
+	 * Returns the maximum value in the window.
+	 *
+	 * @param since the start of the window in milliseconds
+	 * @return the maximum value, or {@code 0} if the window is empty
+	 */
+	public int getMax(long since) {
+		int max = Integer.MIN_VALUE;
+		int i = 0;
+		for (; i < this.count && this.timestampAt(i) >= since; i++) {
+			max = Math.max(max, this.valueAt(i));
+		}
+		return i == 0 ? 0 : max;
+	}
+
+	/**
+	 * Returns the average value in the window.
+	 *
+	 * @param since the start of the window in milliseconds
+	 * @return the average value, or {@code 0} if the window is empty
+	 */
+	public double getAverage(long since) {
+		long sum = 0;
+		int i = 0;
+		for (; i < this.count && this.timestampAt(i) >= since; i++) {
+			sum += this.valueAt(i);
+		}
+		return i == 0 ? 0 : (double) sum / i;
+	}
+
+	/**
+	 * Returns the value of the {@code age}-th most recent sample, {@code 0} being the newest.
+	 */
+	private int valueAt(int age) {
+		return this.values[this.indexOf(age)];
+	}
+
+	/**
+	 * Returns the timestamp of the {@code age}-th most recent sample, {@code 0} being the newest.
+	 */
+	private long timestampAt(int age) {
+		return this.timestamps[this.indexOf(age)];
+	}
+
+	private int indexOf(int age) {
+		return (this.nextIndex - 1 - age + 2 * this.values.length) % this.values.length;
+	}
+
+	private int lastIndex() {
+		return this.indexOf(0);
+	}
+}
@@ -4,6 +4,7 @@ package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.mode
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
+import lombok.Setter;
 
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.Adapters;
@@ -12,13 +13,15 @@ import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.model
 
 /**
  * Represents detailed network adapters about a device.
- * This model is used to deserialize the JSON response returned by {@link EndpointConstant#NETWORK_ADAPTERS}
+ * This model is used to deserialize the JSON response returned by {@link EndpointConstant#NETWORK_ADAPTERS},
+ * and is the wire format of the {@link NetworkSnapshot} kept by the adapter.
  *
  * @author Kevin / Symphony Dev Team
  * @since 1.0.0
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
+@Setter
 public class NetworkAdapters {
 	@JsonProperty("Adapters")
 	private Adapters adapters;
@@ -31,6 +34,7 @@ public class NetworkAdapters {
 
 	@JsonIgnoreProperties(ignoreUnknown = true)
 	@Getter
+	@Setter
 	public static class DnsSettings {
 		@JsonProperty("IPv4")
 		private IPv4 iPv4;
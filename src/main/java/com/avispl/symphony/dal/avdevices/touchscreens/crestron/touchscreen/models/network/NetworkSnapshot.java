@@ -0,0 +1,177 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkAdapters.DnsSettings;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.Adapters;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.Adapters.LanAdapter;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.Adapters.WifiAdapter;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.AddressConfig;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.IPv4;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.adapters.IPv6;
+
+/**
+ * Immutable network state of a device, bound from the JSON response returned by {@link EndpointConstant#NETWORK_ADAPTERS}.
+ * <p>
+ * Only the values monitored by the adapter are kept, flat: the LAN address is the first IPv4 address of the Ethernet
+ * adapter. Whether the device reported a flag is recorded in {@link #present}, one bit per flag, and absent text values
+ * are {@code null}. Snapshots are read through {@link NetworkAdapters}, which remains the wire format, as for
+ * {@code DisplaySnapshot}.
+ * </p>
+ *
+ * @param present the bits of the flags reported by the device
+ * @param hostName the host name of the device
+ * @param dnsServers the DNS servers, separated by {@link Constant#COMMA}
+ * @param lanDomainName the domain name of the Ethernet adapter
+ * @param lanAddress the first IPv4 address of the Ethernet adapter
+ * @param lanSubnetMask the subnet mask of {@code lanAddress}
+ * @param lanDefaultGateway the IPv4 default gateway of the Ethernet adapter
+ * @param wifiDomainName the domain name of the Wi-Fi adapter
+ * @param wifiMacAddress the MAC address of the Wi-Fi adapter
+ * @param ipv6Supported whether IPv6 is supported
+ * @param lanLinkStatus whether the Ethernet link is up
+ * @param lanDhcpEnabled whether the Ethernet adapter uses DHCP
+ * @param wifiLinkStatus whether the Wi-Fi link is up
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public record NetworkSnapshot(int present, String hostName, String dnsServers, String lanDomainName, String lanAddress,
+		String lanSubnetMask, String lanDefaultGateway, String wifiDomainName, String wifiMacAddress,
+		boolean ipv6Supported, boolean lanLinkStatus, boolean lanDhcpEnabled, boolean wifiLinkStatus) {
+	public static final int IPV6_SUPPORTED = 1;
+	public static final int LAN_LINK_STATUS = 1 << 1;
+	public static final int LAN_DHCP_ENABLED = 1 << 2;
+	public static final int WIFI_LINK_STATUS = 1 << 3;
+
+	/** Snapshot of network adapters that reported nothing. */
+	public static final NetworkSnapshot EMPTY = new NetworkSnapshot(0, null, null, null, null, null, null, null, null,
+			false, false, false, false);
+
+	private static final LanAdapter NO_LAN_ADAPTER = new LanAdapter();
+	private static final WifiAdapter NO_WIFI_ADAPTER = new WifiAdapter();
+	private static final IPv4 NO_IPV4 = new IPv4();
+
+	/**
+	 * Creates a snapshot from the network adapters read from the device.
+	 *
+	 * @param wire the network adapters as read from the device
+	 * @return the snapshot of the network adapters
+	 */
+	@JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+	public static NetworkSnapshot of(NetworkAdapters wire) {
+		Adapters adapters = wire.getAdapters();
+		LanAdapter lan = adapters == null || adapters.getEthernetLan() == null ? NO_LAN_ADAPTER : adapters.getEthernetLan();
+		WifiAdapter wifi = adapters == null || adapters.getWifi() == null ? NO_WIFI_ADAPTER : adapters.getWifi();
+		IPv4 lanIPv4 = lan.getIPv4() == null ? NO_IPV4 : lan.getIPv4();
+		List<AddressConfig> addressConfigs = lanIPv4.getAddressConfigs();
+		AddressConfig address = addressConfigs == null || addressConfigs.isEmpty() ? null : addressConfigs.get(0);
+		List<String> dnsServers = wire.getDnsSettings() == null || wire.getDnsSettings().getIPv4() == null
+				? null : wire.getDnsSettings().getIPv4().getDnsServers();
+		Boolean ipv6Supported = wire.getIPv6() == null ? null : wire.getIPv6().getSupported();
+		int present = bit(ipv6Supported, IPV6_SUPPORTED)
+				| bit(lan.getLinkStatus(), LAN_LINK_STATUS)
+				| bit(lanIPv4.getIsDhcpEnabled(), LAN_DHCP_ENABLED)
+				| bit(wifi.getLinkStatus(), WIFI_LINK_STATUS);
+		return new NetworkSnapshot(present, wire.getHostName(), dnsServers == null ? null : String.join(Constant.COMMA, dnsServers),
+				lan.getDomainName(), address == null ? null : address.getAddress(), address == null ? null : address.getSubnetMask(),
+				lanIPv4.getDefaultGateway(), wifi.getDomainName(), wifi.getMacAddress(),
+				Boolean.TRUE.equals(ipv6Supported), Boolean.TRUE.equals(lan.getLinkStatus()),
+				Boolean.TRUE.equals(lanIPv4.getIsDhcpEnabled()), Boolean.TRUE.equals(wifi.getLinkStatus()));
+	}
+
+	/**
+	 * Converts the snapshot back to the wire format, with only the kept values set.
+	 *
+	 * @return the network adapters as the device reports them
+	 */
+	@JsonValue
+	public NetworkAdapters toWire() {
+		NetworkAdapters wire = new NetworkAdapters();
+		wire.setHostName(this.hostName);
+		if (this.dnsServers != null) {
+			IPv4 dnsIPv4 = new IPv4();
+			dnsIPv4.setDnsServers(this.dnsServers.isEmpty() ? List.of() : Arrays.asList(this.dnsServers.split(Constant.COMMA, -1)));
+			DnsSettings dnsSettings = new DnsSettings();
+			dnsSettings.setIPv4(dnsIPv4);
+			wire.setDnsSettings(dnsSettings);
+		}
+		if (this.has(IPV6_SUPPORTED)) {
+			IPv6 iPv6 = new IPv6();
+			iPv6.setSupported(this.ipv6Supported);
+			wire.setIPv6(iPv6);
+		}
+		LanAdapter lan = null;
+		if (this.lanDomainName != null || this.lanAddress != null || this.lanSubnetMask != null || this.lanDefaultGateway != null
+				|| this.has(LAN_LINK_STATUS | LAN_DHCP_ENABLED)) {
+			lan = new LanAdapter();
+			lan.setDomainName(this.lanDomainName);
+			lan.setLinkStatus(this.getLanLinkStatus());
+			IPv4 lanIPv4 = new IPv4();
+			lanIPv4.setDefaultGateway(this.lanDefaultGateway);
+			lanIPv4.setIsDhcpEnabled(this.getLanDhcpEnabled());
+			if (this.lanAddress != null || this.lanSubnetMask != null) {
+				AddressConfig address = new AddressConfig();
+				address.setAddress(this.lanAddress);
+				address.setSubnetMask(this.lanSubnetMask);
+				lanIPv4.setAddressConfigs(List.of(address));
+			}
+			lan.setIPv4(lanIPv4);
+		}
+		WifiAdapter wifi = null;
+		if (this.wifiDomainName != null || this.wifiMacAddress != null || this.has(WIFI_LINK_STATUS)) {
+			wifi = new WifiAdapter();
+			wifi.setDomainName(this.wifiDomainName);
+			wifi.setLinkStatus(this.getWifiLinkStatus());
+			wifi.setMacAddress(this.wifiMacAddress);
+		}
+		if (lan != null || wifi != null) {
+			Adapters adapters = new Adapters();
+			adapters.setEthernetLan(lan);
+			adapters.setWifi(wifi);
+			wire.setAdapters(adapters);
+		}
+		return wire;
+	}
+
+	/**
+	 * Checks whether the device reported any of the given flags.
+	 *
+	 * @param flags the bits of the flags, e.g. {@link #LAN_LINK_STATUS}
+	 * @return {@code true} if at least one of the flags was reported, {@code false} otherwise
+	 */
+	public boolean has(int flags) {
+		return (this.present & flags) != 0;
+	}
+
+	//	Boxed flags for the mapping helpers, null when the device did not report them
+	public Boolean getIpv6Supported() {
+		return this.flag(IPV6_SUPPORTED, this.ipv6Supported);
+	}
+
+	public Boolean getLanLinkStatus() {
+		return this.flag(LAN_LINK_STATUS, this.lanLinkStatus);
+	}
+
+	public Boolean getLanDhcpEnabled() {
+		return this.flag(LAN_DHCP_ENABLED, this.lanDhcpEnabled);
+	}
+
+	public Boolean getWifiLinkStatus() {
+		return this.flag(WIFI_LINK_STATUS, this.wifiLinkStatus);
+	}
+
+	private Boolean flag(int bit, boolean value) {
+		return this.has(bit) ? Boolean.valueOf(value) : null;
+	}
+
+	private static int bit(Boolean value, int bit) {
+		return value == null ? 0 : bit;
+	}
+}
@@ -4,6 +4,7 @@ package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.mode
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
+import lombok.Setter;
 
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseAdapter;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
@@ -18,6 +19,7 @@ import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.model
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
+@Setter
 public class Adapters {
 	@JsonProperty("EthernetLan")
 	private LanAdapter ethernetLan;
@@ -27,6 +29,7 @@ public class Adapters {
 
 	@JsonIgnoreProperties(ignoreUnknown = true)
 	@Getter
+	@Setter
 	public static class LanAdapter extends BaseAdapter {
 		@JsonProperty("IPv4")
 		private IPv4 iPv4;
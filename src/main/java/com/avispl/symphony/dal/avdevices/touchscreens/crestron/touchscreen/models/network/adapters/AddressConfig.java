@@ -4,6 +4,7 @@ package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.mode
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
+import lombok.Setter;
 
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
 
@@ -16,6 +17,7 @@ import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.commo
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
+@Setter
 public class AddressConfig {
 	@JsonProperty("Address")
 	private String address;
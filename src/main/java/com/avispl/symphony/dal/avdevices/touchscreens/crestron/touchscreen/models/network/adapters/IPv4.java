@@ -6,6 +6,7 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
+import lombok.Setter;
 
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
 
@@ -18,6 +19,7 @@ import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.commo
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
+@Setter
 public class IPv4 {
 	@JsonProperty("Addresses")
 	private List<AddressConfig> addressConfigs;
@@ -0,0 +1,37 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types;
+
+import com.fasterxml.jackson.core.JacksonException;
+import javax.security.auth.login.FailedLoginException;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseEvent;
+
+/**
+ * Defines the possible outcomes of a request, recorded in {@link BaseEvent}.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public enum OperationOutcome {
+	SUCCESS, EMPTY, PARSE_FAILED, LOGIN_FAILED, UNREACHABLE, FAILED;
+
+	/**
+	 * Maps the given exception to the corresponding outcome.
+	 *
+	 * @param exception the exception thrown by the request
+	 * @return the outcome matching the exception type, or {@link #FAILED} if not recognized
+	 */
+	public static OperationOutcome of(Exception exception) {
+		if (exception instanceof FailedLoginException) {
+			return LOGIN_FAILED;
+		}
+		if (exception instanceof ResourceNotReachableException) {
+			return UNREACHABLE;
+		}
+		if (exception instanceof JacksonException) {
+			return PARSE_FAILED;
+		}
+		return FAILED;
+	}
+}
@@ -1,18 +1,26 @@
 /** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
 package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
+import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Getter;
 
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceCapabilities;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.DeviceInfo;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.SystemVersion;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay;
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkAdapters;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DisplaySnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkSnapshot;
 
 /**
  * Defines different response types and their associated model classes.
@@ -22,15 +30,17 @@ import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.model
  */
 @Getter
 public enum ResponseType {
-	DEVICE_INFO(DeviceInfo.class),
-	DEVICE_CAPABILITIES(DeviceCapabilities.class),
-	SYSTEM_VERSIONS(SystemVersion.class),
-	NETWORK_ADAPTERS(NetworkAdapters.class),
-	DISPLAY(DeviceDisplay.class);
+	DEVICE_INFO("DeviceInfo", DeviceInfo.class),
+	DEVICE_CAPABILITIES("DeviceCapabilities", DeviceCapabilities.class),
+	SYSTEM_VERSIONS("SystemVersions", SystemVersion.class),
+	NETWORK_ADAPTERS("NetworkAdapters", NetworkSnapshot.class),
+	DISPLAY("Display", DisplaySnapshot.class);
 
+	private final String name;
 	private final Class<?> clazz;
 
-	ResponseType(Class<?> clazz) {
+	ResponseType(String name, Class<?> clazz) {
+		this.name = name;
 		this.clazz = clazz;
 	}
 
@@ -51,6 +61,154 @@ public enum ResponseType {
 		};
 	}
 
+	/**
+	 * Returns the mapper shared by all adapter instances. It must not be reconfigured, so it stays safe to use concurrently.
+	 *
+	 * @return the shared {@link ObjectMapper}
+	 */
+	public static ObjectMapper getSharedMapper() {
+		return SharedReaders.MAPPER;
+	}
+
+	/**
+	 * Returns the prebuilt, immutable reader binding JSON to the model of this response type, or to a {@link List} of it
+	 * for collection types.
+	 *
+	 * @return the shared {@link ObjectReader} of this response type
+	 */
+	public ObjectReader getReader() {
+		return SharedReaders.MODEL_READERS.get(this);
+	}
+
+	/**
+	 * Parses the raw JSON response with the shared readers, extracts the node of this response type via
+	 * {@link #extractNode(JsonNode)} and binds it to the associated model class, or to a {@link List} of it for collection types.
+	 *
+	 * @param response the raw JSON response
+	 * @param <T> the generic type representing the expected response object
+	 * @return the mapped response object, may be {@code null}
+	 * @throws JacksonException if the response cannot be parsed or mapped
+	 */
+	public <T> T readValue(String response) throws JacksonException {
+		return this.bindNode(SharedReaders.TREE_READER.readTree(response));
+	}
+
+	/**
+	 * Parses the JSON response read from the given stream with the shared readers, extracts the node of this response type
+	 * via {@link #extractNode(JsonNode)} and binds it to the associated model class, or to a {@link List} of it for collection types.
+	 *
+	 * @param response the stream of the JSON response, closed once read
+	 * @param <T> the generic type representing the expected response object
+	 * @return the mapped response object, or {@code null} if the stream holds no JSON content
+	 * @throws JacksonException if the response cannot be parsed or mapped
+	 * @throws IOException if the stream cannot be read
+	 */
+	public <T> T readValue(InputStream response) throws IOException {
+		JsonNode responseNode = SharedReaders.TREE_READER.readTree(response);
+		if (responseNode == null || responseNode.isMissingNode()) {
+			return null;
+		}
+		return this.bindNode(responseNode);
+	}
+
+	/**
+	 * Extracts the node of this response type from the parsed response and binds it with the shared readers.
+	 *
+	 * @param response the root node of the parsed response
+	 * @param <T> the generic type representing the expected response object
+	 * @return the mapped response object, may be {@code null}
+	 * @throws JacksonException if the node cannot be mapped
+	 */
+	private <T> T bindNode(JsonNode response) throws JacksonException {
+		JsonNode responseNode = this.extractNode(response);
+		try {
+			return this.getReader().readValue(responseNode);
+		} catch (JacksonException e) {
+			throw e;
+		} catch (IOException e) {
+			//	Binding an in-memory tree performs no I/O, so only Jackson failures are expected here
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Applies a partial update pushed by the device to a model of this response type, without modifying the given model.
+	 * <p>
+	 * The model is converted to a tree, the node of this response type extracted from the update via
+	 * {@link #extractNode(JsonNode)} is merged into it object by object, and the result is bound to a new model.
+	 * </p>
+	 *
+	 * @param model the current model
+	 * @param update the root node of the update
+	 * @param <T> the generic type representing the model
+	 * @return the updated model, or {@code null} if the update does not contain this response type
+	 * @throws JacksonException if the updated tree cannot be bound to the model
+	 */
+	public <T> T applyUpdate(Object model, JsonNode update) throws JacksonException {
+		JsonNode updateNode = this.extractNode(update);
+		if (!updateNode.isObject()) {
+			return null;
+		}
+		return this.mergeNode(model, updateNode, false);
+	}
+
+	/**
+	 * Combines two models of this response type read from different sub-paths of its endpoint, without modifying them.
+	 * <p>
+	 * Both models are converted to trees and the values present in {@code part} are merged into {@code model} object by
+	 * object, so the result holds the values of both sub-paths.
+	 * </p>
+	 *
+	 * @param model the model read from the previous sub-paths
+	 * @param part the model read from the next sub-path
+	 * @param <T> the generic type representing the model
+	 * @return the combined model
+	 * @throws JacksonException if the combined tree cannot be bound to the model
+	 */
+	public <T> T mergeValue(Object model, Object part) throws JacksonException {
+		return this.mergeNode(model, SharedReaders.MAPPER.valueToTree(part), true);
+	}
+
+	/**
+	 * Merges a node into the tree of a model and binds the result to a new model.
+	 *
+	 * @param model the current model
+	 * @param updateNode the node holding the new values
+	 * @param skipNulls whether {@code null} values of the node keep the current values
+	 * @param <T> the generic type representing the model
+	 * @return the updated model
+	 * @throws JacksonException if the updated tree cannot be bound to the model
+	 */
+	private <T> T mergeNode(Object model, JsonNode updateNode, boolean skipNulls) throws JacksonException {
+		JsonNode modelNode = SharedReaders.MAPPER.valueToTree(model);
+		ObjectNode merged = modelNode instanceof ObjectNode objectNode ? objectNode : SharedReaders.MAPPER.createObjectNode();
+		merge(merged, updateNode, skipNulls);
+		try {
+			return this.getReader().readValue(merged);
+		} catch (JacksonException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Merges the fields of {@code update} into {@code target}, recursing into objects present in both and replacing other values.
+	 *
+	 * @param target the node to update
+	 * @param update the node holding the new values
+	 * @param skipNulls whether {@code null} values of {@code update} are ignored
+	 */
+	private static void merge(ObjectNode target, JsonNode update, boolean skipNulls) {
+		for (Map.Entry<String, JsonNode> field : update.properties()) {
+			if (target.get(field.getKey()) instanceof ObjectNode targetChild && field.getValue().isObject()) {
+				merge(targetChild, field.getValue(), skipNulls);
+			} else if (!skipNulls || !field.getValue().isNull()) {
+				target.set(field.getKey(), field.getValue());
+			}
+		}
+	}
+
 	/**
 	 * Determines whether the response type represents a collection of items.
 	 *
@@ -77,4 +235,21 @@ public enum ResponseType {
 		}
 		return mapper.getTypeFactory().constructCollectionType(List.class, this.clazz);
 	}
+
+	/**
+	 * Holds the shared mapper and readers; a nested class because enum constructors cannot reference static fields of the enum.
+	 */
+	private static final class SharedReaders {
+		private static final ObjectMapper MAPPER = new ObjectMapper();
+		private static final ObjectReader TREE_READER = MAPPER.reader();
+		private static final Map<ResponseType, ObjectReader> MODEL_READERS = new EnumMap<>(ResponseType.class);
+
+		static {
+			for (ResponseType responseType : values()) {
+				MODEL_READERS.put(responseType, responseType.isCollection()
+						? MAPPER.readerFor(responseType.getTypeRef(MAPPER))
+						: MAPPER.readerFor(responseType.getClazz()));
+			}
+		}
+	}
 }
@@ -0,0 +1,77 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import lombok.Getter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DisplaySnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkSnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Display;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Network;
+
+/**
+ * Enumeration of the fields whose transitions are recorded in the change journal, with the group they are retrieved
+ * with and how their raw value is read from the group's model.
+ * <p>
+ * The code identifies the field in the journal files, so it must never be reused or changed.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Getter
+public enum JournalField {
+	DISPLAY_STATUS(1, RetrievalType.DISPLAY, Display.DISPLAY_STATUS.getName(),
+			model -> ((DisplaySnapshot) model).currentState()),
+	AUDIO_PANEL_MUTE(2, RetrievalType.DISPLAY, Display.AUDIO_PANEL_MUTE.getName(),
+			model -> toString(((DisplaySnapshot) model).getIsMuted())),
+	AUDIO_MEDIA_MUTE(3, RetrievalType.DISPLAY, Display.AUDIO_MEDIA_MUTE.getName(),
+			model -> toString(((DisplaySnapshot) model).getIsMediaMuted())),
+	LAN_LINK_ACTIVE(4, RetrievalType.NETWORK, Network.LAN_LINK_ACTIVE.getName(),
+			model -> toString(((NetworkSnapshot) model).getLanLinkStatus())),
+	LAN_IP_ADDRESS(5, RetrievalType.NETWORK, Network.LAN_IP_ADDRESS.getName(),
+			model -> ((NetworkSnapshot) model).lanAddress()),
+	WIFI_LINK_ACTIVE(6, RetrievalType.NETWORK, Network.WIFI_LINK_ACTIVE.getName(),
+			model -> toString(((NetworkSnapshot) model).getWifiLinkStatus()));
+
+	private final byte code;
+	private final RetrievalType retrievalType;
+	private final String name;
+	private final Function<Object, String> mapper;
+
+	JournalField(int code, RetrievalType retrievalType, String propertyName, Function<Object, String> mapper) {
+		this.code = (byte) code;
+		this.retrievalType = retrievalType;
+		this.name = Constant.PROPERTY_FORMAT.formatted(retrievalType.getGroupName(), propertyName);
+		this.mapper = mapper;
+	}
+
+	/**
+	 * Reads the raw value of this field from the model of its {@link #retrievalType}.
+	 *
+	 * @param model the retrieved model
+	 * @return the value as text, or {@code null} if the device does not report it
+	 */
+	public String getValue(Object model) {
+		return this.mapper.apply(model);
+	}
+
+	/**
+	 * Returns the field with the given journal code.
+	 *
+	 * @param code the code read from a journal file
+	 * @return the field, or empty if the code is unknown, e.g. written by a newer version
+	 */
+	public static Optional<JournalField> getByCode(byte code) {
+		return Arrays.stream(values()).filter(field -> field.code == code).findFirst();
+	}
+
+	private static String toString(Object value) {
+		return Objects.toString(value, null);
+	}
+}
@@ -0,0 +1,46 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import lombok.Getter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.reachability.IcmpReachabilityProbe;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.reachability.ReachabilityProbe;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.reachability.TcpReachabilityProbe;
+
+/**
+ * Enumeration of the reachability checks that can run before a poll cycle, see {@link ReachabilityProbe}.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Getter
+public enum ReachabilityCheck {
+	NONE("None", () -> null),
+	ICMP("ICMP", IcmpReachabilityProbe::new),
+	TCP("TCP", TcpReachabilityProbe::new);
+
+	private final String name;
+	private final Supplier<ReachabilityProbe> probeFactory;
+
+	ReachabilityCheck(String name, Supplier<ReachabilityProbe> probeFactory) {
+		this.name = name;
+		this.probeFactory = probeFactory;
+	}
+
+	/**
+	 * Creates the probe of this check.
+	 *
+	 * @return a new probe, or {@code null} for {@link #NONE}
+	 */
+	public ReachabilityProbe createProbe() {
+		return this.probeFactory.get();
+	}
+
+	public static Optional<ReachabilityCheck> getByName(String name) {
+		return Arrays.stream(values()).filter(check -> check.name.equalsIgnoreCase(name)).findFirst();
+	}
+}
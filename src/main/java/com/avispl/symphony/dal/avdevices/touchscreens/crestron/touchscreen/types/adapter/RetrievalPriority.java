@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter;
+
+/**
+ * Defines the priority of a {@link RetrievalType} within a poll cycle.
+ * Groups are retrieved from the highest to the lowest priority, and only {@link #HIGH} groups are never deferred
+ * when the poll time budget runs out.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public enum RetrievalPriority {
+	HIGH, NORMAL, LOW
+}
@@ -3,12 +3,51 @@
  */
 package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import lombok.Getter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
+
 /**
- * Enumeration representing the types of retrieval operations.
+ * Enumeration representing the types of retrieval operations, with the group, endpoint, response type and priority of each.
  *
  * @author Kevin / Symphony Dev Team
  * @since 1.0.0
  */
+@Getter
 public enum RetrievalType {
-	GENERAL, CAPABILITIES, DISPLAY, NETWORK, SYSTEM_VERSIONS
+	GENERAL(Constant.GENERAL_GROUP, EndpointConstant.DEVICE_INFO, ResponseType.DEVICE_INFO, RetrievalPriority.HIGH),
+	CAPABILITIES(Constant.CAPABILITIES_GROUP, EndpointConstant.DEVICE_CAPABILITIES, ResponseType.DEVICE_CAPABILITIES, RetrievalPriority.LOW),
+	DISPLAY(Constant.DISPLAY_GROUP, EndpointConstant.DISPLAY, ResponseType.DISPLAY, RetrievalPriority.HIGH),
+	NETWORK(Constant.NETWORK_GROUP, EndpointConstant.NETWORK_ADAPTERS, ResponseType.NETWORK_ADAPTERS, RetrievalPriority.NORMAL),
+	SYSTEM_VERSIONS(Constant.SYSTEM_VERSIONS_GROUP, EndpointConstant.SYSTEM_VERSIONS, ResponseType.SYSTEM_VERSIONS, RetrievalPriority.LOW);
+
+	private static final List<RetrievalType> PRIORITY_ORDER = Arrays.stream(values())
+			.sorted(Comparator.comparing(RetrievalType::getPriority)).toList();
+
+	private final String groupName;
+	private final String endpoint;
+	private final ResponseType responseType;
+	private final RetrievalPriority priority;
+
+	RetrievalType(String groupName, String endpoint, ResponseType responseType, RetrievalPriority priority) {
+		this.groupName = groupName;
+		this.endpoint = endpoint;
+		this.responseType = responseType;
+		this.priority = priority;
+	}
+
+	/**
+	 * Returns all retrieval types ordered from the highest to the lowest {@link RetrievalPriority}.
+	 *
+	 * @return an unmodifiable list of retrieval types in retrieval order
+	 */
+	public static List<RetrievalType> valuesByPriority() {
+		return PRIORITY_ORDER;
+	}
 }
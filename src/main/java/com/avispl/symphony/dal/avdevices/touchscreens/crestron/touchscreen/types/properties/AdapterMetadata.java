@@ -17,7 +17,9 @@ public enum AdapterMetadata implements BaseProperty {
 	ADAPTER_UPTIME("AdapterUptime", "adapter.uptime"),
 	ADAPTER_UPTIME_MIN("AdapterUptime(min)", "adapter.uptime"),
 	ADAPTER_VERSION("AdapterVersion", "adapter.version"),
-	ACTIVE_PROPERTY_GROUPS("ActivePropertyGroups", "adapter.active.property.groups");
+	ACTIVE_PROPERTY_GROUPS("ActivePropertyGroups", "adapter.active.property.groups"),
+	WARM_UP_DURATION("WarmUpDuration(ms)", "adapter.warm.up.duration"),
+	INIT_WARM_UP_DURATION("InitWarmUpDuration(ms)", "adapter.init.warm.up.duration");
 
 	private final String name;
 	private final String property;
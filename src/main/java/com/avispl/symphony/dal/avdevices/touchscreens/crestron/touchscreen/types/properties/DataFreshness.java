@@ -0,0 +1,28 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties;
+
+import lombok.Getter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseProperty;
+
+/**
+ * Represents data freshness properties, added to each displayed group.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Getter
+public enum DataFreshness implements BaseProperty {
+	DATA_AGE("DataAge(s)"),
+	DATA_STALE("DataStale"),
+	LAST_ATTEMPT_AGE("LastAttemptAge(s)"),
+	CONSECUTIVE_FAILURES("ConsecutiveFailures"),
+	NEXT_RETRY("NextRetryIn(s)"),
+	POLLING_INTERVAL("PollingInterval(s)");
+
+	private final String name;
+
+	DataFreshness(String name) {
+		this.name = name;
+	}
+}
@@ -0,0 +1,36 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties;
+
+import lombok.Getter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseProperty;
+
+/**
+ * Represents adapter diagnostics properties.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Getter
+public enum Diagnostics implements BaseProperty {
+	POLL_ALLOCATED_AVERAGE("PollAllocatedAverage(bytes)"),
+	POLL_ALLOCATED_LAST("PollAllocatedLast(bytes)"),
+	FETCH_ALLOCATED_AVERAGE("FetchAllocatedAverage(bytes)"),
+	STATISTICS_ALLOCATED_AVERAGE("StatisticsAllocatedAverage(bytes)"),
+	POLL_DURATION_AVERAGE("PollDurationAverage(ms)"),
+	POLL_DURATION_LAST("PollDurationLast(ms)"),
+	DEFERRED_GROUPS("DeferredGroups"),
+	DEFERRED_GROUPS_TOTAL("DeferredGroupsTotal"),
+	REACHABILITY_RTT_AVERAGE("ReachabilityRTTAverage(ms)"),
+	REACHABILITY_RTT_LAST("ReachabilityRTTLast(ms)"),
+	CONNECT_LATENCY_P99("ConnectLatencyP99(ms)"),
+	RESPONSE_LATENCY_P99("ResponseLatencyP99(ms)"),
+	CONNECT_TIMEOUT("ConnectTimeout(ms)"),
+	RESPONSE_TIMEOUT("ResponseTimeout(ms)");
+
+	private final String name;
+
+	Diagnostics(String name) {
+		this.name = name;
+	}
+}
@@ -6,8 +6,9 @@ import java.util.Optional;
 
 import lombok.Getter;
 
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseProperty;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.EndpointProperty;
 import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
 
 /**
  * Represents display properties.
@@ -16,42 +17,44 @@ import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.commo
  * @since 1.0.0
  */
 @Getter
-public enum Display implements BaseProperty {
-	DISPLAY_STATUS("Status"),
-	LOCAL_SETUP_SEQUENCE("LocalSetupSequence"),
+public enum Display implements EndpointProperty {
+	DISPLAY_STATUS("Status", EndpointConstant.DISPLAY_CURRENT_STATE),
+	LOCAL_SETUP_SEQUENCE("LocalSetupSequence", EndpointConstant.DISPLAY_LOCAL_SETUP_ACCESS),
 	//	LCD
-	LCD_AUTO_BRIGHTNESS(Constant.LCD_DISPLAY_GROUP + "AutoBrightness"),
-	LCD_ALS_THRESHOLD(Constant.LCD_DISPLAY_GROUP + "ALSThreshold(%)"),
-	LCD_ALS_THRESHOLD_VALUE(Constant.LCD_DISPLAY_GROUP + "ALSThresholdCurrentValue(%)"),
-	LCD_BRIGHTNESS(Constant.LCD_DISPLAY_GROUP + "Brightness(%)"),
-	LCD_BRIGHTNESS_VALUE(Constant.LCD_DISPLAY_GROUP + "BrightnessCurrentValue(%)"),
-	LCD_BRIGHTNESS_HIGH_PRESET(Constant.LCD_DISPLAY_GROUP + "BrightnessHighPreset(%)"),
-	LCD_BRIGHTNESS_HIGH_PRESET_VALUE(Constant.LCD_DISPLAY_GROUP + "BrightnessHighPresetCurrentValue(%)"),
-	LCD_BRIGHTNESS_LOW_PRESET(Constant.LCD_DISPLAY_GROUP + "BrightnessLowPreset(%)"),
-	LCD_BRIGHTNESS_LOW_PRESET_VALUE(Constant.LCD_DISPLAY_GROUP + "BrightnessLowPresetCurrentValue(%)"),
-	LCD_STANDBY_TIMEOUT(Constant.LCD_DISPLAY_GROUP + "StandbyTimeout(min)"),
-	LCD_STANDBY_TIMEOUT_VALUE(Constant.LCD_DISPLAY_GROUP + "StandbyTimeoutCurrentValue(min)"),
+	LCD_AUTO_BRIGHTNESS(Constant.LCD_DISPLAY_GROUP + "AutoBrightness", EndpointConstant.DISPLAY_LCD_AUTO_BRIGHTNESS),
+	LCD_ALS_THRESHOLD(Constant.LCD_DISPLAY_GROUP + "ALSThreshold(%)", EndpointConstant.DISPLAY_LCD_AUTO_BRIGHTNESS),
+	LCD_ALS_THRESHOLD_VALUE(Constant.LCD_DISPLAY_GROUP + "ALSThresholdCurrentValue(%)", EndpointConstant.DISPLAY_LCD_AUTO_BRIGHTNESS),
+	LCD_BRIGHTNESS(Constant.LCD_DISPLAY_GROUP + "Brightness(%)", EndpointConstant.DISPLAY_LCD),
+	LCD_BRIGHTNESS_VALUE(Constant.LCD_DISPLAY_GROUP + "BrightnessCurrentValue(%)", EndpointConstant.DISPLAY_LCD),
+	LCD_BRIGHTNESS_HIGH_PRESET(Constant.LCD_DISPLAY_GROUP + "BrightnessHighPreset(%)", EndpointConstant.DISPLAY_LCD_PRESETS),
+	LCD_BRIGHTNESS_HIGH_PRESET_VALUE(Constant.LCD_DISPLAY_GROUP + "BrightnessHighPresetCurrentValue(%)", EndpointConstant.DISPLAY_LCD_PRESETS),
+	LCD_BRIGHTNESS_LOW_PRESET(Constant.LCD_DISPLAY_GROUP + "BrightnessLowPreset(%)", EndpointConstant.DISPLAY_LCD_PRESETS),
+	LCD_BRIGHTNESS_LOW_PRESET_VALUE(Constant.LCD_DISPLAY_GROUP + "BrightnessLowPresetCurrentValue(%)", EndpointConstant.DISPLAY_LCD_PRESETS),
+	LCD_STANDBY_TIMEOUT(Constant.LCD_DISPLAY_GROUP + "StandbyTimeout(min)", EndpointConstant.DISPLAY_LCD),
+	LCD_STANDBY_TIMEOUT_VALUE(Constant.LCD_DISPLAY_GROUP + "StandbyTimeoutCurrentValue(min)", EndpointConstant.DISPLAY_LCD),
 	//	Audio
-	AUDIO_PANEL_MUTE(Constant.AUDIO_DISPLAY_GROUP + "PanelMute"),
-	AUDIO_PANEL_VOLUME(Constant.AUDIO_DISPLAY_GROUP + "PanelVolume(%)"),
-	AUDIO_PANEL_VOLUME_VALUE(Constant.AUDIO_DISPLAY_GROUP + "PanelVolumeCurrentValue(%)"),
-	AUDIO_MEDIA_MUTE(Constant.AUDIO_DISPLAY_GROUP + "MediaMute"),
-	AUDIO_MEDIA_VOLUME(Constant.AUDIO_DISPLAY_GROUP + "MediaVolume(%)"),
-	AUDIO_MEDIA_VOLUME_VALUE(Constant.AUDIO_DISPLAY_GROUP + "MediaVolumeCurrentValue(%)"),
-	AUDIO_BEEP_ENABLED(Constant.AUDIO_DISPLAY_GROUP + "BeepEnabled"),
-	AUDIO_BEEP_VOLUME(Constant.AUDIO_DISPLAY_GROUP + "BeepVolume(%)"),
-	AUDIO_BEEP_VOLUME_VALUE(Constant.AUDIO_DISPLAY_GROUP + "BeepVolumeCurrentValue(%)"),
+	AUDIO_PANEL_MUTE(Constant.AUDIO_DISPLAY_GROUP + "PanelMute", EndpointConstant.DISPLAY_AUDIO),
+	AUDIO_PANEL_VOLUME(Constant.AUDIO_DISPLAY_GROUP + "PanelVolume(%)", EndpointConstant.DISPLAY_AUDIO),
+	AUDIO_PANEL_VOLUME_VALUE(Constant.AUDIO_DISPLAY_GROUP + "PanelVolumeCurrentValue(%)", EndpointConstant.DISPLAY_AUDIO),
+	AUDIO_MEDIA_MUTE(Constant.AUDIO_DISPLAY_GROUP + "MediaMute", EndpointConstant.DISPLAY_AUDIO),
+	AUDIO_MEDIA_VOLUME(Constant.AUDIO_DISPLAY_GROUP + "MediaVolume(%)", EndpointConstant.DISPLAY_AUDIO),
+	AUDIO_MEDIA_VOLUME_VALUE(Constant.AUDIO_DISPLAY_GROUP + "MediaVolumeCurrentValue(%)", EndpointConstant.DISPLAY_AUDIO),
+	AUDIO_BEEP_ENABLED(Constant.AUDIO_DISPLAY_GROUP + "BeepEnabled", EndpointConstant.DISPLAY_AUDIO),
+	AUDIO_BEEP_VOLUME(Constant.AUDIO_DISPLAY_GROUP + "BeepVolume(%)", EndpointConstant.DISPLAY_AUDIO),
+	AUDIO_BEEP_VOLUME_VALUE(Constant.AUDIO_DISPLAY_GROUP + "BeepVolumeCurrentValue(%)", EndpointConstant.DISPLAY_AUDIO),
 	//	Button toolbar
-	BUTTON_TOOLBAR_SHOW_ON_WAKE(Constant.BUTTON_TOOLBAR_DISPLAY_GROUP + "ShowOnWake"),
-	BUTTON_TOOLBAR_SHOW_DURING_STANDBY(Constant.BUTTON_TOOLBAR_DISPLAY_GROUP + "ShowDuringStandby"),
-	BUTTON_TOOLBAR_DISPLAY_EDGE(Constant.BUTTON_TOOLBAR_DISPLAY_GROUP + "DisplayEdge"),
-	BUTTON_TOOLBAR_AUTO_HIDE_TIMEOUT(Constant.BUTTON_TOOLBAR_DISPLAY_GROUP + "AutoHideTimeout(s)"),
-	BUTTON_TOOLBAR_AUTO_HIDE_TIMEOUT_VALUE(Constant.BUTTON_TOOLBAR_DISPLAY_GROUP + "AutoHideTimeoutCurrentValue(s)");
+	BUTTON_TOOLBAR_SHOW_ON_WAKE(Constant.BUTTON_TOOLBAR_DISPLAY_GROUP + "ShowOnWake", EndpointConstant.DISPLAY_VIRTUAL_BUTTONS),
+	BUTTON_TOOLBAR_SHOW_DURING_STANDBY(Constant.BUTTON_TOOLBAR_DISPLAY_GROUP + "ShowDuringStandby", EndpointConstant.DISPLAY_VIRTUAL_BUTTONS),
+	BUTTON_TOOLBAR_DISPLAY_EDGE(Constant.BUTTON_TOOLBAR_DISPLAY_GROUP + "DisplayEdge", EndpointConstant.DISPLAY_VIRTUAL_BUTTONS),
+	BUTTON_TOOLBAR_AUTO_HIDE_TIMEOUT(Constant.BUTTON_TOOLBAR_DISPLAY_GROUP + "AutoHideTimeout(s)", EndpointConstant.DISPLAY_VIRTUAL_BUTTONS),
+	BUTTON_TOOLBAR_AUTO_HIDE_TIMEOUT_VALUE(Constant.BUTTON_TOOLBAR_DISPLAY_GROUP + "AutoHideTimeoutCurrentValue(s)", EndpointConstant.DISPLAY_VIRTUAL_BUTTONS);
 
 	private final String name;
+	private final String endpoint;
 
-	Display(String name) {
+	Display(String name, String endpoint) {
 		this.name = name;
+		this.endpoint = endpoint;
 	}
 
 	public static Optional<Display> getByName(String name) {
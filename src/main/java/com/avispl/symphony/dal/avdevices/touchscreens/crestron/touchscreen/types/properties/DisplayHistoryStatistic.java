@@ -0,0 +1,26 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties;
+
+import lombok.Getter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseProperty;
+
+/**
+ * Represents the windowed statistics generated for each {@link DisplayMetric}, appended to the metric name.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Getter
+public enum DisplayHistoryStatistic implements BaseProperty {
+	MIN("Min"),
+	MAX("Max"),
+	AVERAGE("Average"),
+	LAST_CHANGE_AGE("LastChangeAge(s)");
+
+	private final String name;
+
+	DisplayHistoryStatistic(String name) {
+		this.name = name;
+	}
+}
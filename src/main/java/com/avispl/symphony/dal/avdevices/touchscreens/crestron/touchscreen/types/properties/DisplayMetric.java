@@ -0,0 +1,59 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties;
+
+import java.util.function.ToIntFunction;
+
+import lombok.Getter;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DisplaySnapshot;
+
+/**
+ * Represents the numeric {@link Display} values whose history is kept, see {@code DisplayHistory}.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Getter
+public enum DisplayMetric {
+	LCD_BRIGHTNESS(Constant.LCD_DISPLAY_GROUP + "Brightness", DisplaySnapshot.BRIGHTNESS, DisplaySnapshot::brightness),
+	LCD_ALS_THRESHOLD(Constant.LCD_DISPLAY_GROUP + "ALSThreshold", DisplaySnapshot.ALS_THRESHOLD, DisplaySnapshot::alsThreshold),
+	LCD_BRIGHTNESS_HIGH_PRESET(Constant.LCD_DISPLAY_GROUP + "BrightnessHighPreset", DisplaySnapshot.HIGH_PRESET, DisplaySnapshot::highPreset),
+	LCD_BRIGHTNESS_LOW_PRESET(Constant.LCD_DISPLAY_GROUP + "BrightnessLowPreset", DisplaySnapshot.LOW_PRESET, DisplaySnapshot::lowPreset),
+	LCD_STANDBY_TIMEOUT(Constant.LCD_DISPLAY_GROUP + "StandbyTimeout", DisplaySnapshot.STANDBY_TIMEOUT_MINUTES, DisplaySnapshot::standbyTimeoutMinutes),
+	AUDIO_PANEL_VOLUME(Constant.AUDIO_DISPLAY_GROUP + "PanelVolume", DisplaySnapshot.VOLUME, DisplaySnapshot::volume),
+	AUDIO_MEDIA_VOLUME(Constant.AUDIO_DISPLAY_GROUP + "MediaVolume", DisplaySnapshot.MEDIA_VOLUME, DisplaySnapshot::mediaVolume),
+	AUDIO_BEEP_VOLUME(Constant.AUDIO_DISPLAY_GROUP + "BeepVolume", DisplaySnapshot.BEEP_VOLUME, DisplaySnapshot::beepVolume),
+	BUTTON_TOOLBAR_AUTO_HIDE_TIMEOUT(Constant.BUTTON_TOOLBAR_DISPLAY_GROUP + "AutoHideTimeout",
+			DisplaySnapshot.AUTO_HIDE_TIMEOUT_SECONDS, DisplaySnapshot::autoHideTimeoutSeconds);
+
+	private final String name;
+	private final int presenceBit;
+	private final ToIntFunction<DisplaySnapshot> mapper;
+
+	DisplayMetric(String name, int presenceBit, ToIntFunction<DisplaySnapshot> mapper) {
+		this.name = name;
+		this.presenceBit = presenceBit;
+		this.mapper = mapper;
+	}
+
+	/**
+	 * Checks whether the given display reports this metric.
+	 *
+	 * @param display the display to check
+	 * @return {@code true} if the display reports the metric, {@code false} otherwise
+	 */
+	public boolean isReported(DisplaySnapshot display) {
+		return display.has(this.presenceBit);
+	}
+
+	/**
+	 * Reads the value of this metric from the given display.
+	 *
+	 * @param display the display to read from
+	 * @return the value, {@code 0} if the display does not report it, see {@link #isReported(DisplaySnapshot)}
+	 */
+	public int getValue(DisplaySnapshot display) {
+		return this.mapper.applyAsInt(display);
+	}
+}
@@ -3,7 +3,8 @@ package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.type
 
 import lombok.Getter;
 
-import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.BaseProperty;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases.EndpointProperty;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
 
 /**
  * Represents network adapter properties.
@@ -12,25 +13,27 @@ import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.bases
  * @since 1.0.0
  */
 @Getter
-public enum Network implements BaseProperty {
-	DNS_SERVERS("DNSServers"),
-	HOSTNAME("Hostname"),
-	IPV6_ENABLED("IPv6Enabled"),
+public enum Network implements EndpointProperty {
+	DNS_SERVERS("DNSServers", EndpointConstant.NETWORK_ADAPTERS_DNS_SETTINGS),
+	HOSTNAME("Hostname", EndpointConstant.NETWORK_ADAPTERS_HOST_NAME),
+	IPV6_ENABLED("IPv6Enabled", EndpointConstant.NETWORK_ADAPTERS_IPV6),
 	//	LAN
-	LAN_DEFAULT_GATEWAY("LANDefaultGateway"),
-	LAN_DHCP_ENABLED("LANDHCPEnabled"),
-	LAN_DOMAIN_NAME("LANDomainName"),
-	LAN_IP_ADDRESS("LANIPAddress"),
-	LAN_LINK_ACTIVE("LANLinkActive"),
-	LAN_SUBNET_MASK("LANSubnetMask"),
+	LAN_DEFAULT_GATEWAY("LANDefaultGateway", EndpointConstant.NETWORK_ADAPTERS_ETHERNET_LAN),
+	LAN_DHCP_ENABLED("LANDHCPEnabled", EndpointConstant.NETWORK_ADAPTERS_ETHERNET_LAN),
+	LAN_DOMAIN_NAME("LANDomainName", EndpointConstant.NETWORK_ADAPTERS_ETHERNET_LAN),
+	LAN_IP_ADDRESS("LANIPAddress", EndpointConstant.NETWORK_ADAPTERS_ETHERNET_LAN),
+	LAN_LINK_ACTIVE("LANLinkActive", EndpointConstant.NETWORK_ADAPTERS_ETHERNET_LAN),
+	LAN_SUBNET_MASK("LANSubnetMask", EndpointConstant.NETWORK_ADAPTERS_ETHERNET_LAN),
 	//	WiFi
-	WIFI_DOMAIN_NAME("WiFiDomainName"),
-	WIFI_LINK_ACTIVE("WiFiLinkActive"),
-	WIFI_MAC_ADDRESS("WiFiMACAddress");
+	WIFI_DOMAIN_NAME("WiFiDomainName", EndpointConstant.NETWORK_ADAPTERS_WIFI),
+	WIFI_LINK_ACTIVE("WiFiLinkActive", EndpointConstant.NETWORK_ADAPTERS_WIFI),
+	WIFI_MAC_ADDRESS("WiFiMACAddress", EndpointConstant.NETWORK_ADAPTERS_WIFI);
 
 	private final String name;
+	private final String endpoint;
 
-	Network(String name) {
+	Network(String name, String endpoint) {
 		this.name = name;
+		this.endpoint = endpoint;
 	}
 }
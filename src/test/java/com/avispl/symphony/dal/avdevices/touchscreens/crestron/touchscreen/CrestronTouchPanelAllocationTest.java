@@ -0,0 +1,162 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.stub.CresNextStubServer;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Display;
+
+/**
+ * Allocation-regression tests for the {@link CrestronTouchPanelCommunicator} statistics and control paths,
+ * running against {@link CresNextStubServer}.
+ * <p>
+ * Each test measures the bytes allocated by the calling thread for one steady-state operation and fails when the
+ * budget committed in {@code allocation-budgets.properties} is exceeded. Polls are budgeted per property group, so a
+ * failure points at the mapper that regressed.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Tag("Mock")
+class CrestronTouchPanelAllocationTest {
+	private static final String BUDGETS_FILE = "allocation-budgets.properties";
+	private static final int WARMUP_ITERATIONS = 50;
+	private static final int MEASUREMENT_ITERATIONS = 10;
+
+	private static com.sun.management.ThreadMXBean threadMXBean;
+	private static Properties budgets;
+
+	private CresNextStubServer stubServer;
+	private CrestronTouchPanelCommunicator communicator;
+
+	@BeforeAll
+	static void loadBudgets() throws IOException {
+		Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+				"Thread allocation measurement is not supported by this JVM");
+		threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assumptions.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled(),
+				"Thread allocation measurement is disabled");
+		budgets = new Properties();
+		try (InputStream inputStream = CrestronTouchPanelAllocationTest.class.getClassLoader().getResourceAsStream(BUDGETS_FILE)) {
+			Assertions.assertNotNull(inputStream, BUDGETS_FILE + " is missing");
+			budgets.load(inputStream);
+		}
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.stubServer = CresNextStubServer.start();
+		this.communicator = new CrestronTouchPanelCommunicator();
+		this.communicator.setHost(this.stubServer.getHost());
+		this.communicator.setPort(this.stubServer.getPort());
+		this.communicator.setProtocol("http");
+		this.communicator.setLogin("admin");
+		this.communicator.setPassword("admin");
+		this.communicator.init();
+	}
+
+	@AfterEach
+	void destroy() {
+		this.communicator.destroy();
+		this.stubServer.close();
+	}
+
+	@Test
+	void testGeneralPollAllocation() throws Exception {
+		this.assertPollWithinBudget(Constant.GENERAL_GROUP);
+	}
+
+	@Test
+	void testCapabilitiesPollAllocation() throws Exception {
+		this.assertPollWithinBudget(Constant.CAPABILITIES_GROUP);
+	}
+
+	@Test
+	void testDisplayPollAllocation() throws Exception {
+		this.assertPollWithinBudget(Constant.DISPLAY_GROUP);
+	}
+
+	@Test
+	void testNetworkPollAllocation() throws Exception {
+		this.assertPollWithinBudget(Constant.NETWORK_GROUP);
+	}
+
+	@Test
+	void testSystemVersionsPollAllocation() throws Exception {
+		this.assertPollWithinBudget(Constant.SYSTEM_VERSIONS_GROUP);
+	}
+
+	@Test
+	void testAllGroupsPollAllocation() throws Exception {
+		this.assertPollWithinBudget(Constant.ALL);
+	}
+
+	@Test
+	void testDisplayControlAllocation() throws Exception {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.AUDIO_PANEL_MUTE.getName()));
+		controllableProperty.setValue("1");
+		this.communicator.setDisplayPropertyGroups(Constant.DISPLAY_GROUP);
+		this.communicator.getMultipleStatistics();
+
+		this.assertWithinBudget("control." + Constant.DISPLAY_GROUP, () -> this.communicator.controlProperty(controllableProperty));
+	}
+
+	/**
+	 * Asserts that one poll with only the given group displayed stays within the group's budget.
+	 *
+	 * @param groupName the property group to display, or {@link Constant#ALL}
+	 * @throws Exception if a poll fails
+	 */
+	private void assertPollWithinBudget(String groupName) throws Exception {
+		this.communicator.setDisplayPropertyGroups(groupName);
+		this.assertWithinBudget("poll." + groupName, this.communicator::getMultipleStatistics);
+	}
+
+	/**
+	 * Warms the operation up and asserts that the lowest allocation of the measured runs stays within the budget.
+	 * The lowest value is used because it excludes one-off allocations such as lazy initialization and TLAB refills.
+	 *
+	 * @param budgetKey the key of the budget in {@link #BUDGETS_FILE}
+	 * @param operation the operation to measure
+	 * @throws Exception if the operation fails
+	 */
+	private void assertWithinBudget(String budgetKey, Operation operation) throws Exception {
+		String budget = budgets.getProperty(budgetKey);
+		Assertions.assertNotNull(budget, "No allocation budget is committed for " + budgetKey);
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			operation.run();
+		}
+		long threadId = Thread.currentThread().getId();
+		long allocatedBytes = Long.MAX_VALUE;
+		for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+			long startAllocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+			operation.run();
+			allocatedBytes = Math.min(allocatedBytes, threadMXBean.getThreadAllocatedBytes(threadId) - startAllocatedBytes);
+		}
+		Assertions.assertTrue(allocatedBytes <= Long.parseLong(budget.trim()),
+				"%s allocated %d bytes, budget is %s bytes".formatted(budgetKey, allocatedBytes, budget));
+	}
+
+	/**
+	 * Operation whose allocation is measured.
+	 */
+	@FunctionalInterface
+	private interface Operation {
+		void run() throws Exception;
+	}
+}
@@ -0,0 +1,659 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.persistence.ChangeJournal;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.reachability.ReachabilityProbe;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.reachability.TcpReachabilityProbe;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DeviceDisplay;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.display.DisplaySnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.network.NetworkSnapshot;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.stub.CresNextStubServer;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.stub.CresNextWebSocketStub;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter.JournalField;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.adapter.RetrievalType;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.AdapterMetadata;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.DataFreshness;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Diagnostics;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Display;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.DisplayHistoryStatistic;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.DisplayMetric;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.General;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Network;
+
+/**
+ * Unit tests for the {@link CrestronTouchPanelCommunicator} class, running against {@link CresNextStubServer}.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Tag("Mock")
+class CrestronTouchPanelCommunicatorStubTest {
+	private CresNextStubServer stubServer;
+	private CrestronTouchPanelCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.stubServer = CresNextStubServer.start();
+		this.communicator = new CrestronTouchPanelCommunicator();
+		this.communicator.setHost(this.stubServer.getHost());
+		this.communicator.setPort(this.stubServer.getPort());
+		this.communicator.setProtocol("http");
+		this.communicator.setLogin("admin");
+		this.communicator.setPassword("admin");
+		this.communicator.init();
+	}
+
+	@AfterEach
+	void destroy() {
+		this.communicator.destroy();
+		this.stubServer.close();
+	}
+
+	@Test
+	void testFailingGroupKeepsLastGoodData() throws Exception {
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		this.getStatistics();
+
+		this.stubServer.injectFailure(EndpointConstant.NETWORK_ADAPTERS, 500);
+		Map<String, String> statistics = this.getStatistics();
+		String hostnameProperty = Constant.PROPERTY_FORMAT.formatted(Constant.NETWORK_GROUP, Network.HOSTNAME.getName());
+		Assertions.assertEquals("TSW-1070-00107F000001", statistics.get(hostnameProperty));
+		Assertions.assertEquals("true", statistics.get(this.freshnessProperty(Constant.NETWORK_GROUP, DataFreshness.DATA_STALE)));
+		Assertions.assertEquals("1", statistics.get(this.freshnessProperty(Constant.NETWORK_GROUP, DataFreshness.CONSECUTIVE_FAILURES)));
+		Assertions.assertEquals("false", statistics.get(this.freshnessProperty(Constant.DISPLAY_GROUP, DataFreshness.DATA_STALE)));
+		Assertions.assertEquals("Active", statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.DISPLAY_STATUS.getName())));
+		Assertions.assertEquals("TSW-1070", statistics.get(General.MODEL.getName()));
+
+		//	The failing group waits for its backoff instead of being retried on the next poll
+		int networkRequests = this.stubServer.getRequestCount(EndpointConstant.NETWORK_ADAPTERS);
+		int displayRequests = this.stubServer.getRequestCount(EndpointConstant.DISPLAY);
+		this.getStatistics();
+		Assertions.assertEquals(networkRequests, this.stubServer.getRequestCount(EndpointConstant.NETWORK_ADAPTERS));
+		Assertions.assertEquals(displayRequests + 1, this.stubServer.getRequestCount(EndpointConstant.DISPLAY));
+	}
+
+	@Test
+	void testDataFreshnessReportsAgeAndExpiresOldData() throws Exception {
+		this.communicator.setDisplayPropertyGroups(Constant.GENERAL_GROUP + Constant.COMMA + Constant.NETWORK_GROUP);
+		this.communicator.setDataMaxAge(1);
+		Map<String, String> statistics = this.getStatistics();
+		Assertions.assertEquals("0", statistics.get(this.freshnessProperty(Constant.NETWORK_GROUP, DataFreshness.DATA_AGE)));
+		Assertions.assertEquals("0", statistics.get(this.freshnessProperty(Constant.NETWORK_GROUP, DataFreshness.LAST_ATTEMPT_AGE)));
+		Assertions.assertEquals("false", statistics.get(this.freshnessProperty(Constant.NETWORK_GROUP, DataFreshness.DATA_STALE)));
+
+		//	The failing group keeps its last good data until it is older than the maximum age
+		this.stubServer.injectFailure(EndpointConstant.NETWORK_ADAPTERS, 500);
+		this.getStatistics();
+		Thread.sleep(2100);
+		statistics = this.getStatistics();
+		String hostnameProperty = Constant.PROPERTY_FORMAT.formatted(Constant.NETWORK_GROUP, Network.HOSTNAME.getName());
+		Assertions.assertEquals(Constant.NOT_AVAILABLE, statistics.get(hostnameProperty));
+		Assertions.assertTrue(Long.parseLong(statistics.get(this.freshnessProperty(Constant.NETWORK_GROUP, DataFreshness.DATA_AGE))) >= 2);
+		Assertions.assertEquals("true", statistics.get(this.freshnessProperty(Constant.NETWORK_GROUP, DataFreshness.DATA_STALE)));
+		Assertions.assertEquals("0", statistics.get(this.freshnessProperty(Constant.GENERAL_GROUP, DataFreshness.DATA_AGE)));
+		Assertions.assertEquals("false", statistics.get(this.freshnessProperty(Constant.GENERAL_GROUP, DataFreshness.DATA_STALE)));
+	}
+
+	@Test
+	void testAllGroupsFailingAbortsPoll() {
+		this.communicator.setDisplayPropertyGroups(Constant.GENERAL_GROUP);
+		this.stubServer.injectFailure(EndpointConstant.DEVICE_INFO, 500);
+		Assertions.assertThrows(IllegalStateException.class, this.communicator::getMultipleStatistics);
+	}
+
+	@Test
+	void testAllGroupsReturningGarbageAbortsPoll() {
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		for (String endpoint : List.of(EndpointConstant.DEVICE_INFO, EndpointConstant.DEVICE_CAPABILITIES,
+				EndpointConstant.SYSTEM_VERSIONS, EndpointConstant.NETWORK_ADAPTERS, EndpointConstant.DISPLAY)) {
+			this.stubServer.setRawResponse(endpoint, "{\"Device\": <html>");
+		}
+		//	An empty response counts as a failure too
+		this.stubServer.setRawResponse(EndpointConstant.SYSTEM_VERSIONS, " ");
+		Assertions.assertThrows(IllegalStateException.class, this.communicator::getMultipleStatistics);
+	}
+
+	@Test
+	void testDiagnosticsReportResponseSizesAndAllocations() throws Exception {
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		this.getStatistics();
+		Map<String, String> statistics = this.getStatistics();
+
+		int displaySize = CresNextStubServer.readFixture("Display").toString().getBytes(StandardCharsets.UTF_8).length;
+		Assertions.assertEquals(String.valueOf(displaySize), statistics.get(this.compressionProperty(Constant.RESPONSE_SIZE_AVERAGE_FORMAT, ResponseType.DISPLAY)));
+		for (Diagnostics property : List.of(Diagnostics.POLL_ALLOCATED_AVERAGE, Diagnostics.POLL_ALLOCATED_LAST,
+				Diagnostics.FETCH_ALLOCATED_AVERAGE, Diagnostics.STATISTICS_ALLOCATED_AVERAGE)) {
+			Assertions.assertTrue(Long.parseLong(statistics.get(this.diagnosticsProperty(property))) > 0, property.getName());
+		}
+		Assertions.assertTrue(Long.parseLong(statistics.get(this.diagnosticsProperty(Diagnostics.POLL_DURATION_LAST))) >= 0);
+	}
+
+	@Test
+	void testLowPriorityGroupsDeferredWhenBudgetRunsOut() throws Exception {
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		this.communicator.setPollTimeBudget(1500);
+		this.stubServer.setLatency(EndpointConstant.NETWORK_ADAPTERS, 700);
+
+		Map<String, String> statistics = this.getStatistics();
+		Assertions.assertEquals("Capabilities, SystemVersions", statistics.get(this.diagnosticsProperty(Diagnostics.DEFERRED_GROUPS)));
+		Assertions.assertEquals("2", statistics.get(this.diagnosticsProperty(Diagnostics.DEFERRED_GROUPS_TOTAL)));
+		Assertions.assertEquals(0, this.stubServer.getRequestCount(EndpointConstant.DEVICE_CAPABILITIES));
+		Assertions.assertEquals(0, this.stubServer.getRequestCount(EndpointConstant.SYSTEM_VERSIONS));
+		Assertions.assertEquals("TSW-1070-00107F000001", statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.NETWORK_GROUP, Network.HOSTNAME.getName())));
+		Assertions.assertEquals("Active", statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.DISPLAY_STATUS.getName())));
+
+		this.stubServer.setLatency(EndpointConstant.NETWORK_ADAPTERS, 0);
+		statistics = this.getStatistics();
+		Assertions.assertEquals(Constant.NONE, statistics.get(this.diagnosticsProperty(Diagnostics.DEFERRED_GROUPS)));
+		Assertions.assertEquals(1, this.stubServer.getRequestCount(EndpointConstant.DEVICE_CAPABILITIES));
+		Assertions.assertEquals(1, this.stubServer.getRequestCount(EndpointConstant.SYSTEM_VERSIONS));
+	}
+
+	@Test
+	void testRequestTimeoutLimitedByBudget() throws Exception {
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		this.communicator.setPollTimeBudget(1500);
+		this.stubServer.setLatency(EndpointConstant.SYSTEM_VERSIONS, 5000);
+
+		long startTimestamp = System.currentTimeMillis();
+		Map<String, String> statistics = this.getStatistics();
+		Assertions.assertTrue(System.currentTimeMillis() - startTimestamp < 4000);
+		Assertions.assertEquals("1", statistics.get(this.freshnessProperty(Constant.SYSTEM_VERSIONS_GROUP, DataFreshness.CONSECUTIVE_FAILURES)));
+		Assertions.assertEquals("false", statistics.get(this.freshnessProperty(Constant.DISPLAY_GROUP, DataFreshness.DATA_STALE)));
+	}
+
+	@Test
+	void testUnreachableDeviceSkipsHttpRequests() throws Exception {
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		this.communicator.setReachabilityProbe((host, port, timeoutMs) -> ReachabilityProbe.ProbeResult.unreachable("Request timed out"));
+		int deviceInfoRequests = this.stubServer.getRequestCount(EndpointConstant.DEVICE_INFO);
+		Assertions.assertThrows(ResourceNotReachableException.class, this.communicator::getMultipleStatistics);
+		Assertions.assertEquals(deviceInfoRequests, this.stubServer.getRequestCount(EndpointConstant.DEVICE_INFO));
+
+		this.communicator.setReachabilityProbe((host, port, timeoutMs) -> ReachabilityProbe.ProbeResult.reachable(7));
+		Map<String, String> statistics = this.getStatistics();
+		Assertions.assertEquals("7", statistics.get(this.diagnosticsProperty(Diagnostics.REACHABILITY_RTT_LAST)));
+		Assertions.assertEquals("TSW-1070", statistics.get(General.MODEL.getName()));
+	}
+
+	@Test
+	void testTcpReachabilityProbe() {
+		Assertions.assertTrue(new TcpReachabilityProbe().probe(this.stubServer.getHost(), this.stubServer.getPort(), 1000).reachable());
+	}
+
+	@Test
+	void testAdaptivePollingSlowsDownIdlePanel() throws Exception {
+		this.communicator.setDisplayPropertyGroups(Constant.DISPLAY_GROUP);
+		this.communicator.setMaxPollingInterval(600);
+		String intervalProperty = this.freshnessProperty(Constant.DISPLAY_GROUP, DataFreshness.POLLING_INTERVAL);
+		this.getStatistics();
+		Assertions.assertEquals("0", this.getStatistics().get(intervalProperty), "An active panel is polled on every cycle");
+
+		this.stubServer.applyDisplayUpdate(ResponseType.getSharedMapper().readTree("{\"Device\":{\"Display\":{\"CurrentState\":\"Standby\"}}}"));
+		this.getStatistics();
+		Assertions.assertEquals("30", this.getStatistics().get(intervalProperty));
+		int displayRequests = this.stubServer.getRequestCount(EndpointConstant.DISPLAY);
+		this.getStatistics();
+		Assertions.assertEquals(displayRequests, this.stubServer.getRequestCount(EndpointConstant.DISPLAY));
+
+		//	A control snaps the group back to the fast cadence
+		this.setPanelVolume(10);
+		displayRequests = this.stubServer.getRequestCount(EndpointConstant.DISPLAY);
+		Map<String, String> statistics = this.getStatistics();
+		Assertions.assertEquals(displayRequests + 1, this.stubServer.getRequestCount(EndpointConstant.DISPLAY));
+		Assertions.assertEquals("0", statistics.get(intervalProperty));
+	}
+
+	@Test
+	void testAdaptiveTimeoutsFollowObservedLatency() throws Exception {
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		this.communicator.setAdaptiveTimeouts(true);
+		this.communicator.setMinRequestTimeout(50);
+		this.communicator.setMaxRequestTimeout(10_000);
+		//	Every request connects again, and the panel takes longer to respond than to accept connections
+		this.stubServer.setConnectionClosed(true);
+		this.stubServer.setLatency(EndpointConstant.DISPLAY, 100);
+		Map<String, String> statistics = this.getStatistics();
+		Assertions.assertEquals("10000", statistics.get(this.diagnosticsProperty(Diagnostics.RESPONSE_TIMEOUT)), "Too few samples to tune the timeouts");
+
+		for (int i = 0; i < 4; i++) {
+			statistics = this.getStatistics();
+		}
+		long responseTimeout = Long.parseLong(statistics.get(this.diagnosticsProperty(Diagnostics.RESPONSE_TIMEOUT)));
+		Assertions.assertTrue(responseTimeout >= 300 && responseTimeout < 10_000, "Tuned from the response latencies: " + responseTimeout);
+		Assertions.assertEquals("50", statistics.get(this.diagnosticsProperty(Diagnostics.CONNECT_TIMEOUT)), "Tuned from the connect latencies");
+
+		//	A request far slower than the observed latencies fails at the tuned timeout instead of the configured one
+		this.stubServer.setLatency(EndpointConstant.SYSTEM_VERSIONS, 5000);
+		long startTimestamp = System.currentTimeMillis();
+		statistics = this.getStatistics();
+		Assertions.assertTrue(System.currentTimeMillis() - startTimestamp < 4000);
+		Assertions.assertEquals("1", statistics.get(this.freshnessProperty(Constant.SYSTEM_VERSIONS_GROUP, DataFreshness.CONSECUTIVE_FAILURES)));
+	}
+
+	@Test
+	void testPushModeAppliesUpdatesAndReconnects() throws Exception {
+		try (CresNextWebSocketStub webSocketStub = CresNextWebSocketStub.start()) {
+			this.communicator.destroy();
+			this.communicator.setPushMode(true);
+			this.communicator.setPushPort(webSocketStub.getPort());
+			this.communicator.setPushPingInterval(1);
+			this.communicator.init();
+			this.communicator.setDisplayPropertyGroups(Constant.DISPLAY_GROUP);
+			awaitCondition(() -> this.communicator.isPushConnected() && webSocketStub.getReceivedMessages().size() == 2);
+			Assertions.assertEquals(List.of(EndpointConstant.DISPLAY, EndpointConstant.NETWORK_ADAPTERS), webSocketStub.getReceivedMessages());
+
+			String volumeProperty = Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.AUDIO_PANEL_VOLUME.getName());
+			Assertions.assertEquals("40", this.getStatistics().get(volumeProperty));
+			int displayRequests = this.stubServer.getRequestCount(EndpointConstant.DISPLAY);
+
+			//	Pushed changes are applied without polling the display again
+			webSocketStub.push("{\"Device\":{\"Display\":{\"Audio\":{\"Volume\":12}}}}");
+			awaitCondition(() -> "12".equals(this.getStatisticsUnchecked().get(volumeProperty)));
+			Map<String, String> statistics = this.getStatistics();
+			Assertions.assertEquals("Active", statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.DISPLAY_STATUS.getName())));
+			Assertions.assertEquals(displayRequests, this.stubServer.getRequestCount(EndpointConstant.DISPLAY));
+
+			//	A dropped connection is detected, at the latest by its unanswered ping, and reopened
+			webSocketStub.disconnectAll();
+			awaitCondition(() -> webSocketStub.getConnectionCount() == 2 && this.communicator.isPushConnected());
+		}
+	}
+
+	@Test
+	void testCompressedResponsesAreDecodedAndIgnoredAcceptEncodingFallsBack() throws Exception {
+		this.communicator.setCompressedTransfer(true);
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		String hostnameProperty = Constant.PROPERTY_FORMAT.formatted(Constant.NETWORK_GROUP, Network.HOSTNAME.getName());
+		String encodingProperty = this.compressionProperty(Constant.CONTENT_ENCODING_FORMAT, ResponseType.NETWORK_ADAPTERS);
+		this.stubServer.setContentEncoding("gzip");
+		Map<String, String> statistics = this.getStatistics();
+		Assertions.assertEquals(Constant.ACCEPT_ENCODING, this.stubServer.getLastAcceptEncoding(EndpointConstant.NETWORK_ADAPTERS));
+		Assertions.assertEquals("gzip", statistics.get(encodingProperty));
+		Assertions.assertTrue(Double.parseDouble(statistics.get(this.compressionProperty(Constant.COMPRESSION_RATIO_FORMAT, ResponseType.NETWORK_ADAPTERS))) > 1);
+		Assertions.assertEquals("TSW-1070-00107F000001", statistics.get(hostnameProperty));
+
+		this.stubServer.setContentEncoding("deflate");
+		statistics = this.getStatistics();
+		Assertions.assertEquals("deflate", statistics.get(encodingProperty));
+		Assertions.assertEquals("TSW-1070-00107F000001", statistics.get(hostnameProperty));
+
+		//	Compression is no longer requested once the device ignored it several times in a row
+		this.stubServer.setContentEncoding(null);
+		for (int i = 0; i < Constant.COMPRESSION_FALLBACK_THRESHOLD; i++) {
+			statistics = this.getStatistics();
+		}
+		Assertions.assertEquals(Constant.IDENTITY_ENCODING, statistics.get(encodingProperty));
+		Assertions.assertEquals("TSW-1070-00107F000001", statistics.get(hostnameProperty));
+		this.getStatistics();
+		Assertions.assertNull(this.stubServer.getLastAcceptEncoding(EndpointConstant.NETWORK_ADAPTERS));
+	}
+
+	@Test
+	void testPropertyFiltersRequestOnlySelectedSubPaths() throws Exception {
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		this.communicator.setPropertyFilters("Display.Audio*, Network#LAN*, !Network#LANDomainName");
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) this.communicator.getMultipleStatistics().get(0);
+		Map<String, String> statistics = extendedStatistics.getStatistics();
+		Assertions.assertEquals(1, this.stubServer.getRequestCount(EndpointConstant.DISPLAY_AUDIO));
+		Assertions.assertEquals(1, this.stubServer.getRequestCount(EndpointConstant.NETWORK_ADAPTERS_ETHERNET_LAN));
+		Assertions.assertEquals(0, this.stubServer.getRequestCount(EndpointConstant.DISPLAY));
+		Assertions.assertEquals(0, this.stubServer.getRequestCount(EndpointConstant.NETWORK_ADAPTERS));
+		Assertions.assertEquals("40", statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.AUDIO_PANEL_VOLUME.getName())));
+		Assertions.assertEquals("192.0.2.10", statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.NETWORK_GROUP, Network.LAN_IP_ADDRESS.getName())));
+		Assertions.assertFalse(statistics.containsKey(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.DISPLAY_STATUS.getName())));
+		Assertions.assertFalse(statistics.containsKey(Constant.PROPERTY_FORMAT.formatted(Constant.NETWORK_GROUP, Network.HOSTNAME.getName())));
+		Assertions.assertFalse(statistics.containsKey(Constant.PROPERTY_FORMAT.formatted(Constant.NETWORK_GROUP, Network.LAN_DOMAIN_NAME.getName())));
+		Assertions.assertEquals("TSW-1070", statistics.get(General.MODEL.getName()));
+		Assertions.assertTrue(extendedStatistics.getControllableProperties().stream().allMatch(
+				controller -> controller.getName().startsWith(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Constant.AUDIO_DISPLAY_GROUP))));
+		long displaySize = Long.parseLong(statistics.get(this.compressionProperty(Constant.RESPONSE_SIZE_AVERAGE_FORMAT, ResponseType.DISPLAY)));
+		Assertions.assertTrue(displaySize < CresNextStubServer.readFixture(ResponseType.DISPLAY.getName()).toString().length());
+
+		//	Clearing the filters retrieves whole groups again on the next poll
+		this.communicator.setPropertyFilters("");
+		statistics = this.getStatistics();
+		Assertions.assertEquals(1, this.stubServer.getRequestCount(EndpointConstant.DISPLAY));
+		Assertions.assertEquals("Active", statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.DISPLAY_STATUS.getName())));
+		Assertions.assertEquals("TSW-1070-00107F000001", statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.NETWORK_GROUP, Network.HOSTNAME.getName())));
+	}
+
+	@Test
+	void testWarmRestartServesSnapshotAndRefreshesInBackground(@TempDir Path snapshotDirectory) throws Exception {
+		this.communicator.destroy();
+		this.communicator.setSnapshotDirectory(snapshotDirectory.toString());
+		this.communicator.init();
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		this.getStatistics();
+		Assertions.assertTrue(Files.isRegularFile(snapshotDirectory.resolve("127_0_0_1.snapshot")));
+
+		CrestronTouchPanelCommunicator restarted = new CrestronTouchPanelCommunicator();
+		restarted.setHost(this.stubServer.getHost());
+		restarted.setPort(this.stubServer.getPort());
+		restarted.setProtocol("http");
+		restarted.setLogin("admin");
+		restarted.setPassword("admin");
+		restarted.setSnapshotDirectory(snapshotDirectory.toString());
+		try {
+			restarted.init();
+			restarted.setDisplayPropertyGroups(Constant.ALL);
+			this.stubServer.setLatency(500, 0);
+			int loginRequests = this.stubServer.getRequestCount(EndpointConstant.LOGIN);
+
+			long startTimestamp = System.currentTimeMillis();
+			Map<String, String> statistics = ((ExtendedStatistics) restarted.getMultipleStatistics().get(0)).getStatistics();
+			Assertions.assertTrue(System.currentTimeMillis() - startTimestamp < 500, "The restored snapshot is not served immediately");
+			Assertions.assertEquals("TSW-1070", statistics.get(General.MODEL.getName()));
+			Assertions.assertEquals("TSW-1070-00107F000001", statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.NETWORK_GROUP, Network.HOSTNAME.getName())));
+			Assertions.assertEquals("true", statistics.get(this.freshnessProperty(Constant.DISPLAY_GROUP, DataFreshness.DATA_STALE)));
+
+			//	A control waits for the refresh to log in, but not until every group of the refresh has been fetched
+			awaitCondition(() -> this.stubServer.getRequestCount(EndpointConstant.LOGIN) > loginRequests);
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.AUDIO_PANEL_VOLUME.getName()));
+			controllableProperty.setValue(10.0);
+			startTimestamp = System.currentTimeMillis();
+			restarted.controlProperty(controllableProperty);
+			Assertions.assertTrue(System.currentTimeMillis() - startTimestamp < 3000, "The control waited for the background refresh");
+
+			long deadline = System.currentTimeMillis() + 10_000;
+			do {
+				Thread.sleep(200);
+				statistics = ((ExtendedStatistics) restarted.getMultipleStatistics().get(0)).getStatistics();
+			} while ("true".equals(statistics.get(this.freshnessProperty(Constant.DISPLAY_GROUP, DataFreshness.DATA_STALE)))
+					&& System.currentTimeMillis() < deadline);
+			Assertions.assertEquals("false", statistics.get(this.freshnessProperty(Constant.DISPLAY_GROUP, DataFreshness.DATA_STALE)));
+			Assertions.assertEquals("false", statistics.get(this.freshnessProperty(Constant.NETWORK_GROUP, DataFreshness.DATA_STALE)));
+		} finally {
+			restarted.destroy();
+		}
+	}
+
+	@Test
+	void testStoredSessionReusedAcrossRestart(@TempDir Path sessionDirectory) throws Exception {
+		this.communicator.destroy();
+		this.communicator.setSessionStoreDirectory(sessionDirectory.toString());
+		this.communicator.init();
+		this.communicator.setDisplayPropertyGroups(Constant.GENERAL_GROUP);
+		this.getStatistics();
+		int logins = this.stubServer.getRequestCount(EndpointConstant.LOGIN);
+		Path sessionFile = sessionDirectory.resolve("127_0_0_1_admin.session");
+		Assertions.assertTrue(Files.isRegularFile(sessionFile));
+		Assertions.assertFalse(new String(Files.readAllBytes(sessionFile), StandardCharsets.ISO_8859_1).contains("userid="), "The session is stored in plain text");
+
+		this.communicator.destroy();
+		this.communicator.init();
+		this.communicator.setDisplayPropertyGroups(Constant.GENERAL_GROUP);
+		Assertions.assertEquals("TSW-1070", this.getStatistics().get(General.MODEL.getName()));
+		Assertions.assertEquals(logins, this.stubServer.getRequestCount(EndpointConstant.LOGIN), "The stored session was not reused");
+
+		//	A rejected session falls back to a full login
+		this.stubServer.expireSession();
+		this.communicator.destroy();
+		this.communicator.init();
+		this.communicator.setDisplayPropertyGroups(Constant.GENERAL_GROUP);
+		Assertions.assertEquals("TSW-1070", this.getStatistics().get(General.MODEL.getName()));
+		Assertions.assertTrue(this.stubServer.getRequestCount(EndpointConstant.LOGIN) > logins);
+	}
+
+	@Test
+	void testStoredSessionValidatedAgainAfterFailedValidation(@TempDir Path sessionDirectory) throws Exception {
+		this.communicator.destroy();
+		this.communicator.setSessionStoreDirectory(sessionDirectory.toString());
+		this.communicator.init();
+		this.communicator.setDisplayPropertyGroups(Constant.GENERAL_GROUP);
+		this.getStatistics();
+
+		this.communicator.destroy();
+		this.communicator.init();
+		this.communicator.setDisplayPropertyGroups(Constant.GENERAL_GROUP);
+		this.stubServer.injectFailure(EndpointConstant.DEVICE_INFO, 500);
+		Assertions.assertThrows(Exception.class, this.communicator::getMultipleStatistics);
+
+		//	The restored session is still validated before it is used
+		this.stubServer.clearFailure(EndpointConstant.DEVICE_INFO);
+		int deviceInfoRequests = this.stubServer.getRequestCount(EndpointConstant.DEVICE_INFO);
+		Assertions.assertEquals("TSW-1070", this.getStatistics().get(General.MODEL.getName()));
+		Assertions.assertEquals(deviceInfoRequests + 2, this.stubServer.getRequestCount(EndpointConstant.DEVICE_INFO));
+	}
+
+	@Test
+	void testStaggeredStartupWarmsUpHighPriorityGroupsFirst() throws Exception {
+		this.communicator.destroy();
+		//	The delay of 127.0.0.1 within a 2000 ms jitter is 1160 ms
+		this.communicator.setStartupJitter(2000);
+		this.communicator.setStartupWarmUp(true);
+		this.communicator.init();
+		long initTimestamp = System.currentTimeMillis();
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+
+		this.getStatistics();
+		Assertions.assertEquals(0, this.stubServer.getRequestCount(EndpointConstant.DEVICE_INFO), "Data was retrieved before the startup delay");
+
+		Thread.sleep(Math.max(0, initTimestamp + 1300 - System.currentTimeMillis()));
+		Map<String, String> statistics = this.getStatistics();
+		Assertions.assertEquals(1, this.stubServer.getRequestCount(EndpointConstant.DEVICE_INFO));
+		Assertions.assertEquals(1, this.stubServer.getRequestCount(EndpointConstant.DISPLAY));
+		Assertions.assertEquals(0, this.stubServer.getRequestCount(EndpointConstant.NETWORK_ADAPTERS));
+		Assertions.assertEquals(0, this.stubServer.getRequestCount(EndpointConstant.SYSTEM_VERSIONS));
+		long warmUpDuration = Long.parseLong(statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.ADAPTER_METADATA_GROUP, AdapterMetadata.WARM_UP_DURATION.getName())));
+		Assertions.assertTrue(warmUpDuration >= 1160, "Warm-up duration %d ms does not include the startup delay".formatted(warmUpDuration));
+
+		this.getStatistics();
+		Assertions.assertEquals(1, this.stubServer.getRequestCount(EndpointConstant.NETWORK_ADAPTERS));
+		Assertions.assertEquals(1, this.stubServer.getRequestCount(EndpointConstant.DEVICE_CAPABILITIES));
+		Assertions.assertEquals(1, this.stubServer.getRequestCount(EndpointConstant.SYSTEM_VERSIONS));
+	}
+
+	@Test
+	void testInitWarmUpRecordsDurationWithoutDeviceRequests() throws Exception {
+		this.communicator.destroy();
+		this.communicator.setInitWarmUp(true);
+		this.communicator.init();
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		Assertions.assertEquals(0, this.stubServer.getRequestCount(EndpointConstant.DISPLAY), "Warm-up sent requests to the device");
+
+		Map<String, String> statistics = this.getStatistics();
+		String initWarmUpDuration = statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.ADAPTER_METADATA_GROUP, AdapterMetadata.INIT_WARM_UP_DURATION.getName()));
+		//	Another test of the class loader may already have warmed up
+		Assertions.assertTrue(Constant.SHARED.equals(initWarmUpDuration) || Long.parseLong(initWarmUpDuration) >= 0);
+		Assertions.assertEquals(1, this.stubServer.getRequestCount(EndpointConstant.DISPLAY));
+		Assertions.assertEquals("40", statistics.get(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.AUDIO_PANEL_VOLUME.getName())));
+	}
+
+	@Test
+	void testDisplayHistoryKeepsLatestSamples() throws Exception {
+		this.communicator.setDisplayHistorySize(2);
+		this.communicator.setDisplayPropertyGroups(Constant.DISPLAY_GROUP);
+		this.getStatistics();
+		this.setPanelVolume(70);
+		this.getStatistics();
+		this.setPanelVolume(55);
+		Map<String, String> statistics = this.getStatistics();
+
+		//	The first sample (40) was evicted
+		Assertions.assertEquals("55", statistics.get(this.panelVolumeHistoryProperty(DisplayHistoryStatistic.MIN)));
+		Assertions.assertEquals("70", statistics.get(this.panelVolumeHistoryProperty(DisplayHistoryStatistic.MAX)));
+		Assertions.assertEquals("62.5", statistics.get(this.panelVolumeHistoryProperty(DisplayHistoryStatistic.AVERAGE)));
+		Assertions.assertEquals("0", statistics.get(this.panelVolumeHistoryProperty(DisplayHistoryStatistic.LAST_CHANGE_AGE)));
+		String beepVolumeMin = Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_HISTORY_GROUP, DisplayMetric.AUDIO_BEEP_VOLUME.getName() + DisplayHistoryStatistic.MIN.getName());
+		Assertions.assertEquals("50", statistics.get(beepVolumeMin));
+	}
+
+	@Test
+	void testChangeJournalRecordsTransitionsAcrossRestart(@TempDir Path journalDirectory) throws Exception {
+		this.communicator.destroy();
+		this.communicator.setJournalDirectory(journalDirectory.toString());
+		this.communicator.init();
+		this.communicator.setDisplayPropertyGroups(Constant.DISPLAY_GROUP + Constant.COMMA + Constant.NETWORK_GROUP);
+		this.getStatistics();
+		//	The first retrieval journals the initial value of every field
+		Assertions.assertEquals(JournalField.values().length, this.communicator.getRecentChanges(100).size());
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.AUDIO_PANEL_MUTE.getName()));
+		controllableProperty.setValue("1");
+		this.communicator.controlProperty(controllableProperty);
+		this.getStatistics();
+		this.getStatistics();
+		List<ChangeJournal.Change> changes = this.communicator.getRecentChanges(100);
+		Assertions.assertEquals(JournalField.values().length + 1, changes.size());
+		Assertions.assertEquals(JournalField.AUDIO_PANEL_MUTE, changes.get(0).field());
+		Assertions.assertEquals("false", changes.get(0).previousValue());
+		Assertions.assertEquals("true", changes.get(0).value());
+
+		//	A restarted communicator continues from the journaled values instead of journaling them again
+		this.communicator.destroy();
+		this.communicator.init();
+		this.communicator.setDisplayPropertyGroups(Constant.DISPLAY_GROUP + Constant.COMMA + Constant.NETWORK_GROUP);
+		this.getStatistics();
+		Assertions.assertEquals(changes, this.communicator.getRecentChanges(100));
+	}
+
+	@Test
+	void testChangeJournalRollsSegments(@TempDir Path journalDirectory) throws Exception {
+		DeviceDisplay display = new DeviceDisplay();
+		int changeCount = 20_000;
+		try (ChangeJournal journal = new ChangeJournal(journalDirectory, "127.0.0.1")) {
+			journal.open();
+			for (int i = 0; i < changeCount; i++) {
+				display.setCurrentState(i % 2 == 0 ? "Active" : "Standby");
+				journal.record(RetrievalType.DISPLAY, DisplaySnapshot.of(display), i);
+			}
+			List<ChangeJournal.Change> changes = journal.readLast(3);
+			Assertions.assertEquals(List.of(changeCount - 1L, changeCount - 2L, changeCount - 3L),
+					changes.stream().map(ChangeJournal.Change::timestamp).toList());
+			Assertions.assertEquals("Standby", changes.get(0).value());
+		}
+		try (Stream<Path> segments = Files.list(journalDirectory)) {
+			List<Path> segmentFiles = segments.toList();
+			Assertions.assertEquals(Constant.JOURNAL_MAX_SEGMENTS, segmentFiles.size());
+			for (Path segmentFile : segmentFiles) {
+				Assertions.assertEquals(Constant.JOURNAL_SEGMENT_SIZE, Files.size(segmentFile));
+			}
+		}
+	}
+
+	@Test
+	void testChangeJournalSkipsCorruptRecords(@TempDir Path journalDirectory) throws Exception {
+		DeviceDisplay display = new DeviceDisplay();
+		try (ChangeJournal journal = new ChangeJournal(journalDirectory, "127.0.0.1")) {
+			journal.open();
+			for (int i = 0; i < 10; i++) {
+				display.setCurrentState(i % 2 == 0 ? "Active" : "Standby");
+				journal.record(RetrievalType.DISPLAY, DisplaySnapshot.of(display), i);
+			}
+		}
+		//	Overwrite the previous value length of the second newest record with an invalid one
+		Path segmentFile = journalDirectory.resolve("127_0_0_1.journal.0");
+		ByteBuffer segment = ByteBuffer.wrap(Files.readAllBytes(segmentFile));
+		int newestStart = segment.getInt(4) - segment.getInt(segment.getInt(4) - Integer.BYTES);
+		int corruptStart = newestStart - segment.getInt(newestStart - Integer.BYTES);
+		segment.putShort(corruptStart + Integer.BYTES + Long.BYTES + Byte.BYTES, (short) -7);
+		Files.write(segmentFile, segment.array());
+
+		try (ChangeJournal journal = new ChangeJournal(journalDirectory, "127.0.0.1")) {
+			journal.open();
+			List<ChangeJournal.Change> changes = journal.readLast(100);
+			Assertions.assertEquals(List.of(9L), changes.stream().map(ChangeJournal.Change::timestamp).toList());
+			display.setCurrentState("Active");
+			journal.record(RetrievalType.DISPLAY, DisplaySnapshot.of(display), 10);
+			//	Fields whose last value was in the skipped records are journaled again
+			List<Long> timestamps = journal.readLast(100).stream().map(ChangeJournal.Change::timestamp).toList();
+			Assertions.assertEquals(9L, timestamps.get(timestamps.size() - 1));
+			Assertions.assertTrue(timestamps.subList(0, timestamps.size() - 1).stream().allMatch(timestamp -> timestamp == 10L));
+		}
+	}
+
+	@Test
+	void testSnapshotsKeepReportedValuesThroughUpdates() throws Exception {
+		DisplaySnapshot display = ResponseType.DISPLAY.readValue(CresNextStubServer.readFixture("Display").toString());
+		Assertions.assertEquals(40, display.volume());
+		Assertions.assertEquals("Right", display.displayEdge());
+		Assertions.assertEquals(Boolean.FALSE, display.getIsAutoBrightnessEnabled());
+
+		//	A pushed update replaces its own values and keeps the others
+		DisplaySnapshot updated = ResponseType.DISPLAY.applyUpdate(display,
+				ResponseType.getSharedMapper().readTree("{\"Device\":{\"Display\":{\"Audio\":{\"IsMuted\":true}}}}"));
+		Assertions.assertEquals(Boolean.TRUE, updated.getIsMuted());
+		Assertions.assertEquals(display, ResponseType.DISPLAY.applyUpdate(updated,
+				ResponseType.getSharedMapper().readTree("{\"Device\":{\"Display\":{\"Audio\":{\"IsMuted\":false}}}}")));
+
+		//	Values a sub-path does not hold stay absent, while zero and false values are reported
+		DisplaySnapshot partial = ResponseType.DISPLAY.readValue("{\"Device\":{\"Display\":{\"Audio\":{\"Volume\":0}}}}");
+		Assertions.assertEquals(Integer.valueOf(0), partial.getVolume());
+		Assertions.assertNull(partial.getBrightness());
+		Assertions.assertNull(partial.getIsMuted());
+		Assertions.assertEquals(partial, ResponseType.DISPLAY.mergeValue(DisplaySnapshot.EMPTY, partial));
+
+		NetworkSnapshot network = ResponseType.NETWORK_ADAPTERS.readValue(CresNextStubServer.readFixture("NetworkAdapters").toString());
+		Assertions.assertEquals("192.0.2.10", network.lanAddress());
+		Assertions.assertEquals(Boolean.FALSE, network.getWifiLinkStatus());
+		Assertions.assertEquals(network, ResponseType.NETWORK_ADAPTERS.mergeValue(NetworkSnapshot.EMPTY, network));
+	}
+
+	private void setPanelVolume(int volume) throws Exception {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.AUDIO_PANEL_VOLUME.getName()));
+		controllableProperty.setValue((double) volume);
+		this.communicator.controlProperty(controllableProperty);
+	}
+
+	private String panelVolumeHistoryProperty(DisplayHistoryStatistic statistic) {
+		return Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_HISTORY_GROUP, DisplayMetric.AUDIO_PANEL_VOLUME.getName() + statistic.getName());
+	}
+
+	private Map<String, String> getStatisticsUnchecked() {
+		try {
+			return this.getStatistics();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (!condition.getAsBoolean()) {
+			Assertions.assertTrue(System.currentTimeMillis() < deadline, "Condition not met within 10 seconds");
+			Thread.sleep(20);
+		}
+	}
+
+	private Map<String, String> getStatistics() throws Exception {
+		return ((ExtendedStatistics) this.communicator.getMultipleStatistics().get(0)).getStatistics();
+	}
+
+	private String diagnosticsProperty(Diagnostics property) {
+		return Constant.PROPERTY_FORMAT.formatted(Constant.DIAGNOSTICS_GROUP, property.getName());
+	}
+
+	private String compressionProperty(String format, ResponseType responseType) {
+		return Constant.PROPERTY_FORMAT.formatted(Constant.DIAGNOSTICS_GROUP, format.formatted(responseType.getName()));
+	}
+
+	private String freshnessProperty(String groupName, DataFreshness property) {
+		return Constant.PROPERTY_FORMAT.formatted(groupName, property.getName());
+	}
+}
@@ -0,0 +1,230 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.stub.CresNextStubServer;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Display;
+
+/**
+ * Stress tests calling the {@link CrestronTouchPanelCommunicator} entry points concurrently against {@link CresNextStubServer},
+ * the way several Symphony threads do.
+ * <p>
+ * Each test runs for a few seconds by default; {@code -Dstress.durationSeconds} runs them longer.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Tag("Mock")
+class CrestronTouchPanelConcurrencyTest {
+	private static final long DURATION_MS = Long.getLong("stress.durationSeconds", 3L) * 1000;
+	private static final int POLLER_COUNT = 4;
+	private static final int CONTROLLER_COUNT = 2;
+	private static final double MIN_POLL_THROUGHPUT = 10;
+	private static final String[] GROUP_SELECTIONS = {
+			Constant.GENERAL_GROUP, Constant.ALL, "Display, Network", Constant.DISPLAY_GROUP, "General, SystemVersions, Diagnostics"
+	};
+	private static final String DISPLAY_PREFIX = Constant.DISPLAY_GROUP + Constant.HASH;
+
+	private CresNextStubServer stubServer;
+	private CrestronTouchPanelCommunicator communicator;
+	private Queue<Throwable> failures;
+	private AtomicBoolean running;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.stubServer = CresNextStubServer.start();
+		this.communicator = new CrestronTouchPanelCommunicator();
+		this.communicator.setHost(this.stubServer.getHost());
+		this.communicator.setPort(this.stubServer.getPort());
+		this.communicator.setProtocol("http");
+		this.communicator.setLogin("admin");
+		this.communicator.setPassword("admin");
+		this.communicator.init();
+		this.failures = new ConcurrentLinkedQueue<>();
+		this.running = new AtomicBoolean(true);
+	}
+
+	@AfterEach
+	void destroy() {
+		this.communicator.destroy();
+		this.stubServer.close();
+	}
+
+	@Test
+	void testConcurrentPollingControlAndGroupChanges() throws Exception {
+		//	Keep class loading and JIT of the first poll out of the throughput measurement
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		this.communicator.getMultipleStatistics();
+		AtomicLong polls = new AtomicLong();
+		AtomicLong controls = new AtomicLong();
+		List<Runnable> workers = new ArrayList<>();
+		for (int i = 0; i < POLLER_COUNT; i++) {
+			workers.add(() -> this.repeat(() -> {
+				this.assertConsistentSnapshot((ExtendedStatistics) this.communicator.getMultipleStatistics().get(0));
+				polls.incrementAndGet();
+			}));
+		}
+		for (int i = 0; i < CONTROLLER_COUNT; i++) {
+			workers.add(() -> this.repeat(() -> {
+				ControllableProperty controllableProperty = new ControllableProperty();
+				controllableProperty.setProperty(DISPLAY_PREFIX + Display.AUDIO_PANEL_MUTE.getName());
+				controllableProperty.setValue(String.valueOf(controls.incrementAndGet() % 2));
+				this.communicator.controlProperty(controllableProperty);
+			}));
+		}
+		AtomicLong selections = new AtomicLong();
+		workers.add(() -> this.repeat(() -> {
+			this.communicator.setDisplayPropertyGroups(GROUP_SELECTIONS[(int) (selections.incrementAndGet() % GROUP_SELECTIONS.length)]);
+			Thread.sleep(1);
+		}));
+		workers.add(() -> this.repeat(() -> {
+			String propertyGroups = this.communicator.getDisplayPropertyGroups();
+			Assertions.assertFalse(propertyGroups.isEmpty(), "No group is selected");
+			this.communicator.shouldDisplayGroup(Constant.DISPLAY_GROUP);
+		}));
+
+		long startTimestamp = System.currentTimeMillis();
+		this.runFor(workers, DURATION_MS);
+		double pollThroughput = polls.get() * 1000.0 / (System.currentTimeMillis() - startTimestamp);
+
+		this.assertNoFailures();
+		Assertions.assertTrue(controls.get() > 0, "No control request completed in %d polls".formatted(polls.get()));
+		Assertions.assertTrue(pollThroughput >= MIN_POLL_THROUGHPUT, "Poll throughput %.1f/s is below %.1f/s (controls: %d, group selections: %d)"
+				.formatted(pollThroughput, MIN_POLL_THROUGHPUT, controls.get(), selections.get()));
+	}
+
+	@Test
+	void testDestroyDuringPolling() throws Exception {
+		this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		List<Runnable> workers = new ArrayList<>();
+		for (int i = 0; i < POLLER_COUNT; i++) {
+			workers.add(() -> this.repeatIgnoringFailures(() -> this.communicator.getMultipleStatistics()));
+		}
+		workers.add(() -> this.repeatIgnoringFailures(() -> {
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty(DISPLAY_PREFIX + Display.AUDIO_PANEL_MUTE.getName());
+			controllableProperty.setValue("1");
+			this.communicator.controlProperty(controllableProperty);
+		}));
+		workers.add(() -> this.repeat(() -> {
+			Thread.sleep(200);
+			this.communicator.destroy();
+			Thread.sleep(50);
+			this.communicator.init();
+			this.communicator.setDisplayPropertyGroups(Constant.ALL);
+		}));
+
+		this.runFor(workers, DURATION_MS);
+		this.assertNoFailures();
+	}
+
+	/**
+	 * Asserts that a poll result reflects one group selection: Display statistics are present exactly when the Display
+	 * controllers are.
+	 */
+	private void assertConsistentSnapshot(ExtendedStatistics extendedStatistics) {
+		Map<String, String> statistics = extendedStatistics.getStatistics();
+		boolean hasDisplayStatistics = statistics.containsKey(DISPLAY_PREFIX + Display.DISPLAY_STATUS.getName());
+		boolean hasDisplayControllers = extendedStatistics.getControllableProperties().stream()
+				.map(AdvancedControllableProperty::getName).anyMatch(name -> name != null && name.startsWith(DISPLAY_PREFIX));
+		Assertions.assertEquals(hasDisplayStatistics, hasDisplayControllers, "Display statistics and controllers come from different selections");
+	}
+
+	/**
+	 * Runs the workers concurrently, starting them together, until the duration elapses.
+	 */
+	private void runFor(List<Runnable> workers, long durationMs) throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(workers.size());
+		CountDownLatch startLatch = new CountDownLatch(1);
+		try {
+			for (Runnable worker : workers) {
+				executor.execute(() -> {
+					try {
+						startLatch.await();
+						worker.run();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+			startLatch.countDown();
+			Thread.sleep(durationMs);
+			this.running.set(false);
+			executor.shutdown();
+			Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS), "Workers did not stop; a thread may be deadlocked");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Repeats the action while the test is running, recording any exception as a failure.
+	 */
+	private void repeat(Action action) {
+		while (this.running.get()) {
+			try {
+				action.run();
+			} catch (Throwable e) {
+				this.failures.add(e);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Repeats the action while the test is running. Exceptions the communicator reports for a destroyed or re-initializing
+	 * instance are expected; only errors caused by unsafe publication, such as {@link NullPointerException}, are failures.
+	 */
+	private void repeatIgnoringFailures(Action action) {
+		while (this.running.get()) {
+			try {
+				action.run();
+			} catch (NullPointerException | IllegalMonitorStateException | java.util.ConcurrentModificationException e) {
+				this.failures.add(e);
+				return;
+			} catch (Exception e) {
+				//	Expected while the communicator is destroyed
+			} catch (Throwable e) {
+				this.failures.add(e);
+				return;
+			}
+		}
+	}
+
+	private void assertNoFailures() {
+		Throwable failure = this.failures.peek();
+		if (failure != null) {
+			Assertions.fail("%d worker(s) failed".formatted(this.failures.size()), failure);
+		}
+	}
+
+	/**
+	 * Action repeated by a worker thread.
+	 */
+	@FunctionalInterface
+	private interface Action {
+		void run() throws Exception;
+	}
+}
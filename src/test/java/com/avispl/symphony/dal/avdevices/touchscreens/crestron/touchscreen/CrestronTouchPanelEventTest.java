@@ -0,0 +1,135 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events.AuthenticateEvent;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events.ControlEvent;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events.FetchEvent;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events.ParseEvent;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.models.events.PollEvent;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.stub.CresNextStubServer;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.OperationOutcome;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.ResponseType;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Display;
+
+/**
+ * Verifies the JFR events emitted by {@link CrestronTouchPanelCommunicator} against {@link CresNextStubServer}.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Tag("Mock")
+class CrestronTouchPanelEventTest {
+	private CresNextStubServer stubServer;
+	private CrestronTouchPanelCommunicator communicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.stubServer = CresNextStubServer.start();
+		this.communicator = new CrestronTouchPanelCommunicator();
+		this.communicator.setHost(this.stubServer.getHost());
+		this.communicator.setPort(this.stubServer.getPort());
+		this.communicator.setProtocol("http");
+		this.communicator.setLogin("admin");
+		this.communicator.setPassword("admin");
+		this.communicator.init();
+	}
+
+	@AfterEach
+	void destroy() {
+		this.communicator.destroy();
+		this.stubServer.close();
+	}
+
+	@Test
+	void testEventsRecorded() throws Exception {
+		Path recordingPath = Files.createTempFile("crestron-touchscreen", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(FetchEvent.class);
+			recording.enable(ParseEvent.class);
+			recording.enable(AuthenticateEvent.class);
+			recording.enable(ControlEvent.class);
+			recording.enable(PollEvent.class);
+			recording.start();
+
+			this.communicator.setDisplayPropertyGroups(Constant.ALL);
+			this.communicator.getMultipleStatistics();
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setProperty(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.AUDIO_PANEL_MUTE.getName()));
+			controllableProperty.setValue("1");
+			this.communicator.controlProperty(controllableProperty);
+
+			recording.stop();
+			recording.dump(recordingPath);
+		}
+		List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+		Files.deleteIfExists(recordingPath);
+		Map<String, List<RecordedEvent>> eventsByName = events.stream().collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+
+		List<RecordedEvent> fetchEvents = eventsByName.get(FetchEvent.class.getAnnotation(jdk.jfr.Name.class).value());
+		Assertions.assertNotNull(fetchEvents, "Fetch events are missing");
+		Assertions.assertEquals(ResponseType.values().length, fetchEvents.size());
+		for (RecordedEvent fetchEvent : fetchEvents) {
+			Assertions.assertEquals(this.stubServer.getHost(), fetchEvent.getString("host"));
+			Assertions.assertEquals(OperationOutcome.SUCCESS.name(), fetchEvent.getString("outcome"));
+			Assertions.assertTrue(fetchEvent.getLong("payloadSize") > 0, "Payload size is not recorded");
+			Assertions.assertNotNull(fetchEvent.getString("responseType"));
+			Assertions.assertFalse(fetchEvent.getDuration().isNegative());
+		}
+		this.assertEventPresent(eventsByName, ParseEvent.class, EndpointConstant.DISPLAY);
+		this.assertEventPresent(eventsByName, AuthenticateEvent.class, EndpointConstant.LOGIN);
+		this.assertEventPresent(eventsByName, ControlEvent.class, EndpointConstant.DISPLAY);
+		this.assertEventPresent(eventsByName, PollEvent.class, null);
+	}
+
+	@Test
+	void testBlankResponseRecordedAsEmpty() throws Exception {
+		Path recordingPath = Files.createTempFile("crestron-touchscreen", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(FetchEvent.class);
+			recording.enable(ParseEvent.class);
+			recording.start();
+
+			this.stubServer.setRawResponse(EndpointConstant.DEVICE_INFO, " \r\n\t ");
+			this.communicator.setDisplayPropertyGroups(Constant.GENERAL_GROUP);
+			try {
+				this.communicator.getMultipleStatistics();
+			} catch (IllegalStateException e) {
+				//	The only polled group returned nothing
+			}
+
+			recording.stop();
+			recording.dump(recordingPath);
+		}
+		List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+		Files.deleteIfExists(recordingPath);
+		Assertions.assertTrue(events.stream().anyMatch(e -> EndpointConstant.DEVICE_INFO.equals(e.getString("endpoint"))
+				&& OperationOutcome.EMPTY.name().equals(e.getString("outcome"))), "The blank response is not recorded as empty");
+		Assertions.assertTrue(events.stream().noneMatch(e -> OperationOutcome.PARSE_FAILED.name().equals(e.getString("outcome"))),
+				"The blank response was parsed");
+	}
+
+	private void assertEventPresent(Map<String, List<RecordedEvent>> eventsByName, Class<?> eventClass, String endpoint) {
+		List<RecordedEvent> events = eventsByName.get(eventClass.getAnnotation(jdk.jfr.Name.class).value());
+		Assertions.assertNotNull(events, "%s events are missing".formatted(eventClass.getSimpleName()));
+		Assertions.assertTrue(events.stream().anyMatch(e -> OperationOutcome.SUCCESS.name().equals(e.getString("outcome"))
+				&& (endpoint == null || endpoint.equals(e.getString("endpoint")))), "No successful %s event".formatted(eventClass.getSimpleName()));
+	}
+}
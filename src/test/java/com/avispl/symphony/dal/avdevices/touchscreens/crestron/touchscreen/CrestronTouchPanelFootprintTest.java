@@ -0,0 +1,47 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the heap retained by {@link CrestronTouchPanelCommunicator} instances that are constructed but not initialized,
+ * as Symphony does when it instantiates many adapters.
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Tag("Mock")
+class CrestronTouchPanelFootprintTest {
+	private static final int INSTANCE_COUNT = 1_000;
+	/** Retained bytes per constructed instance, about 1.5 KB measured with the shared parsing infrastructure. */
+	private static final long RETAINED_BYTES_BUDGET = 2_048;
+
+	@Test
+	void testRetainedHeapPerInstance() {
+		//	Load the shared infrastructure before measuring, so only per-instance state is counted
+		new CrestronTouchPanelCommunicator();
+		MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+		long heapUsedBefore = getHeapUsedAfterGc(memoryMXBean);
+		List<CrestronTouchPanelCommunicator> communicators = new ArrayList<>(INSTANCE_COUNT);
+		for (int i = 0; i < INSTANCE_COUNT; i++) {
+			communicators.add(new CrestronTouchPanelCommunicator());
+		}
+		long retainedBytes = (getHeapUsedAfterGc(memoryMXBean) - heapUsedBefore) / communicators.size();
+		Assertions.assertTrue(retainedBytes <= RETAINED_BYTES_BUDGET,
+				"A communicator retains %d bytes, budget is %d bytes".formatted(retainedBytes, RETAINED_BYTES_BUDGET));
+	}
+
+	private static long getHeapUsedAfterGc(MemoryMXBean memoryMXBean) {
+		for (int i = 0; i < 3; i++) {
+			memoryMXBean.gc();
+		}
+		return memoryMXBean.getHeapMemoryUsage().getUsed();
+	}
+}
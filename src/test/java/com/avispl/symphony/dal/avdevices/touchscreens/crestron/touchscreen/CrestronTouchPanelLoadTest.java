@@ -0,0 +1,54 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.load.LoadTestHarness;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.load.LoadTestReport;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.stub.CresNextStubServer;
+
+/**
+ * Polls several {@link CrestronTouchPanelCommunicator} instances concurrently against an HTTPS {@link CresNextStubServer}
+ * with latency, jitter, random failures and session expiry.
+ * <p>
+ * Tagged {@code Perf}, so it only runs with {@code mvn test -Pperf}, not on every build. Runs a short load by default; a
+ * longer run can be configured with the {@code load.panels}, {@code load.durationSeconds} and {@code load.pollIntervalMs}
+ * system properties.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Tag("Perf")
+class CrestronTouchPanelLoadTest {
+	private CresNextStubServer stubServer;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.stubServer = CresNextStubServer.startSecure();
+		this.stubServer.setLatency(5, 20);
+		this.stubServer.setErrorRate(0.01, 500);
+		this.stubServer.setSessionLifetime(2_000);
+	}
+
+	@AfterEach
+	void destroy() {
+		this.stubServer.close();
+	}
+
+	@Test
+	void testConcurrentPolling() throws Exception {
+		int panelCount = Integer.getInteger("load.panels", 8);
+		LoadTestHarness harness = new LoadTestHarness(this.stubServer, panelCount, Long.getLong("load.pollIntervalMs", 200L));
+		LoadTestReport report = harness.run(Duration.ofSeconds(Long.getLong("load.durationSeconds", 5L)));
+
+		Assertions.assertTrue(report.successfulPolls() >= panelCount, () -> "Every panel should complete at least one poll: " + report);
+		Assertions.assertTrue(report.failedPolls() < report.successfulPolls(), () -> "Most polls should succeed despite injected failures: " + report);
+	}
+}
@@ -0,0 +1,68 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.load.SoakSample;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.load.SoakTestHarness;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.load.SoakTestReport;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.stub.CresNextStubServer;
+
+/**
+ * Soak test polling a {@link CrestronTouchPanelCommunicator} against {@link CresNextStubServer} at an accelerated rate,
+ * with periodic session expiry and control traffic, failing when heap, threads, sockets, cookie size or poll latency
+ * grow monotonically.
+ * <p>
+ * Tagged {@code Perf}, so it only runs with {@code mvn test -Pperf}, not on every build. Runs for a few seconds by
+ * default; a real soak is started with e.g. {@code -Dsoak.durationMinutes=240}, and the rate can be tuned with
+ * {@code soak.pollIntervalMs} and {@code soak.sampleSeconds}.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+@Tag("Perf")
+class CrestronTouchPanelSoakTest {
+	private static final int WINDOW_COUNT = 5;
+	private static final long HEAP_GROWTH_THRESHOLD_BYTES = 16L * 1024 * 1024;
+	private static final long THREAD_GROWTH_THRESHOLD = 5;
+	private static final long SOCKET_GROWTH_THRESHOLD = 10;
+	private static final long LATENCY_GROWTH_THRESHOLD_MS = 50;
+	private static final long COOKIE_GROWTH_THRESHOLD = 256;
+
+	private CresNextStubServer stubServer;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.stubServer = CresNextStubServer.start();
+	}
+
+	@AfterEach
+	void destroy() {
+		this.stubServer.close();
+	}
+
+	@Test
+	void testNoResourceGrowth() throws Exception {
+		Long durationMinutes = Long.getLong("soak.durationMinutes");
+		Duration duration = durationMinutes == null ? Duration.ofSeconds(10) : Duration.ofMinutes(durationMinutes);
+		long sampleIntervalMs = Long.getLong("soak.sampleSeconds", durationMinutes == null ? 1L : 60L) * 1000;
+		SoakTestHarness harness = new SoakTestHarness(this.stubServer, Long.getLong("soak.pollIntervalMs", 20L), sampleIntervalMs, 25, 10);
+		SoakTestReport report = harness.run(duration);
+
+		Assertions.assertTrue(report.samples().size() >= WINDOW_COUNT, () -> "Not enough samples to detect growth: " + report);
+		Assertions.assertTrue(report.sessionExpiries() > 0 && report.controls() > 0, () -> "Session expiry and control traffic were not exercised: " + report);
+		Assertions.assertTrue(report.failedPolls() * 10 < report.successfulPolls(), () -> "Too many polls failed: " + report);
+		Assertions.assertFalse(report.isGrowing(SoakSample::heapUsedAfterGcBytes, WINDOW_COUNT, HEAP_GROWTH_THRESHOLD_BYTES), () -> "Heap after GC keeps growing: " + report);
+		Assertions.assertFalse(report.isGrowing(SoakSample::threadCount, WINDOW_COUNT, THREAD_GROWTH_THRESHOLD), () -> "Thread count keeps growing: " + report);
+		Assertions.assertFalse(report.isGrowing(SoakSample::openSockets, WINDOW_COUNT, SOCKET_GROWTH_THRESHOLD), () -> "Open sockets keep growing: " + report);
+		Assertions.assertFalse(report.isGrowing(SoakSample::pollLatencyMs, WINDOW_COUNT, LATENCY_GROWTH_THRESHOLD_MS), () -> "Poll latency keeps drifting: " + report);
+		Assertions.assertFalse(report.isGrowing(SoakSample::cookieHeaderLength, WINDOW_COUNT, COOKIE_GROWTH_THRESHOLD), () -> "Cookie header keeps growing: " + report);
+	}
+}
@@ -0,0 +1,130 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.load;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.CrestronTouchPanelCommunicator;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.stub.CresNextStubServer;
+
+/**
+ * Drives several {@link CrestronTouchPanelCommunicator} instances concurrently against a {@link CresNextStubServer}
+ * and measures poll throughput, poll latency and heap usage.
+ * <p>
+ * Each communicator polls all property groups on its own thread at the configured interval, the way Symphony polls
+ * one device per monitoring thread.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class LoadTestHarness {
+	private static final long HEAP_SAMPLE_INTERVAL_MS = 100;
+
+	private final CresNextStubServer stubServer;
+	private final int panelCount;
+	private final long pollIntervalMs;
+
+	/**
+	 * Creates a harness polling the given stub.
+	 *
+	 * @param stubServer the stub all communicators connect to
+	 * @param panelCount the number of communicators to poll concurrently
+	 * @param pollIntervalMs the minimum time between the starts of two polls of one communicator; {@code 0} polls back to back
+	 */
+	public LoadTestHarness(CresNextStubServer stubServer, int panelCount, long pollIntervalMs) {
+		this.stubServer = stubServer;
+		this.panelCount = panelCount;
+		this.pollIntervalMs = pollIntervalMs;
+	}
+
+	/**
+	 * Runs the load for the given duration and reports the measurements.
+	 *
+	 * @param duration how long the communicators are polled
+	 * @return the measurements of the run
+	 * @throws Exception if a communicator cannot be initialized or a polling thread fails unexpectedly
+	 */
+	public LoadTestReport run(Duration duration) throws Exception {
+		List<CrestronTouchPanelCommunicator> communicators = new ArrayList<>();
+		for (int i = 0; i < this.panelCount; i++) {
+			communicators.add(this.createCommunicator());
+		}
+		MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+		long heapUsedBefore = getHeapUsedAfterGc(memoryMXBean);
+		AtomicLong heapUsedPeak = new AtomicLong(heapUsedBefore);
+		ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor();
+		heapSampler.scheduleAtFixedRate(() -> heapUsedPeak.accumulateAndGet(memoryMXBean.getHeapMemoryUsage().getUsed(), Math::max),
+				0, HEAP_SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+		ExecutorService pollers = Executors.newFixedThreadPool(this.panelCount);
+		AtomicLong failedPolls = new AtomicLong();
+		long startTimestamp = System.currentTimeMillis();
+		long deadline = startTimestamp + duration.toMillis();
+		List<Future<List<Long>>> results = new ArrayList<>();
+		try {
+			for (CrestronTouchPanelCommunicator communicator : communicators) {
+				results.add(pollers.submit(() -> this.poll(communicator, deadline, failedPolls)));
+			}
+			List<Long> latencies = new ArrayList<>();
+			for (Future<List<Long>> result : results) {
+				latencies.addAll(result.get());
+			}
+			long measuredDuration = System.currentTimeMillis() - startTimestamp;
+			heapSampler.shutdownNow();
+			communicators.forEach(CrestronTouchPanelCommunicator::destroy);
+			long[] sortedLatencies = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+			return new LoadTestReport(this.panelCount, Duration.ofMillis(measuredDuration), sortedLatencies.length - failedPolls.get(),
+					failedPolls.get(), sortedLatencies, heapUsedBefore, heapUsedPeak.get(), getHeapUsedAfterGc(memoryMXBean));
+		} finally {
+			pollers.shutdownNow();
+			heapSampler.shutdownNow();
+		}
+	}
+
+	private CrestronTouchPanelCommunicator createCommunicator() throws Exception {
+		CrestronTouchPanelCommunicator communicator = new CrestronTouchPanelCommunicator();
+		communicator.setHost(this.stubServer.getHost());
+		communicator.setPort(this.stubServer.getPort());
+		communicator.setProtocol(this.stubServer.getProtocol());
+		communicator.setLogin("admin");
+		communicator.setPassword("admin");
+		communicator.init();
+		communicator.setDisplayPropertyGroups(Constant.ALL);
+		return communicator;
+	}
+
+	private List<Long> poll(CrestronTouchPanelCommunicator communicator, long deadline, AtomicLong failedPolls) throws InterruptedException {
+		List<Long> latencies = new ArrayList<>();
+		while (System.currentTimeMillis() < deadline) {
+			long startTimestamp = System.nanoTime();
+			try {
+				communicator.getMultipleStatistics();
+			} catch (Exception e) {
+				failedPolls.incrementAndGet();
+			}
+			long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimestamp);
+			latencies.add(latencyMs);
+			long remainingInterval = Math.min(this.pollIntervalMs - latencyMs, deadline - System.currentTimeMillis());
+			if (remainingInterval > 0) {
+				Thread.sleep(remainingInterval);
+			}
+		}
+		return latencies;
+	}
+
+	private static long getHeapUsedAfterGc(MemoryMXBean memoryMXBean) {
+		memoryMXBean.gc();
+		return memoryMXBean.getHeapMemoryUsage().getUsed();
+	}
+}
@@ -0,0 +1,60 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.load;
+
+import java.time.Duration;
+
+/**
+ * Result of a {@link LoadTestHarness} run.
+ *
+ * @param panelCount the number of communicators polled concurrently
+ * @param duration the measured run duration
+ * @param successfulPolls the number of polls that returned statistics
+ * @param failedPolls the number of polls that threw an exception
+ * @param latenciesMs the sorted latencies of all polls in milliseconds
+ * @param heapUsedBeforeBytes the heap used before the run, after a garbage collection
+ * @param heapUsedPeakBytes the highest heap usage sampled during the run
+ * @param heapUsedAfterBytes the heap used after the run, after a garbage collection
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public record LoadTestReport(int panelCount, Duration duration, long successfulPolls, long failedPolls, long[] latenciesMs,
+		long heapUsedBeforeBytes, long heapUsedPeakBytes, long heapUsedAfterBytes) {
+
+	/**
+	 * Returns the number of polls completed per second, successful or not.
+	 *
+	 * @return the poll throughput
+	 */
+	public double getThroughput() {
+		return this.duration.isZero() ? 0 : (this.successfulPolls + this.failedPolls) * 1000.0 / this.duration.toMillis();
+	}
+
+	/**
+	 * Returns the poll latency at the given percentile, using the nearest-rank method.
+	 *
+	 * @param percentile the percentile, between {@code 0} and {@code 100}
+	 * @return the latency in milliseconds, or {@code 0} if no poll completed
+	 */
+	public long getLatencyPercentile(double percentile) {
+		if (this.latenciesMs.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(percentile / 100 * this.latenciesMs.length);
+		return this.latenciesMs[Math.min(this.latenciesMs.length, Math.max(1, rank)) - 1];
+	}
+
+	@Override
+	public String toString() {
+		return ("Panels: %d, duration: %d ms, polls: %d ok / %d failed, throughput: %.1f polls/s%n"
+				+ "Latency (ms): p50 %d, p90 %d, p99 %d, max %d%n"
+				+ "Heap (MB): before %.1f, peak %.1f, after %.1f").formatted(
+				this.panelCount, this.duration.toMillis(), this.successfulPolls, this.failedPolls, this.getThroughput(),
+				this.getLatencyPercentile(50), this.getLatencyPercentile(90), this.getLatencyPercentile(99), this.getLatencyPercentile(100),
+				toMegabytes(this.heapUsedBeforeBytes), toMegabytes(this.heapUsedPeakBytes), toMegabytes(this.heapUsedAfterBytes)
+		);
+	}
+
+	private static double toMegabytes(long bytes) {
+		return bytes / (1024.0 * 1024.0);
+	}
+}
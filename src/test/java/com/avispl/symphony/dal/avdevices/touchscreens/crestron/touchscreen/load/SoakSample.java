@@ -0,0 +1,17 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.load;
+
+/**
+ * One resource sample taken by {@link SoakTestHarness}.
+ *
+ * @param elapsedMs the time since the soak test started, in milliseconds
+ * @param heapUsedAfterGcBytes the heap used right after a full GC, in bytes
+ * @param threadCount the number of live threads
+ * @param openSockets the number of open sockets of the process, or {@code -1} if it cannot be determined
+ * @param pollLatencyMs the median latency of the polls since the previous sample, in milliseconds
+ * @param cookieHeaderLength the longest {@code Cookie} header the stub has received so far
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public record SoakSample(long elapsedMs, long heapUsedAfterGcBytes, int threadCount, long openSockets, long pollLatencyMs, int cookieHeaderLength) {
+}
@@ -0,0 +1,157 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.load;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.CrestronTouchPanelCommunicator;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.stub.CresNextStubServer;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.types.properties.Display;
+
+/**
+ * Runs one {@link CrestronTouchPanelCommunicator} against a {@link CresNextStubServer} for a long time at an accelerated
+ * poll rate, with periodic session expiry and control traffic, and samples the resources the process holds.
+ * <p>
+ * Every sample is taken right after a full GC, so that heap growth reflects retained objects rather than garbage.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class SoakTestHarness {
+	private static final Path FILE_DESCRIPTORS_PATH = Paths.get("/proc/self/fd");
+	private static final String SOCKET_LINK_PREFIX = "socket:";
+
+	private final CresNextStubServer stubServer;
+	private final long pollIntervalMs;
+	private final long sampleIntervalMs;
+	private final int sessionExpiryInterval;
+	private final int controlInterval;
+
+	/**
+	 * Creates a harness polling the given stub.
+	 *
+	 * @param stubServer the stub the communicator connects to
+	 * @param pollIntervalMs the minimum time between the starts of two polls
+	 * @param sampleIntervalMs the time between two resource samples
+	 * @param sessionExpiryInterval the number of polls between two session expiries; {@code 0} never expires sessions
+	 * @param controlInterval the number of polls between two control requests; {@code 0} sends no control requests
+	 */
+	public SoakTestHarness(CresNextStubServer stubServer, long pollIntervalMs, long sampleIntervalMs, int sessionExpiryInterval, int controlInterval) {
+		this.stubServer = stubServer;
+		this.pollIntervalMs = pollIntervalMs;
+		this.sampleIntervalMs = sampleIntervalMs;
+		this.sessionExpiryInterval = sessionExpiryInterval;
+		this.controlInterval = controlInterval;
+	}
+
+	/**
+	 * Runs the soak test for the given duration.
+	 *
+	 * @param duration how long the communicator is polled
+	 * @return the samples and counters of the run
+	 * @throws Exception if the communicator cannot be initialized
+	 */
+	public SoakTestReport run(Duration duration) throws Exception {
+		CrestronTouchPanelCommunicator communicator = new CrestronTouchPanelCommunicator();
+		communicator.setHost(this.stubServer.getHost());
+		communicator.setPort(this.stubServer.getPort());
+		communicator.setProtocol(this.stubServer.getProtocol());
+		communicator.setLogin("admin");
+		communicator.setPassword("admin");
+		communicator.init();
+		communicator.setDisplayPropertyGroups(Constant.ALL);
+
+		MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+		List<SoakSample> samples = new ArrayList<>();
+		List<Long> latencies = new ArrayList<>();
+		long successfulPolls = 0;
+		long failedPolls = 0;
+		long controls = 0;
+		long sessionExpiries = 0;
+		long startTimestamp = System.currentTimeMillis();
+		long deadline = startTimestamp + duration.toMillis();
+		long nextSampleTimestamp = startTimestamp + this.sampleIntervalMs;
+		try {
+			for (long poll = 1; System.currentTimeMillis() < deadline; poll++) {
+				long pollStartTimestamp = System.nanoTime();
+				try {
+					communicator.getMultipleStatistics();
+					successfulPolls++;
+				} catch (Exception e) {
+					failedPolls++;
+				}
+				latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pollStartTimestamp));
+				if (this.controlInterval > 0 && poll % this.controlInterval == 0) {
+					ControllableProperty controllableProperty = new ControllableProperty();
+					controllableProperty.setProperty(Constant.PROPERTY_FORMAT.formatted(Constant.DISPLAY_GROUP, Display.AUDIO_PANEL_MUTE.getName()));
+					controllableProperty.setValue(String.valueOf(controls % 2));
+					try {
+						communicator.controlProperty(controllableProperty);
+					} catch (Exception e) {
+						//	Control failures after a session expiry are expected; the next poll logs in again
+					}
+					controls++;
+				}
+				if (this.sessionExpiryInterval > 0 && poll % this.sessionExpiryInterval == 0) {
+					this.stubServer.expireSession();
+					sessionExpiries++;
+				}
+				if (System.currentTimeMillis() >= nextSampleTimestamp) {
+					samples.add(this.sample(memoryMXBean, System.currentTimeMillis() - startTimestamp, latencies));
+					latencies.clear();
+					nextSampleTimestamp += this.sampleIntervalMs;
+				}
+				long remainingInterval = this.pollIntervalMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pollStartTimestamp);
+				if (remainingInterval > 0) {
+					Thread.sleep(remainingInterval);
+				}
+			}
+		} finally {
+			communicator.destroy();
+		}
+		return new SoakTestReport(samples, successfulPolls, failedPolls, controls, sessionExpiries);
+	}
+
+	private SoakSample sample(MemoryMXBean memoryMXBean, long elapsedMs, List<Long> latencies) {
+		memoryMXBean.gc();
+		long[] sortedLatencies = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+		long medianLatency = sortedLatencies.length == 0 ? 0 : sortedLatencies[sortedLatencies.length / 2];
+		return new SoakSample(elapsedMs, memoryMXBean.getHeapMemoryUsage().getUsed(), ManagementFactory.getThreadMXBean().getThreadCount(),
+				countOpenSockets(), medianLatency, this.stubServer.getMaxCookieHeaderLength());
+	}
+
+	/**
+	 * Counts the sockets open in this process, covering both the communicator and the stub side of each connection.
+	 *
+	 * @return the number of open sockets, or {@code -1} if the platform does not expose file descriptors under {@code /proc}
+	 */
+	private static long countOpenSockets() {
+		if (!Files.isDirectory(FILE_DESCRIPTORS_PATH)) {
+			return -1;
+		}
+		try (Stream<Path> descriptors = Files.list(FILE_DESCRIPTORS_PATH)) {
+			return descriptors.filter(descriptor -> {
+				try {
+					return Files.readSymbolicLink(descriptor).toString().startsWith(SOCKET_LINK_PREFIX);
+				} catch (IOException e) {
+					//	The descriptor was closed while listing
+					return false;
+				}
+			}).count();
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.load;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Result of a {@link SoakTestHarness} run.
+ *
+ * @param samples the resource samples in the order they were taken
+ * @param successfulPolls the number of polls that completed
+ * @param failedPolls the number of polls that threw
+ * @param controls the number of control requests sent
+ * @param sessionExpiries the number of times every session was expired on the stub
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public record SoakTestReport(List<SoakSample> samples, long successfulPolls, long failedPolls, long controls, long sessionExpiries) {
+	/**
+	 * Checks whether a sampled metric grows monotonically by more than the given threshold.
+	 * <p>
+	 * The samples are split into consecutive windows and each window is reduced to its lowest value, so that GC timing
+	 * and latency spikes do not count as growth. The metric is growing when no window is lower than the one before it
+	 * and the last window exceeds the first by more than {@code threshold}.
+	 * </p>
+	 *
+	 * @param metric extracts the metric from a sample; negative values mean the metric is unavailable
+	 * @param windowCount the number of windows to split the samples into
+	 * @param threshold the growth tolerated between the first and the last window
+	 * @return {@code true} if the metric grows beyond the threshold
+	 */
+	public boolean isGrowing(ToLongFunction<SoakSample> metric, int windowCount, long threshold) {
+		long[] values = this.samples.stream().mapToLong(metric).toArray();
+		if (values.length < windowCount || windowCount < 2 || Arrays.stream(values).anyMatch(value -> value < 0)) {
+			return false;
+		}
+		long[] windowMinimums = new long[windowCount];
+		for (int i = 0; i < windowCount; i++) {
+			int from = i * values.length / windowCount;
+			int to = (i + 1) * values.length / windowCount;
+			windowMinimums[i] = Arrays.stream(values, from, to).min().orElse(0);
+		}
+		for (int i = 1; i < windowCount; i++) {
+			if (windowMinimums[i] < windowMinimums[i - 1]) {
+				return false;
+			}
+		}
+		return windowMinimums[windowCount - 1] - windowMinimums[0] > threshold;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("Polls: %d ok / %d failed, controls: %d, session expiries: %d%n"
+				.formatted(this.successfulPolls, this.failedPolls, this.controls, this.sessionExpiries));
+		builder.append("elapsed(s)  heapAfterGc(MB)  threads  sockets  latency(ms)  cookieHeader%n".formatted());
+		for (SoakSample sample : this.samples) {
+			builder.append("%10d  %15.1f  %7d  %7d  %11d  %12d%n".formatted(sample.elapsedMs() / 1000, sample.heapUsedAfterGcBytes() / (1024.0 * 1024.0),
+					sample.threadCount(), sample.openSockets(), sample.pollLatencyMs(), sample.cookieHeaderLength()));
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,529 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.stub;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.Constant;
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
+
+/**
+ * In-process stub of the CresNext API used by offline tests.
+ * <p>
+ * Serves the login sequence and the {@code /Device/*} endpoints from the warm-up payloads in {@code src/main/resources/warmup},
+ * answers the sub-paths of an endpoint with the matching part of its document, as CresNext does, and merges {@code POST /Device/Display} bodies into the served display state. Every login opens its own session,
+ * so several communicators can share one stub. Latency, jitter, failures and session expiry can be configured to imitate
+ * a slow or unreliable panel, and {@link #setContentEncoding(String)} compresses the {@code /Device/*} responses of clients
+ * accepting it. {@link #startSecure()} serves HTTPS with the self-signed certificate in
+ * {@code src/test/resources/stub}.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class CresNextStubServer implements AutoCloseable {
+	private static final String TRACK_ID_COOKIE = "TRACKID";
+	private static final String USER_ID_COOKIE = "userid";
+	private static final String KEYSTORE_RESOURCE = "/stub/cresnext-stub.p12";
+	private static final char[] KEYSTORE_PASSWORD = "changeit".toCharArray();
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	static {
+		//	The JDK server writes headers and body separately; without TCP_NODELAY every response waits for a delayed ACK
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+	}
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final Map<String, JsonNode> responses;
+	private final Map<String, String> rawResponses;
+	private final Map<String, AtomicInteger> requestCounts;
+	private final Map<String, Integer> injectedFailures;
+	private final Map<String, Long> latencies;
+	private final Map<String, Session> sessions;
+	private final Map<String, String> acceptEncodings;
+	private volatile long baseLatencyMs;
+	private volatile long jitterMs;
+	private volatile double errorRate;
+	private volatile int errorStatus;
+	private volatile long sessionLifetimeMs;
+	private volatile int maxCookieHeaderLength;
+	private volatile String contentEncoding;
+	private volatile boolean connectionClosed;
+
+	private CresNextStubServer(HttpServer server) {
+		this.server = server;
+		this.executor = Executors.newCachedThreadPool();
+		this.server.setExecutor(this.executor);
+		this.responses = new ConcurrentHashMap<>();
+		this.rawResponses = new ConcurrentHashMap<>();
+		this.requestCounts = new ConcurrentHashMap<>();
+		this.injectedFailures = new ConcurrentHashMap<>();
+		this.latencies = new ConcurrentHashMap<>();
+		this.sessions = new ConcurrentHashMap<>();
+		this.acceptEncodings = new ConcurrentHashMap<>();
+		for (String endpoint : List.of(EndpointConstant.DEVICE_INFO, EndpointConstant.DEVICE_CAPABILITIES,
+				EndpointConstant.SYSTEM_VERSIONS, EndpointConstant.NETWORK_ADAPTERS, EndpointConstant.DISPLAY)) {
+			this.responses.put(endpoint, readFixture(endpoint.substring(endpoint.lastIndexOf('/') + 1)));
+		}
+		this.server.createContext("/", this::handle);
+	}
+
+	/**
+	 * Creates and starts an HTTP stub server bound to an ephemeral loopback port.
+	 *
+	 * @return the running stub server
+	 * @throws IOException if the server cannot be bound
+	 */
+	public static CresNextStubServer start() throws IOException {
+		CresNextStubServer stubServer = new CresNextStubServer(HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0));
+		stubServer.server.start();
+		return stubServer;
+	}
+
+	/**
+	 * Creates and starts an HTTPS stub server bound to an ephemeral loopback port, using the self-signed stub certificate.
+	 *
+	 * @return the running stub server
+	 * @throws IOException if the server cannot be bound or the certificate cannot be loaded
+	 */
+	public static CresNextStubServer startSecure() throws IOException {
+		HttpsServer httpsServer = HttpsServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		httpsServer.setHttpsConfigurator(new HttpsConfigurator(createSslContext()));
+		CresNextStubServer stubServer = new CresNextStubServer(httpsServer);
+		stubServer.server.start();
+		return stubServer;
+	}
+
+	/**
+	 * Reads a JSON fixture from {@code src/test/resources/fixtures}, or else the warm-up payload of the same name, see
+	 * {@link Constant#WARM_UP_FIXTURE_PATH}.
+	 *
+	 * @param name the fixture name without extension, e.g. {@code Display}
+	 * @return the parsed fixture
+	 */
+	public static JsonNode readFixture(String name) {
+		InputStream fixture = CresNextStubServer.class.getResourceAsStream("/fixtures/" + name + ".json");
+		try (InputStream inputStream = fixture != null ? fixture : CresNextStubServer.class.getResourceAsStream(Constant.WARM_UP_FIXTURE_PATH.formatted(name))) {
+			return OBJECT_MAPPER.readTree(inputStream);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public String getHost() {
+		return this.server.getAddress().getHostString();
+	}
+
+	public int getPort() {
+		return this.server.getAddress().getPort();
+	}
+
+	/**
+	 * Returns the protocol served by the stub.
+	 *
+	 * @return {@code https} for a stub started with {@link #startSecure()}, {@code http} otherwise
+	 */
+	public String getProtocol() {
+		return this.server instanceof HttpsServer ? "https" : "http";
+	}
+
+	/**
+	 * Returns how many requests were received on the given path.
+	 *
+	 * @param path the request path, e.g. {@link EndpointConstant#DISPLAY}
+	 * @return the number of requests received on the path
+	 */
+	public int getRequestCount(String path) {
+		return Optional.ofNullable(this.requestCounts.get(path)).map(AtomicInteger::get).orElse(0);
+	}
+
+	/**
+	 * Returns the number of sessions currently logged in.
+	 *
+	 * @return the number of open sessions
+	 */
+	public int getSessionCount() {
+		return this.sessions.size();
+	}
+
+	/**
+	 * Returns the length of the longest {@code Cookie} header received so far, to detect cookies accumulating across logins.
+	 *
+	 * @return the longest cookie header length in characters, or {@code 0} if no cookie was sent
+	 */
+	public int getMaxCookieHeaderLength() {
+		return this.maxCookieHeaderLength;
+	}
+
+	/**
+	 * Replaces the payload served by the given endpoint.
+	 *
+	 * @param endpoint the {@code /Device/*} endpoint
+	 * @param response the full JSON document to serve
+	 */
+	public void setResponse(String endpoint, JsonNode response) {
+		this.responses.put(endpoint, response);
+	}
+
+	/**
+	 * Serves the given body as is on the given path, e.g. a truncated or blank payload, instead of its JSON document.
+	 *
+	 * @param path the {@code /Device/*} path
+	 * @param body the body to serve
+	 */
+	public void setRawResponse(String path, String body) {
+		this.rawResponses.put(path, body);
+	}
+
+	/**
+	 * Makes the given path answer with the given HTTP status until {@link #clearFailure(String)} is called.
+	 *
+	 * @param path the request path
+	 * @param status the HTTP status to answer with
+	 */
+	public void injectFailure(String path, int status) {
+		this.injectedFailures.put(path, status);
+	}
+
+	/**
+	 * Restores normal responses on the given path.
+	 *
+	 * @param path the request path
+	 */
+	public void clearFailure(String path) {
+		this.injectedFailures.remove(path);
+	}
+
+	/**
+	 * Makes a random share of the {@code /Device/*} requests answer with the given HTTP status.
+	 *
+	 * @param errorRate the probability of a failure, between {@code 0} and {@code 1}
+	 * @param status the HTTP status to answer with
+	 */
+	public void setErrorRate(double errorRate, int status) {
+		this.errorRate = errorRate;
+		this.errorStatus = status;
+	}
+
+	/**
+	 * Delays every response on the given path by the given time, on top of {@link #setLatency(long, long)}.
+	 *
+	 * @param path the request path
+	 * @param latencyMs the delay in milliseconds; {@code 0} removes the delay
+	 */
+	public void setLatency(String path, long latencyMs) {
+		if (latencyMs > 0) {
+			this.latencies.put(path, latencyMs);
+		} else {
+			this.latencies.remove(path);
+		}
+	}
+
+	/**
+	 * Delays every response by the given base latency plus a random jitter.
+	 *
+	 * @param baseLatencyMs the delay applied to every response in milliseconds
+	 * @param jitterMs the upper bound of the random delay added to the base latency in milliseconds
+	 */
+	public void setLatency(long baseLatencyMs, long jitterMs) {
+		this.baseLatencyMs = Math.max(0, baseLatencyMs);
+		this.jitterMs = Math.max(0, jitterMs);
+	}
+
+	/**
+	 * Expires every session the given time after its login, so that the next device request is rejected with {@code 401}.
+	 *
+	 * @param sessionLifetimeMs the session lifetime in milliseconds; {@code 0} keeps sessions until logout
+	 */
+	public void setSessionLifetime(long sessionLifetimeMs) {
+		this.sessionLifetimeMs = Math.max(0, sessionLifetimeMs);
+	}
+
+	/**
+	 * Compresses the {@code /Device/*} responses with the given encoding when the request accepts it.
+	 *
+	 * @param contentEncoding {@code gzip} or {@code deflate}; {@code null} serves uncompressed responses, as firmware
+	 * ignoring {@code Accept-Encoding} does
+	 */
+	public void setContentEncoding(String contentEncoding) {
+		this.contentEncoding = contentEncoding;
+	}
+
+	/**
+	 * Closes the connection after every response, so that each request opens a new one.
+	 *
+	 * @param connectionClosed {@code true} to close connections after each response, {@code false} to keep them alive
+	 */
+	public void setConnectionClosed(boolean connectionClosed) {
+		this.connectionClosed = connectionClosed;
+	}
+
+	/**
+	 * Returns the {@code Accept-Encoding} header of the last request on the given path.
+	 *
+	 * @param path the request path
+	 * @return the header value, or {@code null} if the last request had none
+	 */
+	public String getLastAcceptEncoding(String path) {
+		return this.acceptEncodings.get(path);
+	}
+
+	/**
+	 * Drops all sessions so that the next device request of every client is rejected with {@code 401}.
+	 */
+	public void expireSession() {
+		this.sessions.clear();
+	}
+
+	/**
+	 * Applies a partial update to the served display state, mirroring how the panel merges {@code SetPartial} requests.
+	 *
+	 * @param body the JSON body of the update request
+	 */
+	public synchronized void applyDisplayUpdate(JsonNode body) {
+		ObjectNode current = this.responses.get(EndpointConstant.DISPLAY).deepCopy();
+		merge(current, body);
+		this.responses.put(EndpointConstant.DISPLAY, current);
+	}
+
+	@Override
+	public void close() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		this.requestCounts.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+		Optional.ofNullable(exchange.getRequestHeaders().get("Cookie")).ifPresent(cookieHeaders -> cookieHeaders.forEach(
+				header -> this.maxCookieHeaderLength = Math.max(this.maxCookieHeaderLength, header.length())));
+		String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+		if (acceptEncoding == null) {
+			this.acceptEncodings.remove(path);
+		} else {
+			this.acceptEncodings.put(path, acceptEncoding);
+		}
+		if (this.connectionClosed) {
+			exchange.getResponseHeaders().set("Connection", "close");
+		}
+		try (exchange) {
+			byte[] requestBody = exchange.getRequestBody().readAllBytes();
+			this.delay(path);
+			Integer injectedFailure = this.injectedFailures.get(path);
+			if (injectedFailure != null) {
+				send(exchange, injectedFailure, "");
+			} else if (EndpointConstant.LOGIN.equals(path)) {
+				this.handleLogin(exchange);
+			} else if (EndpointConstant.LOGOUT.equals(path)) {
+				Optional.ofNullable(getCookie(exchange, USER_ID_COOKIE)).ifPresent(this.sessions::remove);
+				send(exchange, 200, "");
+			} else if (this.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < this.errorRate) {
+				send(exchange, this.errorStatus, "");
+			} else {
+				Session session = this.getSession(exchange);
+				if (session == null) {
+					send(exchange, 401, "");
+				} else if ("POST".equals(exchange.getRequestMethod())) {
+					this.handleUpdate(exchange, session, path, requestBody);
+				} else if (this.rawResponses.containsKey(path)) {
+					this.sendEncoded(exchange, acceptEncoding, this.rawResponses.get(path));
+				} else {
+					JsonNode response = this.resolve(path);
+					if (response == null) {
+						send(exchange, 404, "");
+					} else {
+						this.sendEncoded(exchange, acceptEncoding, response.toString());
+					}
+				}
+			}
+		}
+	}
+
+	private JsonNode resolve(String path) {
+		JsonNode response = this.responses.get(path);
+		if (response != null) {
+			return response;
+		}
+		for (Map.Entry<String, JsonNode> entry : this.responses.entrySet()) {
+			if (!path.startsWith(entry.getKey() + "/")) {
+				continue;
+			}
+			String[] names = path.substring(1).split("/");
+			JsonNode node = entry.getValue();
+			for (String name : names) {
+				node = node.path(name);
+			}
+			if (node.isMissingNode()) {
+				return null;
+			}
+			for (int i = names.length - 1; i >= 0; i--) {
+				node = OBJECT_MAPPER.createObjectNode().set(names[i], node);
+			}
+			return node;
+		}
+		return null;
+	}
+
+	private void handleLogin(HttpExchange exchange) throws IOException {
+		if ("GET".equals(exchange.getRequestMethod())) {
+			exchange.getResponseHeaders().add("Set-Cookie", TRACK_ID_COOKIE + "=" + UUID.randomUUID() + "; Path=/; HttpOnly");
+			send(exchange, 200, "<html></html>");
+			return;
+		}
+		if (getCookie(exchange, TRACK_ID_COOKIE) == null) {
+			send(exchange, 403, "");
+			return;
+		}
+		String sessionId = UUID.randomUUID().toString();
+		Session session = new Session(UUID.randomUUID().toString(), System.currentTimeMillis());
+		this.sessions.put(sessionId, session);
+		exchange.getResponseHeaders().add("Set-Cookie", USER_ID_COOKIE + "=" + sessionId + "; Path=/; HttpOnly");
+		exchange.getResponseHeaders().add("Set-Cookie", "userstr=admin; Path=/; HttpOnly");
+		exchange.getResponseHeaders().add(Constant.CREST_XSRF_TOKEN_HEADER, session.xsrfToken());
+		send(exchange, 200, "");
+	}
+
+	private void handleUpdate(HttpExchange exchange, Session session, String path, byte[] requestBody) throws IOException {
+		if (!EndpointConstant.DISPLAY.equals(path)
+				|| !session.xsrfToken().equals(exchange.getRequestHeaders().getFirst(Constant.X_CREST_XSRF_TOKEN_HEADER))) {
+			send(exchange, 403, "");
+			return;
+		}
+		this.applyDisplayUpdate(OBJECT_MAPPER.readTree(requestBody));
+		send(exchange, 200, "{\"Actions\":[{\"Operation\":\"SetPartial\",\"Results\":[{\"StatusId\":0}]}]}");
+	}
+
+	private Session getSession(HttpExchange exchange) {
+		String sessionId = getCookie(exchange, USER_ID_COOKIE);
+		Session session = sessionId == null ? null : this.sessions.get(sessionId);
+		if (session != null && this.sessionLifetimeMs > 0 && System.currentTimeMillis() - session.createdAt() > this.sessionLifetimeMs) {
+			this.sessions.remove(sessionId);
+			return null;
+		}
+		return session;
+	}
+
+	private void delay(String path) {
+		long jitter = this.jitterMs;
+		long latencyMs = this.baseLatencyMs + this.latencies.getOrDefault(path, 0L) + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+		if (latencyMs <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(latencyMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static String getCookie(HttpExchange exchange, String name) {
+		List<String> cookieHeaders = exchange.getRequestHeaders().get("Cookie");
+		if (cookieHeaders == null) {
+			return null;
+		}
+		return cookieHeaders.stream()
+				.flatMap(header -> Arrays.stream(header.split("[;,]")))
+				.map(String::trim)
+				.filter(cookie -> cookie.startsWith(name + "="))
+				.map(cookie -> cookie.substring(name.length() + 1))
+				.findFirst().orElse(null);
+	}
+
+	private static SSLContext createSslContext() throws IOException {
+		try (InputStream inputStream = CresNextStubServer.class.getResourceAsStream(KEYSTORE_RESOURCE)) {
+			KeyStore keyStore = KeyStore.getInstance("PKCS12");
+			keyStore.load(inputStream, KEYSTORE_PASSWORD);
+			KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+			keyManagerFactory.init(keyStore, KEYSTORE_PASSWORD);
+			SSLContext sslContext = SSLContext.getInstance("TLS");
+			sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+			return sslContext;
+		} catch (GeneralSecurityException e) {
+			throw new IOException("Failed to load the stub certificate", e);
+		}
+	}
+
+	private static void merge(ObjectNode target, JsonNode update) {
+		Iterator<Map.Entry<String, JsonNode>> fields = update.fields();
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			JsonNode existing = target.get(field.getKey());
+			if (existing instanceof ObjectNode existingObject && field.getValue().isObject()) {
+				merge(existingObject, field.getValue());
+			} else {
+				target.set(field.getKey(), field.getValue());
+			}
+		}
+	}
+
+	private void sendEncoded(HttpExchange exchange, String acceptEncoding, String body) throws IOException {
+		String encoding = this.contentEncoding;
+		if (encoding == null || acceptEncoding == null || !acceptEncoding.contains(encoding)) {
+			send(exchange, 200, body);
+			return;
+		}
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (OutputStream outputStream = "gzip".equals(encoding) ? new GZIPOutputStream(compressed) : new DeflaterOutputStream(compressed)) {
+			outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+		}
+		byte[] bytes = compressed.toByteArray();
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.getResponseHeaders().add("Content-Encoding", encoding);
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(bytes);
+		}
+	}
+
+	private static void send(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+		if (bytes.length > 0) {
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(bytes);
+			}
+		}
+	}
+
+	/**
+	 * Logged in session of a client.
+	 *
+	 * @param xsrfToken the token expected in {@link Constant#X_CREST_XSRF_TOKEN_HEADER} of update requests
+	 * @param createdAt the login timestamp
+	 */
+	private record Session(String xsrfToken, long createdAt) {
+	}
+}
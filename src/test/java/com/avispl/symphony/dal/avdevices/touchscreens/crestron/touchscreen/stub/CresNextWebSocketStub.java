@@ -0,0 +1,236 @@
+/** Copyright (c) 2025 AVI-SPL, Inc. All Rights Reserved. */
+package com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.stub;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.avispl.symphony.dal.avdevices.touchscreens.crestron.touchscreen.common.constants.EndpointConstant;
+
+/**
+ * In-process stand-in of the CresNext WebSocket used by offline push tests.
+ * <p>
+ * Accepts upgrade requests on {@link EndpointConstant#WEBSOCKET} that carry a cookie, records the text messages sent by
+ * clients, and sends the messages given to {@link #push(String)} to every open connection. Only unfragmented text,
+ * ping and close frames are supported.
+ * </p>
+ *
+ * @author Kevin / Symphony Dev Team
+ * @since 1.0.1
+ */
+public class CresNextWebSocketStub implements AutoCloseable {
+	private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+	private final ServerSocket serverSocket;
+	private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "CresNextWebSocketStub");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final Map<Socket, OutputStream> connections = new ConcurrentHashMap<>();
+	private final List<String> receivedMessages = new CopyOnWriteArrayList<>();
+	private final AtomicInteger connectionCount = new AtomicInteger();
+
+	private CresNextWebSocketStub() throws IOException {
+		this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		this.executor.execute(this::acceptConnections);
+	}
+
+	/**
+	 * Starts a stand-in on an ephemeral loopback port.
+	 *
+	 * @return the started stand-in
+	 * @throws IOException if the server socket cannot be opened
+	 */
+	public static CresNextWebSocketStub start() throws IOException {
+		return new CresNextWebSocketStub();
+	}
+
+	public int getPort() {
+		return this.serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Returns the number of connections accepted since the stand-in was started.
+	 *
+	 * @return the connection count
+	 */
+	public int getConnectionCount() {
+		return this.connectionCount.get();
+	}
+
+	/**
+	 * Returns the text messages received from clients, in order.
+	 *
+	 * @return the received messages
+	 */
+	public List<String> getReceivedMessages() {
+		return List.copyOf(this.receivedMessages);
+	}
+
+	/**
+	 * Sends a text message to every open connection.
+	 *
+	 * @param message the message to send
+	 */
+	public void push(String message) {
+		byte[] payload = message.getBytes(StandardCharsets.UTF_8);
+		this.connections.forEach((socket, outputStream) -> {
+			try {
+				writeFrame(outputStream, 0x1, payload);
+			} catch (IOException e) {
+				this.drop(socket);
+			}
+		});
+	}
+
+	/**
+	 * Drops every open connection without a close handshake, as when the panel reboots.
+	 */
+	public void disconnectAll() {
+		this.connections.keySet().forEach(this::drop);
+	}
+
+	@Override
+	public void close() {
+		this.disconnectAll();
+		try {
+			this.serverSocket.close();
+		} catch (IOException e) {
+			//	Nothing left to release
+		}
+		this.executor.shutdownNow();
+	}
+
+	private void acceptConnections() {
+		while (!this.serverSocket.isClosed()) {
+			try {
+				Socket socket = this.serverSocket.accept();
+				this.executor.execute(() -> this.serve(socket));
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		try (socket) {
+			socket.setTcpNoDelay(true);
+			BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+			String requestLine = reader.readLine();
+			String key = null;
+			String cookie = null;
+			for (String line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
+				int separator = line.indexOf(':');
+				String name = line.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+				String value = line.substring(separator + 1).trim();
+				if ("sec-websocket-key".equals(name)) {
+					key = value;
+				} else if ("cookie".equals(name)) {
+					cookie = value;
+				}
+			}
+			OutputStream outputStream = socket.getOutputStream();
+			if (requestLine == null || !requestLine.startsWith("GET " + EndpointConstant.WEBSOCKET + " ") || key == null || cookie == null) {
+				outputStream.write("HTTP/1.1 401 Unauthorized\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+				outputStream.flush();
+				return;
+			}
+			//	Registered before the upgrade response, so a client seeing the connection open can always be dropped
+			this.connections.put(socket, outputStream);
+			this.connectionCount.incrementAndGet();
+			outputStream.write(("HTTP/1.1 101 Switching Protocols\r\nUpgrade: websocket\r\nConnection: Upgrade\r\nSec-WebSocket-Accept: "
+					+ computeAccept(key) + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+			outputStream.flush();
+			//	Clients only send frames after the upgrade response, so the reader has not buffered any of them
+			this.readFrames(socket, new DataInputStream(socket.getInputStream()), outputStream);
+		} catch (IOException e) {
+			//	Connection dropped
+		} finally {
+			this.connections.remove(socket);
+		}
+	}
+
+	private void readFrames(Socket socket, DataInputStream inputStream, OutputStream outputStream) throws IOException {
+		while (!socket.isClosed()) {
+			int opcode = inputStream.readUnsignedByte() & 0x0F;
+			int lengthByte = inputStream.readUnsignedByte();
+			long length = lengthByte & 0x7F;
+			if (length == 126) {
+				length = inputStream.readUnsignedShort();
+			} else if (length == 127) {
+				length = inputStream.readLong();
+			}
+			byte[] mask = new byte[4];
+			if ((lengthByte & 0x80) != 0) {
+				inputStream.readFully(mask);
+			}
+			byte[] payload = new byte[(int) length];
+			inputStream.readFully(payload);
+			for (int i = 0; i < payload.length; i++) {
+				payload[i] ^= mask[i % 4];
+			}
+			switch (opcode) {
+				case 0x1 -> this.receivedMessages.add(new String(payload, StandardCharsets.UTF_8));
+				case 0x8 -> {
+					writeFrame(outputStream, 0x8, payload);
+					return;
+				}
+				case 0x9 -> writeFrame(outputStream, 0xA, payload);
+				default -> {
+					//	Continuation, binary and pong frames are ignored
+				}
+			}
+		}
+	}
+
+	private void drop(Socket socket) {
+		this.connections.remove(socket);
+		try {
+			socket.close();
+		} catch (IOException e) {
+			//	Already closed
+		}
+	}
+
+	private static void writeFrame(OutputStream outputStream, int opcode, byte[] payload) throws IOException {
+		synchronized (outputStream) {
+			outputStream.write(0x80 | opcode);
+			if (payload.length < 126) {
+				outputStream.write(payload.length);
+			} else {
+				outputStream.write(126);
+				outputStream.write(payload.length >>> 8);
+				outputStream.write(payload.length & 0xFF);
+			}
+			outputStream.write(payload);
+			outputStream.flush();
+		}
+	}
+
+	private static String computeAccept(String key) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest((key + ACCEPT_GUID).getBytes(StandardCharsets.ISO_8859_1));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}